@@ -0,0 +1,97 @@
+package trackup.benchmark;
+
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.sun.management.ThreadMXBean;
+
+import trackup.logic.commands.Command;
+import trackup.logic.parser.AddressBookParser;
+import trackup.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures {@link AddressBookParser#parseCommand(String)} over a pool of {@code size} distinct command lines.
+ * {@code parseCommandAllocation} also reports the bytes allocated per parsed command as the {@code bytesPerCommand}
+ * counter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    private static final int ALLOCATION_BATCH = 1000;
+    private static final ThreadMXBean THREAD_MX_BEAN = (ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private final AddressBookParser parser = new AddressBookParser();
+    private List<String> commandLines;
+    private int next;
+
+    /**
+     * The bytes allocated by the benchmark thread for each command parsed in an iteration.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Allocation {
+        public long bytesPerCommand;
+        private long allocatedBytes;
+        private long commands;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            bytesPerCommand = 0;
+            allocatedBytes = 0;
+            commands = 0;
+        }
+
+        void record(long bytes, int commandCount) {
+            allocatedBytes += bytes;
+            commands += commandCount;
+            bytesPerCommand = allocatedBytes / commands;
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        commandLines = BenchmarkData.generateCommandLines(size);
+    }
+
+    @Benchmark
+    public Command parseCommand() throws ParseException {
+        Command command = parser.parseCommand(commandLines.get(next));
+        next = (next + 1) % commandLines.size();
+        return command;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ALLOCATION_BATCH)
+    public void parseCommandAllocation(Allocation allocation, Blackhole blackhole) throws ParseException {
+        long allocatedBefore = THREAD_MX_BEAN.getCurrentThreadAllocatedBytes();
+        for (int i = 0; i < ALLOCATION_BATCH; i++) {
+            blackhole.consume(parseCommand());
+        }
+        allocation.record(THREAD_MX_BEAN.getCurrentThreadAllocatedBytes() - allocatedBefore, ALLOCATION_BATCH);
+    }
+}
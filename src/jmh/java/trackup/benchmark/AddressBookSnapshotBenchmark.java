@@ -0,0 +1,72 @@
+package trackup.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import trackup.model.AddressBook;
+import trackup.model.PersistentAddressBook;
+import trackup.model.person.Person;
+import trackup.model.person.Phone;
+
+/**
+ * Measures taking a snapshot of an address book with {@code size} persons and as many events, compared with copying
+ * its person list, and the cost of editing a person while snapshots are kept up to date.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class AddressBookSnapshotBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private AddressBook addressBook;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        addressBook = BenchmarkData.generateAddressBook(size, size);
+    }
+
+    @Benchmark
+    public PersistentAddressBook snapshot() {
+        return addressBook.getSnapshot();
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public ObservableList<Person> copyPersonList() {
+        return FXCollections.observableArrayList(addressBook.getPersonList());
+    }
+
+    /**
+     * Edits the phone of a person, then takes a snapshot.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public PersistentAddressBook editPersonAndSnapshot() {
+        int position = (int) ((long) (next++ & 1023) * size / 1024);
+        Person target = addressBook.getPersonList().get(position);
+        Person editedPerson = new Person(target.getName(), new Phone(String.valueOf(80_000_000 + next)),
+                target.getEmail(), target.getAddress(), target.getTags(), target.getCategory());
+        editedPerson.setNotes(target.getNotes());
+        addressBook.setPerson(target, editedPerson);
+        return addressBook.getSnapshot();
+    }
+}
@@ -0,0 +1,60 @@
+package trackup.benchmark;
+
+import static trackup.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static trackup.logic.parser.CliSyntax.PREFIX_CATEGORY;
+import static trackup.logic.parser.CliSyntax.PREFIX_EMAIL;
+import static trackup.logic.parser.CliSyntax.PREFIX_NAME;
+import static trackup.logic.parser.CliSyntax.PREFIX_PHONE;
+import static trackup.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import trackup.logic.parser.ArgumentMultimap;
+import trackup.logic.parser.ArgumentTokenizer;
+
+/**
+ * Measures {@link ArgumentTokenizer#tokenize(String, trackup.logic.parser.Prefix...)} with the prefixes of the add
+ * command, over the arguments of a pool of {@code size} distinct command lines.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ArgumentTokenizerBenchmark {
+
+    @Param({"1000", "100000"})
+    public int size;
+
+    private List<String> argsStrings;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        argsStrings = BenchmarkData.generateCommandLines(size).stream()
+                .map(commandLine -> commandLine.substring(commandLine.indexOf(' ')) + " ")
+                .toList();
+    }
+
+    @Benchmark
+    public ArgumentMultimap tokenize() {
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsStrings.get(next), PREFIX_NAME, PREFIX_PHONE,
+                PREFIX_EMAIL, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_CATEGORY);
+        next = (next + 1) % argsStrings.size();
+        return argMultimap;
+    }
+}
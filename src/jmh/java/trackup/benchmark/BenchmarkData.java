@@ -0,0 +1,95 @@
+package trackup.benchmark;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import trackup.model.AddressBook;
+import trackup.model.event.Event;
+import trackup.model.person.Person;
+import trackup.model.util.SyntheticDataGenerator;
+
+/**
+ * Generates the same synthetic persons, events and commands for every run of the benchmarks.
+ */
+public final class BenchmarkData {
+
+    public static final long SEED = SyntheticDataGenerator.DEFAULT_SEED;
+    public static final LocalDate FIRST_WEEK = SyntheticDataGenerator.DEFAULT_FIRST_DAY;
+    public static final int WEEKS = SyntheticDataGenerator.DEFAULT_WEEKS;
+
+    private static final SyntheticDataGenerator GENERATOR = new SyntheticDataGenerator(SEED);
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Amy",
+        "Benson", "Carl", "Daniel", "Elle", "Fiona", "George", "Hoon", "Ida", "Kavya", "Li", "Mei", "Nur", "Omar"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Bee",
+        "Meier", "Kurz", "Kunz", "Best", "Tan", "Lim", "Wong", "Ng", "Goh", "Chua", "Koh", "Teo", "Ong"};
+    private static final String[] STREETS = {"Jurong West Ave", "Clementi St", "Serangoon Gardens Street",
+        "Tampines Ave", "Little India", "Ang Mo Kio Ave", "Bedok North Road", "Woodlands Drive"};
+    private static final String[] TAGS = {"friends", "colleagues", "family", "neighbours", "vip", "lead"};
+    private static final String[] CATEGORIES = {"Client", "Investor", "Partner", "Other"};
+
+    private BenchmarkData() {}
+
+    /**
+     * Returns {@code count} persons with distinct identities.
+     */
+    public static List<Person> generatePersons(int count) {
+        return GENERATOR.generatePersons(count);
+    }
+
+    /**
+     * Returns {@code count} events with distinct identities, spread over {@value #WEEKS} weeks from
+     * {@link #FIRST_WEEK} and linked to some of {@code persons}.
+     */
+    public static List<Event> generateEvents(int count, List<Person> persons) {
+        return GENERATOR.generateEvents(count, persons);
+    }
+
+    /**
+     * Returns an address book with {@code personCount} persons and {@code eventCount} events.
+     */
+    public static AddressBook generateAddressBook(int personCount, int eventCount) {
+        return GENERATOR.generateAddressBook(personCount, eventCount);
+    }
+
+    /**
+     * Returns {@code count} command lines of the kinds users enter most often.
+     */
+    public static List<String> generateCommandLines(int count) {
+        Random random = new Random(SEED + 2);
+        List<String> commandLines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String name = pick(random, FIRST_NAMES) + " " + pick(random, LAST_NAMES);
+            switch (i % 6) {
+            case 0:
+                commandLines.add("add -n " + name + " -p " + (80_000_000 + i) + " -e user" + i
+                        + "@example.com -a Blk " + (i % 900 + 100) + ", " + pick(random, STREETS) + " -t "
+                        + pick(random, TAGS) + " -c " + pick(random, CATEGORIES));
+                break;
+            case 1:
+                commandLines.add("edit " + (random.nextInt(1000) + 1) + " -p " + (90_000_000 + i));
+                break;
+            case 2:
+                commandLines.add("search " + pick(random, LAST_NAMES).toLowerCase());
+                break;
+            case 3:
+                commandLines.add("find " + pick(random, FIRST_NAMES) + " " + pick(random, FIRST_NAMES));
+                break;
+            case 4:
+                commandLines.add("sort -n true -p false");
+                break;
+            default:
+                commandLines.add("addevent -t Meeting " + i + " -s 2025-04-01 14:00 -e 2025-04-01 15:00 -c "
+                        + (random.nextInt(1000) + 1));
+                break;
+            }
+        }
+        return commandLines;
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,116 @@
+package trackup.benchmark;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import trackup.model.AddressBook;
+import trackup.model.event.Event;
+import trackup.model.note.Note;
+import trackup.model.person.Person;
+import trackup.model.person.Phone;
+
+/**
+ * Measures hashing and comparing events by their contact sets, and updating the contacts of events when a person
+ * changes, in an address book of {@code size} persons and as many events.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class EventContactsBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    public int size;
+
+    private AddressBook addressBook;
+    private List<Event> events;
+    private List<Event> eventCopies;
+    private Set<Event> eventSet;
+    private List<Person> contacts;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        addressBook = BenchmarkData.generateAddressBook(size, size);
+        events = new ArrayList<>(addressBook.getEventList());
+        eventSet = new HashSet<>(events);
+
+        // Equal but separate events, with separate contact sets, as read back from a data file
+        eventCopies = new ArrayList<>();
+        contacts = new ArrayList<>();
+        for (int i = 0; i < 1024; i++) {
+            Event event = events.get((int) ((long) i * events.size() / 1024));
+            eventCopies.add(new Event(event.getTitle(), event.getStartDateTime(), event.getEndDateTime(),
+                    new HashSet<>(event.getContacts())));
+            contacts.add(event.getContacts().isEmpty()
+                    ? addressBook.getPersonList().get(i % size)
+                    : event.getContacts().iterator().next());
+        }
+    }
+
+    /**
+     * Puts all {@code size} events in a hash set, which hashes each of them with its contacts.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public Set<Event> hashAllEvents() {
+        return new HashSet<>(events);
+    }
+
+    @Benchmark
+    public boolean containsEqualEvent() {
+        return eventSet.contains(eventCopies.get(next++ & 1023));
+    }
+
+    @Benchmark
+    public boolean containsContact() {
+        int i = next++ & 1023;
+        return eventCopies.get(i).getContacts().contains(contacts.get(i));
+    }
+
+    /**
+     * Adds a note to a contact, then looks the contact up in the contacts of its event.
+     */
+    @Benchmark
+    public boolean containsContactAfterNoteChange() {
+        int i = next++ & 1023;
+        Person contact = contacts.get(i);
+        if (!contact.addNote(new Note("Called"))) {
+            contact.setNotes(List.of());
+        }
+        return eventCopies.get(i).getContacts().contains(contact);
+    }
+
+    /**
+     * Edits the phone of a person, which replaces the person in the contacts of every event linked to it.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public AddressBook replaceContactInEvents() {
+        int position = (int) ((long) (next++ & 1023) * size / 1024);
+        Person target = addressBook.getPersonList().get(position);
+        Person editedPerson = new Person(target.getName(), new Phone(String.valueOf(70_000_000 + next)),
+                target.getEmail(), target.getAddress(), target.getTags(), target.getCategory());
+        editedPerson.setNotes(target.getNotes());
+        addressBook.setPerson(target, editedPerson);
+        addressBook.replaceContactInEvents(target, editedPerson);
+        return addressBook;
+    }
+}
@@ -0,0 +1,63 @@
+package trackup.benchmark;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import trackup.model.event.Event;
+import trackup.model.event.EventWeekIndex;
+
+/**
+ * Measures the work behind the weekly calendar view with {@code size} events: finding the events of a week when
+ * moving between weeks, and updating the index when an event is edited.
+ * Creating the JavaFX nodes is not measured, as it needs a running toolkit.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class EventWeekIndexBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private List<Event> events;
+    private EventWeekIndex index;
+    private int nextWeek;
+    private int nextEvent;
+
+    @Setup
+    public void setUp() {
+        events = BenchmarkData.generateEvents(size, BenchmarkData.generatePersons(100));
+        index = new EventWeekIndex();
+        index.setEvents(events);
+    }
+
+    @Benchmark
+    public int eventsOfWeek() {
+        LocalDate weekStart = BenchmarkData.FIRST_WEEK.plusWeeks(nextWeek++ % BenchmarkData.WEEKS);
+        return index.getEvents(weekStart).size();
+    }
+
+    @Benchmark
+    public EventWeekIndex replaceEvent() {
+        Event event = events.get(nextEvent++ % size);
+        index.remove(event);
+        index.add(event);
+        return index;
+    }
+}
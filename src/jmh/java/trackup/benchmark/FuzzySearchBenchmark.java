@@ -0,0 +1,52 @@
+package trackup.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import trackup.model.AddressBook;
+import trackup.model.person.FuzzySearchResult;
+
+/**
+ * Measures {@link AddressBook#searchPersonsFuzzy(String)} in an address book of {@code size} persons, over keywords
+ * with typos in names, addresses and tags.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx8g"})
+public class FuzzySearchBenchmark {
+
+    private static final String[] KEYWORDS = {"Charlote", "Balakrishan", "Ibrahm", "Olivero", "Kavay", "Jurong",
+        "Serangon", "Tampnes", "colleages", "neighbors", "Bernise Yoeh", "Omar Wnog"};
+
+    @Param({"10000", "100000", "500000"})
+    public int size;
+
+    private AddressBook addressBook;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        addressBook = BenchmarkData.generateAddressBook(size, 0);
+    }
+
+    @Benchmark
+    public FuzzySearchResult searchPersonsFuzzy() {
+        FuzzySearchResult matches = addressBook.searchPersonsFuzzy(KEYWORDS[next]);
+        next = (next + 1) % KEYWORDS.length;
+        return matches;
+    }
+}
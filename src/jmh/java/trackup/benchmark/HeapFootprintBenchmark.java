@@ -0,0 +1,84 @@
+package trackup.benchmark;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import trackup.commons.exceptions.DataLoadingException;
+import trackup.model.AddressBook;
+import trackup.model.ReadOnlyAddressBook;
+import trackup.storage.JsonAddressBookStorage;
+
+/**
+ * Measures the heap kept by an address book of {@code size} persons read from a JSON data file, reported as the
+ * {@code bytesPerPerson} counter. Run it with the same parameters before and after a change to the model to
+ * compare footprints.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgs = {"-Xmx8g", "-XX:+UseSerialGC"})
+public class HeapFootprintBenchmark {
+
+    @Param({"10000", "100000", "1000000"})
+    public int size;
+
+    private Path folder;
+    private JsonAddressBookStorage storage;
+
+    /**
+     * The heap kept by the address book read in an iteration, divided by the number of persons in it.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+        public long bytesPerPerson;
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        folder = Files.createTempDirectory("trackup-benchmark");
+        storage = new JsonAddressBookStorage(folder.resolve("addressbook.json"));
+        AddressBook addressBook = BenchmarkData.generateAddressBook(size, 0);
+        storage.saveAddressBook(addressBook);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(storage.getAddressBookFilePath());
+        Files.deleteIfExists(folder);
+    }
+
+    @Benchmark
+    public ReadOnlyAddressBook read(Footprint footprint) throws DataLoadingException {
+        long heapBefore = getUsedHeapAfterGc();
+        ReadOnlyAddressBook addressBook = storage.readAddressBook().orElseThrow();
+        footprint.bytesPerPerson = (getUsedHeapAfterGc() - heapBefore) / size;
+        return addressBook;
+    }
+
+    private static long getUsedHeapAfterGc() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+}
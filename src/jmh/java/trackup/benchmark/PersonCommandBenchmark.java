@@ -0,0 +1,69 @@
+package trackup.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import trackup.logic.commands.CommandResult;
+import trackup.logic.commands.FindCommand;
+import trackup.logic.commands.SearchCommand;
+import trackup.logic.commands.SortCommand;
+import trackup.model.Model;
+import trackup.model.ModelManager;
+import trackup.model.UserPrefs;
+import trackup.model.person.Comparators;
+import trackup.model.person.NameContainsKeywordsPredicate;
+
+/**
+ * Measures the execution of the search, find and sort commands over an address book of {@code size} persons.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class PersonCommandBenchmark {
+
+    private static final String[] SEARCH_KEYWORDS = {"yeoh", "li", "jurong", "vip", "client", "example.com"};
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private Model model;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        model = new ModelManager(BenchmarkData.generateAddressBook(size, 0), new UserPrefs());
+    }
+
+    @Benchmark
+    public CommandResult search() {
+        String keyword = SEARCH_KEYWORDS[next++ % SEARCH_KEYWORDS.length];
+        return new SearchCommand(keyword).execute(model);
+    }
+
+    @Benchmark
+    public CommandResult find() {
+        return new FindCommand(new NameContainsKeywordsPredicate(List.of("Alex", "Tan"))).execute(model);
+    }
+
+    @Benchmark
+    public CommandResult sort() {
+        // Alternate the order, as setting the same comparator again does not sort the list
+        boolean byName = next++ % 2 == 0;
+        return new SortCommand(byName ? Comparators.NAME_COMPARATOR : Comparators.PHONE_COMPARATOR).execute(model);
+    }
+}
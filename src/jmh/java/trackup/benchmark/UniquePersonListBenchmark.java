@@ -0,0 +1,177 @@
+package trackup.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import trackup.model.person.Address;
+import trackup.model.person.Email;
+import trackup.model.person.Person;
+import trackup.model.person.Phone;
+import trackup.model.person.UniquePersonList;
+import trackup.model.person.exceptions.DuplicatePersonException;
+
+/**
+ * Measures adding persons to a {@link UniquePersonList}, replacing its contents and looking them up in one holding
+ * {@code size} persons, next to the same operations on a {@link LinearScanPersonList}, which checks identities the
+ * way {@code UniquePersonList} did before it was indexed.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = {"-Xmx4g"})
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int size;
+
+    private List<Person> persons;
+    private List<Person> probes;
+    private UniquePersonList list;
+    private LinearScanPersonList linearScanList;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        persons = BenchmarkData.generatePersons(size);
+        list = new UniquePersonList();
+        list.setPersons(persons);
+        linearScanList = new LinearScanPersonList();
+        linearScanList.setPersons(persons);
+
+        // Half of the probes are copies of persons in the list, the other half have an identity not in the list
+        probes = new ArrayList<>();
+        for (int i = 0; i < 1024; i++) {
+            Person person = persons.get((int) ((long) i * size / 1024));
+            Email email = i % 2 == 0 ? person.getEmail() : new Email("absent" + i + "@example.com");
+            probes.add(new Person(person.getName(), new Phone(person.getPhone().value), email,
+                    new Address(person.getAddress().value), person.getTags(), person.getCategory()));
+        }
+    }
+
+    /**
+     * Adds all {@code size} persons, one at a time, to an empty list.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public UniquePersonList addAll() {
+        UniquePersonList emptyList = new UniquePersonList();
+        for (Person person : persons) {
+            emptyList.add(person);
+        }
+        return emptyList;
+    }
+
+    /**
+     * Same as {@link #addAll()}, on the linear scan list. Quadratic in {@code size}, so it is run only once, which
+     * takes about a second at 10000 persons and hours at 1000000.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public LinearScanPersonList addAllLinearScan() {
+        LinearScanPersonList emptyList = new LinearScanPersonList();
+        for (Person person : persons) {
+            emptyList.add(person);
+        }
+        return emptyList;
+    }
+
+    /**
+     * Replaces the contents of the list with all {@code size} persons, as loading the address book does.
+     */
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public UniquePersonList setPersons() {
+        list.setPersons(persons);
+        return list;
+    }
+
+    /**
+     * Same as {@link #setPersons()}, on the linear scan list. Quadratic in {@code size}, so it is run only once.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 0)
+    @Measurement(iterations = 1)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public LinearScanPersonList setPersonsLinearScan() {
+        linearScanList.setPersons(persons);
+        return linearScanList;
+    }
+
+    @Benchmark
+    public boolean contains() {
+        return list.contains(probes.get(next++ & 1023));
+    }
+
+    @Benchmark
+    public boolean containsLinearScan() {
+        return linearScanList.contains(probes.get(next++ & 1023));
+    }
+
+    /**
+     * The identity checks of {@code UniquePersonList} before it kept an identity index: {@code contains} scans the
+     * list and {@code setPersons} compares every pair of persons.
+     */
+    public static class LinearScanPersonList {
+
+        private final ObservableList<Person> internalList = FXCollections.observableArrayList();
+
+        /**
+         * Returns true if the list contains an equivalent person as the given argument.
+         */
+        public boolean contains(Person toCheck) {
+            return internalList.stream().anyMatch(toCheck::isSamePerson);
+        }
+
+        /**
+         * Adds a person to the list, which must not already contain an equivalent person.
+         */
+        public void add(Person toAdd) {
+            if (contains(toAdd)) {
+                throw new DuplicatePersonException();
+            }
+            internalList.add(toAdd);
+        }
+
+        /**
+         * Replaces the contents of this list with {@code persons}, which must not contain duplicate persons.
+         */
+        public void setPersons(List<Person> persons) {
+            if (!personsAreUnique(persons)) {
+                throw new DuplicatePersonException();
+            }
+            internalList.setAll(persons);
+        }
+
+        private static boolean personsAreUnique(List<Person> persons) {
+            for (int i = 0; i < persons.size() - 1; i++) {
+                for (int j = i + 1; j < persons.size(); j++) {
+                    if (persons.get(i).isSamePerson(persons.get(j))) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+}
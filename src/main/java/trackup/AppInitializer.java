@@ -0,0 +1,167 @@
+package trackup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import trackup.commons.core.Config;
+import trackup.commons.core.LogsCenter;
+import trackup.commons.exceptions.DataLoadingException;
+import trackup.commons.util.ConfigUtil;
+import trackup.commons.util.StringUtil;
+import trackup.model.AddressBook;
+import trackup.model.ReadOnlyAddressBook;
+import trackup.model.UserPrefs;
+import trackup.model.util.SampleDataUtil;
+import trackup.storage.AddressBookFormatConverter;
+import trackup.storage.AddressBookStorage;
+import trackup.storage.JournaledAddressBookStorage;
+import trackup.storage.Storage;
+import trackup.storage.StorageManager;
+import trackup.storage.UserPrefsStorage;
+
+/**
+ * Sets up the parts of the application that do not depend on the GUI, for both {@link MainApp} and
+ * {@link HeadlessApp}.
+ */
+public class AppInitializer {
+
+    private static final Logger logger = LogsCenter.getLogger(AppInitializer.class);
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    public static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    public static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+
+    /**
+     * Returns a {@code Storage} that saves the address book to the file in {@code userPrefs}, in the format in
+     * {@code userPrefs}, in the background, and the user prefs to {@code userPrefsStorage}.
+     */
+    public static Storage initStorage(UserPrefsStorage userPrefsStorage, UserPrefs userPrefs) {
+        logger.info("Using data format : " + userPrefs.getAddressBookFormat());
+        AddressBookStorage addressBookStorage = new JournaledAddressBookStorage(AddressBookFormatConverter
+                .createStorage(userPrefs.getAddressBookFormat(), userPrefs.getAddressBookFilePath()));
+        return new StorageManager(addressBookStorage, userPrefsStorage, true);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
+     */
+    public static ReadOnlyAddressBook initAddressBook(Storage storage) {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an empty AddressBook.");
+            initialData = new AddressBook();
+        }
+
+        return initialData;
+    }
+
+    /**
+     * Starts a daemon thread that reads the data from {@code storage}'s address book as
+     * {@link #initAddressBook(Storage)} does and passes it to {@code onLoaded}. <br>
+     * Any other error while reading, such as running out of memory on a very large address book, is passed to
+     * {@code onFailed} instead, so that it is not lost with the thread.
+     *
+     * @return the started thread.
+     */
+    public static Thread startLoadingAddressBook(Storage storage, Consumer<ReadOnlyAddressBook> onLoaded,
+            Consumer<Throwable> onFailed) {
+        Thread loader = new Thread(() -> {
+            ReadOnlyAddressBook addressBook;
+            try {
+                addressBook = initAddressBook(storage);
+            } catch (Throwable e) {
+                logger.severe("Data file at " + storage.getAddressBookFilePath() + " could not be loaded: "
+                        + StringUtil.getDetails(e));
+                onFailed.accept(e);
+                return;
+            }
+            onLoaded.accept(addressBook);
+        }, "address-book-loader");
+        loader.setDaemon(true);
+        loader.start();
+        return loader;
+    }
+}
@@ -0,0 +1,50 @@
+package trackup;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import trackup.model.AddressBook;
+import trackup.model.util.SyntheticDataGenerator;
+import trackup.storage.JsonAddressBookStorage;
+
+/**
+ * Writes a data file of made-up persons and events, for profiling and load testing.
+ *
+ * Usage: {@code GenerateData PERSONS EVENTS FILE [SEED]}
+ */
+public class GenerateData {
+
+    public static final String MESSAGE_USAGE = "Usage: GenerateData PERSONS EVENTS FILE [SEED]";
+
+    public static void main(String[] args) {
+        if (args.length < 3 || args.length > 4) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        try {
+            int personCount = Integer.parseInt(args[0]);
+            int eventCount = Integer.parseInt(args[1]);
+            Path filePath = Paths.get(args[2]);
+            long seed = args.length == 4 ? Long.parseLong(args[3]) : SyntheticDataGenerator.DEFAULT_SEED;
+            generate(personCount, eventCount, filePath, seed);
+            System.out.println("Wrote " + personCount + " persons and " + eventCount + " events to " + filePath);
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage() + "\n" + MESSAGE_USAGE);
+            System.exit(1);
+        } catch (IOException e) {
+            System.err.println("Could not write data file: " + e.getMessage());
+            System.exit(1);
+        }
+    }
+
+    /**
+     * Writes an address book of {@code personCount} persons and {@code eventCount} events, generated from
+     * {@code seed}, to {@code filePath}.
+     */
+    public static void generate(int personCount, int eventCount, Path filePath, long seed) throws IOException {
+        AddressBook addressBook = new SyntheticDataGenerator(seed).generateAddressBook(personCount, eventCount);
+        new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+    }
+}
@@ -0,0 +1,129 @@
+package trackup;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.logging.Logger;
+
+import trackup.commons.core.Config;
+import trackup.commons.core.LogsCenter;
+import trackup.commons.util.FileUtil;
+import trackup.commons.util.StringUtil;
+import trackup.logic.Logic;
+import trackup.logic.LogicManager;
+import trackup.logic.commands.CommandResult;
+import trackup.logic.commands.exceptions.CommandException;
+import trackup.logic.parser.exceptions.ParseException;
+import trackup.model.HeadlessModelManager;
+import trackup.model.Model;
+import trackup.model.UserPrefs;
+import trackup.storage.JsonUserPrefsStorage;
+import trackup.storage.Storage;
+import trackup.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without the GUI, reading one command per line from standard input and printing the result
+ * of each to standard output. Useful for scripting, profiling and load testing, as the JavaFX toolkit is never
+ * started.
+ *
+ * Usage: {@code HeadlessApp [--config=FILE]}
+ */
+public class HeadlessApp {
+
+    public static final String MESSAGE_USAGE = "Usage: HeadlessApp [--config=FILE]";
+
+    private static final String CONFIG_ARGUMENT_PREFIX = "--config=";
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final Model model;
+    private final Storage storage;
+    private final Logic logic;
+
+    /**
+     * Creates a {@code HeadlessApp} that runs commands on {@code model} and saves to {@code storage}.
+     */
+    public HeadlessApp(Model model, Storage storage) {
+        requireNonNull(model);
+        requireNonNull(storage);
+        this.model = model;
+        this.storage = storage;
+        this.logic = new LogicManager(model, storage);
+    }
+
+    public static void main(String[] args) {
+        if (args.length > 1 || (args.length == 1 && !isValidConfigArgument(args[0]))) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+        Path configPath = args.length == 1 ? Paths.get(args[0].substring(CONFIG_ARGUMENT_PREFIX.length())) : null;
+
+        Config config = AppInitializer.initConfig(configPath);
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        Storage storage = AppInitializer.initStorage(userPrefsStorage, userPrefs);
+        Model model = new HeadlessModelManager(AppInitializer.initAddressBook(storage), userPrefs);
+
+        HeadlessApp app = new HeadlessApp(model, storage);
+        try {
+            app.run(new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)), System.out);
+        } catch (IOException e) {
+            logger.severe("Failed to read commands " + StringUtil.getDetails(e));
+        } finally {
+            app.stop();
+        }
+    }
+
+    private static boolean isValidConfigArgument(String argument) {
+        return argument.startsWith(CONFIG_ARGUMENT_PREFIX)
+                && FileUtil.isValidPath(argument.substring(CONFIG_ARGUMENT_PREFIX.length()));
+    }
+
+    /**
+     * Executes each line of {@code in} as a command and prints its result to {@code out}, until a command asks
+     * the application to exit or there are no more lines. Blank lines are skipped.
+     */
+    public void run(BufferedReader in, PrintStream out) throws IOException {
+        requireNonNull(in);
+        requireNonNull(out);
+        logger.info("Starting AddressBook " + MainApp.VERSION + " without the GUI");
+
+        String line;
+        while ((line = in.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            try {
+                CommandResult commandResult = logic.execute(line);
+                out.println(commandResult.getFeedbackToUser());
+                if (commandResult.isExit()) {
+                    return;
+                }
+            } catch (CommandException | ParseException e) {
+                out.println(e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Writes any address book data not yet saved, and saves the user prefs.
+     */
+    public void stop() {
+        logger.info("============================ [ Stopping AddressBook ] =============================");
+        storage.flushAddressBook();
+        try {
+            storage.saveUserPrefs(model.getUserPrefs());
+        } catch (IOException e) {
+            logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
+        }
+    }
+}
@@ -1,32 +1,25 @@
 package trackup;
 
 import java.io.IOException;
-import java.nio.file.Path;
-import java.util.Optional;
+import java.lang.management.ManagementFactory;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
 import trackup.commons.core.Config;
 import trackup.commons.core.LogsCenter;
 import trackup.commons.core.Version;
-import trackup.commons.exceptions.DataLoadingException;
-import trackup.commons.util.ConfigUtil;
 import trackup.commons.util.StringUtil;
 import trackup.logic.Logic;
 import trackup.logic.LogicManager;
 import trackup.model.AddressBook;
 import trackup.model.Model;
 import trackup.model.ModelManager;
-import trackup.model.ReadOnlyAddressBook;
-import trackup.model.ReadOnlyUserPrefs;
 import trackup.model.UserPrefs;
-import trackup.model.util.SampleDataUtil;
-import trackup.storage.AddressBookStorage;
-import trackup.storage.JsonAddressBookStorage;
 import trackup.storage.JsonUserPrefsStorage;
 import trackup.storage.Storage;
-import trackup.storage.StorageManager;
 import trackup.storage.UserPrefsStorage;
 import trackup.ui.Ui;
 import trackup.ui.UiManager;
@@ -52,131 +45,57 @@ public class MainApp extends Application {
         super.init();
 
         AppParameters appParameters = AppParameters.parse(getParameters());
-        config = initConfig(appParameters.getConfigPath());
+        config = AppInitializer.initConfig(appParameters.getConfigPath());
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
-        UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
-        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        UserPrefs userPrefs = AppInitializer.initPrefs(userPrefsStorage);
+        storage = AppInitializer.initStorage(userPrefsStorage, userPrefs);
 
-        model = initModelManager(storage, userPrefs);
+        // The GUI needs the live JavaFX views of ModelManager, which the headless model does without.
+        // The address book is loaded in the background once the window is showing; see #loadAddressBook.
+        model = new ModelManager(new AddressBook(), userPrefs);
 
         logic = new LogicManager(model, storage);
+        logic.startLoading();
 
         ui = new UiManager(logic);
     }
 
-    /**
-     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
-     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
-     * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
-     */
-    private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
-        logger.info("Using data file : " + storage.getAddressBookFilePath());
-
-        Optional<ReadOnlyAddressBook> addressBookOptional;
-        ReadOnlyAddressBook initialData;
-        try {
-            addressBookOptional = storage.readAddressBook();
-            if (!addressBookOptional.isPresent()) {
-                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
-                        + " populated with a sample AddressBook.");
-            }
-            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
-        } catch (DataLoadingException e) {
-            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
-                    + " Will be starting with an empty AddressBook.");
-            initialData = new AddressBook();
-        }
-
-        return new ModelManager(initialData, userPrefs);
-    }
-
     private void initLogging(Config config) {
         LogsCenter.init(config);
     }
 
-    /**
-     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
-     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
-     * if {@code configFilePath} is null.
-     */
-    protected Config initConfig(Path configFilePath) {
-        Config initializedConfig;
-        Path configFilePathUsed;
-
-        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
-
-        if (configFilePath != null) {
-            logger.info("Custom Config file specified " + configFilePath);
-            configFilePathUsed = configFilePath;
-        }
-
-        logger.info("Using config file : " + configFilePathUsed);
-
-        try {
-            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
-            if (!configOptional.isPresent()) {
-                logger.info("Creating new config file " + configFilePathUsed);
-            }
-            initializedConfig = configOptional.orElse(new Config());
-        } catch (DataLoadingException e) {
-            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
-                    + " Using default config properties.");
-            initializedConfig = new Config();
-        }
-
-        //Update config file in case it was missing to begin with or there are new/unused fields
-        try {
-            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-        return initializedConfig;
+    @Override
+    public void start(Stage primaryStage) {
+        logger.info("Starting AddressBook " + MainApp.VERSION);
+        ui.start(primaryStage);
+        logger.info("Startup: first frame shown " + getUptimeMillis() + " ms after launch");
+        loadAddressBook();
     }
 
     /**
-     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
-     * or a new {@code UserPrefs} with default configuration if errors occur when
-     * reading from the file.
+     * Reads the address book from storage on a background thread, then hands it to the logic on the JavaFX
+     * application thread, which runs the commands entered while it was loading.
+     * If it cannot be read at all, the error is shown instead.
      */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
-        Path prefsFilePath = storage.getUserPrefsFilePath();
-        logger.info("Using preference file : " + prefsFilePath);
-
-        UserPrefs initializedPrefs;
-        try {
-            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
-            if (!prefsOptional.isPresent()) {
-                logger.info("Creating new preference file " + prefsFilePath);
-            }
-            initializedPrefs = prefsOptional.orElse(new UserPrefs());
-        } catch (DataLoadingException e) {
-            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
-                    + " Using default preferences.");
-            initializedPrefs = new UserPrefs();
-        }
-
-        //Update prefs file in case it was missing to begin with or there are new/unused fields
-        try {
-            storage.saveUserPrefs(initializedPrefs);
-        } catch (IOException e) {
-            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
-        }
-
-        return initializedPrefs;
+    private void loadAddressBook() {
+        AppInitializer.startLoadingAddressBook(storage, addressBook -> Platform.runLater(() -> {
+            List<String> queuedCommandFeedback = logic.finishLoading(addressBook);
+            ui.showDataLoaded(queuedCommandFeedback);
+            logger.info("Startup: interactive with " + addressBook.getPersonList().size() + " persons and "
+                    + addressBook.getEventList().size() + " events " + getUptimeMillis() + " ms after launch");
+        }), error -> Platform.runLater(() -> ui.showLoadingFailed(error)));
     }
 
-    @Override
-    public void start(Stage primaryStage) {
-        logger.info("Starting AddressBook " + MainApp.VERSION);
-        ui.start(primaryStage);
+    private static long getUptimeMillis() {
+        return ManagementFactory.getRuntimeMXBean().getUptime();
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        storage.flushAddressBook();
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
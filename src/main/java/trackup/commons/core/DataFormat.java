@@ -0,0 +1,11 @@
+package trackup.commons.core;
+
+/**
+ * The formats the address book data file can be stored in.
+ */
+public enum DataFormat {
+    /** Human-readable JSON, the default. */
+    JSON,
+    /** A compact binary format that is faster to read and write. */
+    BINARY
+}
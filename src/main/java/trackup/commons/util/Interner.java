@@ -0,0 +1,39 @@
+package trackup.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * A pool of canonical instances of immutable values, so that equal values held in many places can share a single
+ * instance. Values are never removed from the pool, so it should only be shared as long as the values are in use,
+ * such as while reading one data file; {@link WeakInterner} suits pools that live longer.
+ * Safe to use from multiple threads.
+ *
+ * @param <T> the type of the values, which must be immutable and define {@code equals} and {@code hashCode}.
+ */
+public class Interner<T> {
+
+    private final ConcurrentMap<T, T> pool = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}. If there is none yet, {@code value} becomes it.
+     */
+    public T intern(T value) {
+        requireNonNull(value);
+        T canonical = pool.get(value);
+        if (canonical != null) {
+            return canonical;
+        }
+        canonical = pool.putIfAbsent(value, value);
+        return canonical == null ? value : canonical;
+    }
+
+    /**
+     * Returns the number of canonical instances in the pool.
+     */
+    public int size() {
+        return pool.size();
+    }
+}
@@ -0,0 +1,492 @@
+package trackup.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list that is changed by creating new versions of it. Versions share all of their structure that a
+ * change does not touch, so that every version stays readable while a change takes O(log n) time and space, where n
+ * is the size of the list.
+ *
+ * The elements are held in a balanced binary tree ordered by position, where every node knows the size of its
+ * subtree. Being immutable, a version can be read from any thread without locking.
+ *
+ * @param <T> the type of the elements, which cannot be null.
+ */
+public final class PersistentList<T> implements Iterable<T> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<T> root;
+
+    private PersistentList(Node<T> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns the empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> PersistentList<T> empty() {
+        return (PersistentList<T>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in iteration order, in O(n) time.
+     */
+    public static <T> PersistentList<T> copyOf(Collection<? extends T> elements) {
+        requireNonNull(elements);
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        return array.length == 0 ? empty() : new PersistentList<>(build(array, 0, array.length));
+    }
+
+    public int size() {
+        return size(root);
+    }
+
+    public boolean isEmpty() {
+        return root == null;
+    }
+
+    /**
+     * Returns the element at {@code index}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in {@code [0, size())}.
+     */
+    public T get(int index) {
+        checkIndex(index, size());
+        Node<T> node = root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * Returns a version of this list with the element at {@code index} replaced by {@code element}.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in {@code [0, size())}.
+     */
+    public PersistentList<T> set(int index, T element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(set(root, index, element));
+    }
+
+    /**
+     * Returns a version of this list with {@code element} appended.
+     */
+    public PersistentList<T> add(T element) {
+        return add(size(), element);
+    }
+
+    /**
+     * Returns a version of this list with {@code element} inserted at {@code index}, shifting the elements from
+     * {@code index} onwards back by one.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in {@code [0, size()]}.
+     */
+    public PersistentList<T> add(int index, T element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(insert(root, index, element));
+    }
+
+    /**
+     * Returns a version of this list without the element at {@code index}, shifting the elements after it forward
+     * by one.
+     *
+     * @throws IndexOutOfBoundsException if {@code index} is not in {@code [0, size())}.
+     */
+    public PersistentList<T> remove(int index) {
+        checkIndex(index, size());
+        Node<T> newRoot = delete(root, index);
+        return newRoot == null ? empty() : new PersistentList<>(newRoot);
+    }
+
+    /**
+     * Reports the elements removed and added by the changes that turned this version into {@code newer}, comparing
+     * elements by reference, and returns true. Each element should occur at most once in each version.
+     *
+     * Only the parts of the trees that are not shared by the two versions are visited, so that this takes
+     * O(k log n) time for k changes made through {@link #set}, {@link #add} and {@link #remove}.
+     *
+     * @return false, without reporting anything, if the elements in both versions are not in the same order.
+     */
+    public boolean diff(PersistentList<T> newer, DiffHandler<? super T> handler) {
+        requireNonNull(newer);
+        requireNonNull(handler);
+        if (newer.root == root) {
+            return true;
+        }
+
+        List<Located<T>> olderElements = new ArrayList<>();
+        List<Located<T>> newerElements = new ArrayList<>();
+        List<int[]> sharedSubtrees = new ArrayList<>();
+        collectUnshared(root, newer.root, olderElements, newerElements, sharedSubtrees);
+
+        Map<T, Integer> newerIndices = new IdentityHashMap<>();
+        for (Located<T> element : newerElements) {
+            newerIndices.put(element.value, element.index);
+        }
+        List<Located<T>> removed = new ArrayList<>();
+        List<int[]> keptIndices = new ArrayList<>(sharedSubtrees);
+        for (Located<T> element : olderElements) {
+            Integer newerIndex = newerIndices.remove(element.value);
+            if (newerIndex == null) {
+                removed.add(element);
+            } else {
+                keptIndices.add(new int[] {element.index, newerIndex});
+            }
+        }
+        List<Located<T>> added = new ArrayList<>();
+        List<Located<T>> kept = new ArrayList<>();
+        for (Located<T> element : newerElements) {
+            (newerIndices.containsKey(element.value) ? added : kept).add(element);
+        }
+
+        removed.sort(Comparator.comparingInt(element -> element.index));
+        added.sort(Comparator.comparingInt(element -> element.index));
+        int[] removedIndices = removed.stream().mapToInt(element -> element.index).toArray();
+        int[] addedIndices = added.stream().mapToInt(element -> element.index).toArray();
+        // An element keeps its order if as many other kept elements come before it in both versions
+        for (int[] indices : keptIndices) {
+            if (indices[0] - countBelow(removedIndices, indices[0])
+                    != indices[1] - countBelow(addedIndices, indices[1])) {
+                return false;
+            }
+        }
+
+        removed.forEach(element -> handler.removed(element.index, element.value));
+        added.forEach(element -> handler.added(element.index, element.value));
+        kept.sort(Comparator.comparingInt(element -> element.index));
+        kept.forEach(element -> handler.kept(element.index, element.value));
+        return true;
+    }
+
+    /**
+     * Collects the elements of the nodes of {@code olderRoot} and {@code newerRoot} that are not in subtrees shared
+     * by both trees, and the {@code {older index, newer index}} of the shared subtrees.
+     * Nodes are taken from the highest down, so that a subtree shared by both trees is found at the same height in
+     * both before either of its ancestors has been skipped.
+     */
+    private static <T> void collectUnshared(Node<T> olderRoot, Node<T> newerRoot, List<Located<T>> olderElements,
+                                            List<Located<T>> newerElements, List<int[]> sharedSubtrees) {
+        int maxHeight = Math.max(height(olderRoot), height(newerRoot));
+        List<List<Located<Node<T>>>> olderLevels = new ArrayList<>();
+        List<List<Located<Node<T>>>> newerLevels = new ArrayList<>();
+        for (int height = 0; height <= maxHeight; height++) {
+            olderLevels.add(new ArrayList<>());
+            newerLevels.add(new ArrayList<>());
+        }
+        addToLevel(olderLevels, olderRoot, 0);
+        addToLevel(newerLevels, newerRoot, 0);
+
+        for (int height = maxHeight; height > 0; height--) {
+            Map<Node<T>, Integer> newerNodes = new IdentityHashMap<>();
+            for (Located<Node<T>> node : newerLevels.get(height)) {
+                newerNodes.put(node.value, node.index);
+            }
+            for (Located<Node<T>> node : olderLevels.get(height)) {
+                Integer newerIndex = newerNodes.remove(node.value);
+                if (newerIndex == null) {
+                    expand(node, olderLevels, olderElements);
+                } else {
+                    sharedSubtrees.add(new int[] {node.index, newerIndex});
+                }
+            }
+            for (Located<Node<T>> node : newerLevels.get(height)) {
+                if (newerNodes.containsKey(node.value)) {
+                    expand(node, newerLevels, newerElements);
+                }
+            }
+        }
+    }
+
+    /**
+     * Adds the element of {@code node} to {@code elements} and its children to their levels.
+     */
+    private static <T> void expand(Located<Node<T>> node, List<List<Located<Node<T>>>> levels,
+                                   List<Located<T>> elements) {
+        int leftSize = size(node.value.left);
+        elements.add(new Located<>(node.index + leftSize, node.value.value));
+        addToLevel(levels, node.value.left, node.index);
+        addToLevel(levels, node.value.right, node.index + leftSize + 1);
+    }
+
+    private static <T> void addToLevel(List<List<Located<Node<T>>>> levels, Node<T> node, int index) {
+        if (node != null) {
+            levels.get(node.height).add(new Located<>(index, node));
+        }
+    }
+
+    /**
+     * Returns the number of values in {@code sortedValues} that are less than {@code value}.
+     */
+    private static int countBelow(int[] sortedValues, int value) {
+        int position = Arrays.binarySearch(sortedValues, value);
+        return position >= 0 ? position : -position - 1;
+    }
+
+    /**
+     * Returns an unmodifiable {@code List} view of this version, in O(1) time.
+     */
+    public List<T> asList() {
+        return new ListView<>(this);
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentList<?> otherList)) {
+            return false;
+        }
+
+        return asList().equals(otherList.asList());
+    }
+
+    @Override
+    public int hashCode() {
+        return asList().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return asList().toString();
+    }
+
+    private static void checkIndex(int index, int size) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    private static int size(Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static <T> Node<T> build(Object[] elements, int from, int to) {
+        if (from == to) {
+            return null;
+        }
+        int middle = (from + to) >>> 1;
+        @SuppressWarnings("unchecked")
+        T value = (T) elements[middle];
+        return new Node<>(build(elements, from, middle), value, build(elements, middle + 1, to));
+    }
+
+    private static <T> Node<T> set(Node<T> node, int index, T element) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return new Node<>(set(node.left, index, element), node.value, node.right);
+        } else if (index > leftSize) {
+            return new Node<>(node.left, node.value, set(node.right, index - leftSize - 1, element));
+        } else {
+            return new Node<>(node.left, element, node.right);
+        }
+    }
+
+    private static <T> Node<T> insert(Node<T> node, int index, T element) {
+        if (node == null) {
+            return new Node<>(null, element, null);
+        }
+        int leftSize = size(node.left);
+        if (index <= leftSize) {
+            return balance(insert(node.left, index, element), node.value, node.right);
+        } else {
+            return balance(node.left, node.value, insert(node.right, index - leftSize - 1, element));
+        }
+    }
+
+    private static <T> Node<T> delete(Node<T> node, int index) {
+        int leftSize = size(node.left);
+        if (index < leftSize) {
+            return balance(delete(node.left, index), node.value, node.right);
+        } else if (index > leftSize) {
+            return balance(node.left, node.value, delete(node.right, index - leftSize - 1));
+        } else if (node.left == null) {
+            return node.right;
+        } else if (node.right == null) {
+            return node.left;
+        }
+
+        Node<T> successor = node.right;
+        while (successor.left != null) {
+            successor = successor.left;
+        }
+        return balance(node.left, successor.value, delete(node.right, 0));
+    }
+
+    /**
+     * Returns a node holding {@code value} between {@code left} and {@code right}, rotated so that the heights of its
+     * subtrees differ by at most one. The heights of {@code left} and {@code right} may differ by at most two.
+     */
+    private static <T> Node<T> balance(Node<T> left, T value, Node<T> right) {
+        if (height(left) > height(right) + 1) {
+            if (height(left.left) >= height(left.right)) {
+                return new Node<>(left.left, left.value, new Node<>(left.right, value, right));
+            }
+            Node<T> pivot = left.right;
+            return new Node<>(new Node<>(left.left, left.value, pivot.left), pivot.value,
+                    new Node<>(pivot.right, value, right));
+        }
+
+        if (height(right) > height(left) + 1) {
+            if (height(right.right) >= height(right.left)) {
+                return new Node<>(new Node<>(left, value, right.left), right.value, right.right);
+            }
+            Node<T> pivot = right.left;
+            return new Node<>(new Node<>(left, value, pivot.left), pivot.value,
+                    new Node<>(pivot.right, right.value, right.right));
+        }
+
+        return new Node<>(left, value, right);
+    }
+
+    /**
+     * Receives the differences between two versions found by {@link PersistentList#diff}.
+     */
+    public interface DiffHandler<T> {
+        /**
+         * Called for each element only in the older version, in ascending order of its index in that version.
+         */
+        void removed(int index, T element);
+
+        /**
+         * Called for each element only in the newer version, in ascending order of its index in that version.
+         */
+        void added(int index, T element);
+
+        /**
+         * Called for each element in both versions whose node is not shared by them, such as an element replaced
+         * by itself through {@link PersistentList#set}, in ascending order of its index in the newer version.
+         * Elements in the parts of the trees shared by both versions are not reported.
+         */
+        default void kept(int index, T element) {}
+    }
+
+    /**
+     * A value at an index of a list.
+     */
+    private static final class Located<V> {
+        private final int index;
+        private final V value;
+
+        Located(int index, V value) {
+            this.index = index;
+            this.value = value;
+        }
+    }
+
+    /**
+     * A node of the tree, which is never changed once created so that it can be shared between versions.
+     */
+    private static final class Node<T> {
+        private final Node<T> left;
+        private final T value;
+        private final Node<T> right;
+        private final int size;
+        private final int height;
+
+        Node(Node<T> left, T value, Node<T> right) {
+            this.left = left;
+            this.value = value;
+            this.right = right;
+            this.size = size(left) + 1 + size(right);
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+    }
+
+    /**
+     * Iterates over the elements of a tree in order, in O(n) time overall.
+     */
+    private static final class InOrderIterator<T> implements Iterator<T> {
+        private final Deque<Node<T>> path = new ArrayDeque<>();
+
+        InOrderIterator(Node<T> root) {
+            pushLeftmostPath(root);
+        }
+
+        private void pushLeftmostPath(Node<T> node) {
+            for (Node<T> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public T next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<T> node = path.pop();
+            pushLeftmostPath(node.right);
+            return node.value;
+        }
+    }
+
+    /**
+     * An unmodifiable {@code List} view of one version of a {@code PersistentList}.
+     */
+    private static final class ListView<T> extends AbstractList<T> {
+        private final PersistentList<T> list;
+
+        ListView(PersistentList<T> list) {
+            this.list = list;
+        }
+
+        @Override
+        public T get(int index) {
+            return list.get(index);
+        }
+
+        @Override
+        public int size() {
+            return list.size();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            return list.iterator();
+        }
+    }
+}
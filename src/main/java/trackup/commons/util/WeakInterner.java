@@ -0,0 +1,42 @@
+package trackup.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * A pool of canonical instances of immutable values, like {@link Interner}, that only holds its values weakly.
+ * A value is dropped from the pool once nothing else refers to it, so the pool can live as long as the application
+ * without keeping every value ever interned. Safe to use from multiple threads.
+ *
+ * @param <T> the type of the values, which must be immutable and define {@code equals} and {@code hashCode}.
+ */
+public class WeakInterner<T> {
+
+    // Each canonical instance is both the key and the referent of its value, so the entry goes once it is unused
+    private final Map<T, WeakReference<T>> pool = new WeakHashMap<>();
+
+    /**
+     * Returns the canonical instance equal to {@code value}. If there is none in use, {@code value} becomes it.
+     */
+    public synchronized T intern(T value) {
+        requireNonNull(value);
+        WeakReference<T> reference = pool.get(value);
+        T canonical = reference == null ? null : reference.get();
+        if (canonical != null) {
+            return canonical;
+        }
+        pool.put(value, new WeakReference<>(value));
+        return value;
+    }
+
+    /**
+     * Returns the number of canonical instances in the pool, including those no longer in use that have not been
+     * dropped yet.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+}
@@ -1,6 +1,8 @@
 package trackup.logic;
 
 import java.nio.file.Path;
+import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import trackup.commons.core.GuiSettings;
@@ -24,6 +26,29 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler told about errors in saving the data that are only found after a command has returned.
+     * The handler may be called from a thread other than the one executing commands.
+     */
+    void setSaveErrorHandler(Consumer<String> errorHandler);
+
+    /**
+     * Marks the address book as still loading. Until {@link #finishLoading} is called, commands that use the
+     * address book are queued instead of executed.
+     */
+    void startLoading();
+
+    /** Returns true if the address book is still loading. */
+    boolean isLoading();
+
+    /**
+     * Replaces the address book with the loaded {@code addressBook}, then executes the commands queued while it was
+     * loading, in the order they were entered.
+     *
+     * @return the feedback of each queued command, followed by any error in saving their changes.
+     */
+    List<String> finishLoading(ReadOnlyAddressBook addressBook);
+
     /**
      * Returns the AddressBook.
      *
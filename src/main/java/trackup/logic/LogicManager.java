@@ -1,8 +1,13 @@
 package trackup.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -10,6 +15,8 @@ import trackup.commons.core.GuiSettings;
 import trackup.commons.core.LogsCenter;
 import trackup.logic.commands.Command;
 import trackup.logic.commands.CommandResult;
+import trackup.logic.commands.ExitCommand;
+import trackup.logic.commands.HelpCommand;
 import trackup.logic.commands.exceptions.CommandException;
 import trackup.logic.parser.AddressBookParser;
 import trackup.logic.parser.exceptions.ParseException;
@@ -28,12 +35,24 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    public static final String MESSAGE_COMMAND_QUEUED = "The data is still loading. "
+            + "This command will run as soon as it has loaded.";
+
+    // Version recorded when nothing is known to have been saved, as versions are never negative
+    private static final long UNSAVED_VERSION = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
 
+    private volatile long savedVersion = UNSAVED_VERSION;
+    private volatile Consumer<String> saveErrorHandler = message -> { };
+
+    private final List<Command> queuedCommands = new ArrayList<>();
+    private boolean isLoading;
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
@@ -41,6 +60,7 @@ public class LogicManager implements Logic {
         this.model = model;
         this.storage = storage;
         addressBookParser = new AddressBookParser();
+        storage.setAddressBookSaveErrorHandler(this::handleSaveError);
     }
 
     @Override
@@ -49,17 +69,116 @@ public class LogicManager implements Logic {
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
-        commandResult = command.execute(model);
+        if (isLoading && !canRunWhileLoading(command)) {
+            queuedCommands.add(command);
+            return new CommandResult(MESSAGE_COMMAND_QUEUED);
+        }
+        try {
+            commandResult = command.execute(model);
+        } finally {
+            model.commitAddressBook();
+        }
+        if (isLoading) {
+            // The address book is still the empty placeholder, and saving it would overwrite the data being loaded
+            return commandResult;
+        }
+
+        return saveIfChanged() ? commandResult.withSaved(true) : commandResult;
+    }
+
+    /**
+     * Returns true if {@code command} does not use the address book, so it need not wait for the data to load.
+     */
+    private static boolean canRunWhileLoading(Command command) {
+        return command instanceof ExitCommand || command instanceof HelpCommand;
+    }
+
+    /**
+     * Saves the address book if it has changed since it was last saved, and returns true if it was saved.
+     */
+    private boolean saveIfChanged() throws CommandException {
+        long version = model.getAddressBookVersion();
+        if (version == savedVersion) {
+            return false;
+        }
 
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            savedVersion = UNSAVED_VERSION;
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
+        }
+        savedVersion = version;
+        return true;
+    }
+
+    @Override
+    public void startLoading() {
+        isLoading = true;
+        // The placeholder shown while loading is never to be saved, so it counts as saved
+        savedVersion = model.getAddressBookVersion();
+    }
+
+    @Override
+    public boolean isLoading() {
+        return isLoading;
+    }
+
+    @Override
+    public List<String> finishLoading(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        model.setAddressBook(addressBook);
+        model.clearAddressBookHistory();
+        isLoading = false;
+        if (queuedCommands.isEmpty()) {
+            return List.of();
+        }
+
+        logger.info("Running " + queuedCommands.size() + " command(s) queued while loading");
+        List<String> feedback = new ArrayList<>();
+        for (Command command : queuedCommands) {
+            try {
+                feedback.add(command.execute(model).getFeedbackToUser());
+            } catch (CommandException e) {
+                feedback.add(e.getMessage());
+            } finally {
+                model.commitAddressBook();
+            }
+        }
+        queuedCommands.clear();
+
+        try {
+            saveIfChanged();
+        } catch (CommandException e) {
+            feedback.add(e.getMessage());
         }
+        return feedback;
+    }
+
+    @Override
+    public void setSaveErrorHandler(Consumer<String> errorHandler) {
+        saveErrorHandler = errorHandler;
+    }
 
-        return commandResult;
+    /**
+     * Handles an error in saving the data after a command has returned.
+     * The next command saves the data again, even if it does not change it.
+     */
+    private void handleSaveError(Exception e) {
+        savedVersion = UNSAVED_VERSION;
+        logger.warning("Could not save data: " + e);
+        saveErrorHandler.accept(getSaveErrorMessage(e));
+    }
+
+    private static String getSaveErrorMessage(Exception e) {
+        if (e instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage());
+        }
+        if (!(e instanceof IOException)) {
+            // Unexpected errors may have no message of their own
+            return String.format(FILE_OPS_ERROR_FORMAT, e);
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, e.getMessage());
     }
 
     @Override
@@ -54,12 +54,14 @@ public class AddNoteCommand extends Command {
         }
         Note newNote = new Note(noteContent);
 
+        List<Note> previousNotes = personToEdit.getNotes();
         boolean added = personToEdit.addNote(newNote);
         if (!added) {
             return new CommandResult(String.format(
                     "%s already has the maximum number of notes (%s). Note not added.",
                     personToEdit.getName(), Person.MAX_NOTES));
         }
+        model.markNotesChanged(personToEdit, previousNotes);
 
         return new CommandResult(String.format(MESSAGE_SUCCESS, personToEdit.getName(), noteContent));
     }
@@ -9,10 +9,8 @@ import static trackup.logic.parser.CliSyntax.PREFIX_PHONE;
 import static trackup.logic.parser.CliSyntax.PREFIX_TAG;
 import static trackup.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.function.Predicate;
 
 import trackup.commons.util.ToStringBuilder;
@@ -20,7 +18,6 @@ import trackup.logic.Messages;
 import trackup.logic.commands.exceptions.CommandException;
 import trackup.model.Model;
 import trackup.model.category.Category;
-import trackup.model.event.Event;
 import trackup.model.person.Address;
 import trackup.model.person.Email;
 import trackup.model.person.Name;
@@ -151,18 +148,7 @@ public class DeleteByCommand extends Command {
         } else if (filteredList.size() == 1) {
             Person personToDelete = filteredList.get(0);
 
-            // Update all events linked to this contact
-            List<Event> allEvents = model.getEventList();
-            for (Event event : allEvents) {
-                if (event.getContacts().contains(personToDelete)) {
-                    Set<Person> updatedContacts = new HashSet<>(event.getContacts());
-                    updatedContacts.remove(personToDelete);
-
-                    Event updatedEvent = new Event(event.getTitle(), event.getStartDateTime(),
-                            event.getEndDateTime(), updatedContacts);
-                    model.setEvent(event, updatedEvent);
-                }
-            }
+            model.removeContactFromEvents(personToDelete);
 
             model.deletePerson(personToDelete);
             return new CommandResult(String.format(MESSAGE_DELETE_PERSON_SUCCESS, Messages.format(personToDelete)));
@@ -8,6 +8,7 @@ import trackup.commons.core.index.Index;
 import trackup.logic.Messages;
 import trackup.logic.commands.exceptions.CommandException;
 import trackup.model.Model;
+import trackup.model.note.Note;
 import trackup.model.person.Person;
 
 /**
@@ -59,7 +60,9 @@ public class DeleteNoteCommand extends Command {
             throw new CommandException(String.format(MESSAGE_INVALID_NOTE_INDEX, person.getName()));
         }
 
+        List<Note> previousNotes = person.getNotes();
         person.removeNote(noteIndex);
+        model.markNotesChanged(person, previousNotes);
         return new CommandResult(String.format(MESSAGE_SUCCESS, noteIndex.getOneBased(), person.getName()));
     }
 
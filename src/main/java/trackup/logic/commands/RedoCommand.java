@@ -0,0 +1,34 @@
+package trackup.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static trackup.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import trackup.logic.commands.exceptions.CommandException;
+import trackup.model.Model;
+
+/**
+ * Reapplies the changes of the latest command that has been undone.
+ */
+public class RedoCommand extends Command {
+
+    public static final String COMMAND_WORD = "redo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Redoes the latest command that was undone.\n";
+
+    public static final String MESSAGE_SUCCESS = "Redid the latest undone change.";
+    public static final String MESSAGE_NOTHING_TO_REDO = "There are no undone changes to redo.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        model.commitAddressBook();
+        if (!model.canRedoAddressBook()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_REDO);
+        }
+
+        model.redoAddressBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
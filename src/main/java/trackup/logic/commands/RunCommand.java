@@ -0,0 +1,148 @@
+package trackup.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import trackup.commons.util.ToStringBuilder;
+import trackup.logic.commands.exceptions.CommandException;
+import trackup.logic.parser.AddressBookParser;
+import trackup.logic.parser.exceptions.ParseException;
+import trackup.model.Model;
+
+/**
+ * Runs the commands in a script file, one command per line.
+ * Blank lines and lines starting with {@value #COMMENT_PREFIX} are skipped. A line that fails, even with an
+ * unexpected error, does not stop the script; its error is reported together with a summary once the whole script
+ * has run.
+ * The script runs as a single command, so the data is saved once, after the last line, and the whole script is
+ * undone at once. For the same reason, a script cannot undo or redo commands itself.
+ */
+public class RunCommand extends Command {
+
+    public static final String COMMAND_WORD = "run";
+
+    public static final String COMMENT_PREFIX = "#";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Runs the commands in a file, one command per line.\n"
+            + "Parameter(s): "
+            + "<FILE>\n"
+            + "Example: " + COMMAND_WORD + " data/commands.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d command(s) from %2$s in %3$d ms (%4$d commands/s), "
+            + "%5$d failed.";
+    public static final String MESSAGE_LINE_ERROR = "Line %1$d: %2$s";
+    public static final String MESSAGE_MORE_ERRORS = "... and %1$d more error(s).";
+    public static final String MESSAGE_READ_ERROR = "Could not read script file %1$s: %2$s";
+    public static final String MESSAGE_NESTED_RUN = "A script cannot run another script.";
+    public static final String MESSAGE_UNDO_IN_SCRIPT = "A script cannot undo or redo commands.";
+    public static final String MESSAGE_UNEXPECTED_ERROR = "Unexpected error: %1$s";
+
+    /** The most per-line errors listed in the result, so a broken script does not flood the result display. */
+    public static final int MAX_REPORTED_ERRORS = 20;
+
+    private final Path filePath;
+
+    public RunCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        AddressBookParser parser = new AddressBookParser();
+        List<String> errors = new ArrayList<>();
+        int commandCount = 0;
+        long startTime = System.nanoTime();
+
+        try (BufferedReader reader = Files.newBufferedReader(filePath, StandardCharsets.UTF_8)) {
+            int lineNumber = 0;
+            String line;
+            while ((line = readLine(reader, errors)) != null) {
+                lineNumber++;
+                String commandText = line.strip();
+                if (commandText.isEmpty() || commandText.startsWith(COMMENT_PREFIX)) {
+                    continue;
+                }
+
+                commandCount++;
+                try {
+                    Command command = parser.parseCommand(commandText);
+                    if (command instanceof RunCommand) {
+                        throw new CommandException(MESSAGE_NESTED_RUN);
+                    }
+                    if (command instanceof UndoCommand || command instanceof RedoCommand) {
+                        throw new CommandException(MESSAGE_UNDO_IN_SCRIPT);
+                    }
+                    command.execute(model);
+                } catch (ParseException | CommandException e) {
+                    errors.add(String.format(MESSAGE_LINE_ERROR, lineNumber, e.getMessage()));
+                } catch (RuntimeException e) {
+                    // Such as a guard in the model; the lines after it can still run
+                    errors.add(String.format(MESSAGE_LINE_ERROR, lineNumber,
+                            String.format(MESSAGE_UNEXPECTED_ERROR, e)));
+                }
+            }
+        } catch (IOException ioe) {
+            throw new CommandException(String.format(MESSAGE_READ_ERROR, filePath, ioe.getMessage()), ioe);
+        }
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+        long commandsPerSecond = commandCount * 1000L / Math.max(1, elapsedMillis);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commandCount, filePath, elapsedMillis,
+                commandsPerSecond, errors.size()) + formatErrors(errors));
+    }
+
+    /**
+     * Returns the next line of the script, or null if there are no more lines or the rest cannot be read.
+     * An error in reading is added to {@code errors}, as the lines before it have already been run.
+     */
+    private String readLine(BufferedReader reader, List<String> errors) {
+        try {
+            return reader.readLine();
+        } catch (IOException ioe) {
+            errors.add(String.format(MESSAGE_READ_ERROR, filePath, ioe.getMessage()));
+            return null;
+        }
+    }
+
+    private static String formatErrors(List<String> errors) {
+        StringBuilder builder = new StringBuilder();
+        errors.stream().limit(MAX_REPORTED_ERRORS).forEach(error -> builder.append('\n').append(error));
+        if (errors.size() > MAX_REPORTED_ERRORS) {
+            builder.append('\n').append(String.format(MESSAGE_MORE_ERRORS, errors.size() - MAX_REPORTED_ERRORS));
+        }
+        return builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof RunCommand)) {
+            return false;
+        }
+
+        RunCommand otherRunCommand = (RunCommand) other;
+        return filePath.equals(otherRunCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+}
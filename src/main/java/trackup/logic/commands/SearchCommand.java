@@ -1,40 +1,57 @@
 package trackup.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static trackup.logic.parser.CliSyntax.PREFIX_FUZZY;
 
-import java.util.function.Predicate;
-import java.util.stream.Collectors;
+import java.util.Comparator;
+import java.util.Set;
 
 import trackup.model.Model;
+import trackup.model.person.FuzzySearchResult;
 import trackup.model.person.Person;
-import trackup.model.tag.Tag;
 
 /**
  * Finds and lists all persons in the address book whose attributes contain the specified keyword.
+ * In fuzzy mode, finds persons with words similar to those of the keyword instead, and lists them by similarity.
  */
 public class SearchCommand extends Command {
 
     public static final String COMMAND_WORD = "search";
 
     public static final String MESSAGE_USAGE = COMMAND_WORD
-            + ": Finds persons whose attributes contain the given keyword.\n"
+            + ": Finds persons whose attributes contain the given keyword. "
+            + "With " + PREFIX_FUZZY + "finds persons whose name, email, address or tags are similar to the keyword, "
+            + "allowing for typos, and lists the most similar first.\n"
             + "Parameter(s): "
-            + "<KEYWORD>\n"
-            + "Example: " + COMMAND_WORD + " John";
+            + "[" + PREFIX_FUZZY + "]<KEYWORD>\n"
+            + "Example: " + COMMAND_WORD + " John, " + COMMAND_WORD + " " + PREFIX_FUZZY + "Jhon";
 
     public static final String MESSAGE_SUCCESS = "Listed persons matching: %1$s";
+    public static final String MESSAGE_FUZZY_SUCCESS = "Listed persons similar to: %1$s, most similar first";
     public static final String MESSAGE_NO_MATCH = "No matching person found with: %1$s";
 
     private final String keyword;
+    private final boolean isFuzzy;
 
     /**
      * Constructs a SearchCommand with the specified keyword.
      *
      * @param keyword The keyword to search for in person attributes.
+     * @param isFuzzy Whether to search for persons similar to the keyword, ranked by similarity.
      */
-    public SearchCommand(String keyword) {
+    public SearchCommand(String keyword, boolean isFuzzy) {
         requireNonNull(keyword);
         this.keyword = keyword;
+        this.isFuzzy = isFuzzy;
+    }
+
+    /**
+     * Constructs a SearchCommand with the specified keyword, matching persons whose attributes contain it.
+     *
+     * @param keyword The keyword to search for in person attributes.
+     */
+    public SearchCommand(String keyword) {
+        this(keyword, false);
     }
 
     /**
@@ -45,19 +62,14 @@ public class SearchCommand extends Command {
      */
     @Override
     public CommandResult execute(Model model) {
-        String lowerKeyword = this.keyword.toLowerCase();
         requireNonNull(model);
-        Predicate<Person> matchesKeyword = person ->
-                person.getName().fullName.toLowerCase().contains(lowerKeyword)
-                        || person.getPhone().value.contains(lowerKeyword)
-                        || person.getEmail().value.toLowerCase().contains(lowerKeyword)
-                        || person.getAddress().value.toLowerCase().contains(lowerKeyword)
-                        || person.getTags().stream().map(Tag::toString).collect(Collectors.joining(" "))
-                        .toLowerCase().contains(lowerKeyword)
-                        || (person.getCategory().isPresent() && person.getCategory().get().toString().toLowerCase()
-                        .contains(lowerKeyword));
-
-        model.updateFilteredPersonList(matchesKeyword);
+        if (isFuzzy) {
+            return executeFuzzy(model);
+        }
+
+        Set<Person> matches = model.searchPersons(keyword);
+
+        model.updateFilteredPersonList(matches::contains);
 
         if (model.getFilteredPersonList().isEmpty()) {
             return new CommandResult(String.format(MESSAGE_NO_MATCH, keyword));
@@ -66,11 +78,23 @@ public class SearchCommand extends Command {
         return new CommandResult(String.format(MESSAGE_SUCCESS, keyword));
     }
 
+    private CommandResult executeFuzzy(Model model) {
+        FuzzySearchResult matches = model.searchPersonsFuzzy(keyword);
+        model.updateFilteredPersonList(matches::contains,
+                Comparator.comparingDouble(person -> -matches.getSimilarity(person)));
+
+        if (model.getFilteredPersonList().isEmpty()) {
+            return new CommandResult(String.format(MESSAGE_NO_MATCH, keyword));
+        }
+
+        return new CommandResult(String.format(MESSAGE_FUZZY_SUCCESS, keyword));
+    }
+
     /**
      * Checks if this SearchCommand is equal to another object.
      *
      * @param other The object to compare.
-     * @return True if the object is an instance of SearchCommand with the same keyword, false otherwise.
+     * @return True if the object is an instance of SearchCommand with the same keyword and mode, false otherwise.
      */
     @Override
     public boolean equals(Object other) {
@@ -81,6 +105,6 @@ public class SearchCommand extends Command {
             return false;
         }
         SearchCommand otherCommand = (SearchCommand) other;
-        return keyword.equals(otherCommand.keyword);
+        return keyword.equals(otherCommand.keyword) && isFuzzy == otherCommand.isFuzzy;
     }
 }
@@ -0,0 +1,34 @@
+package trackup.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static trackup.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import trackup.logic.commands.exceptions.CommandException;
+import trackup.model.Model;
+
+/**
+ * Reverts the changes made to the contacts, events and notes by the latest command that has not been undone.
+ */
+public class UndoCommand extends Command {
+
+    public static final String COMMAND_WORD = "undo";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD
+            + ": Undoes the latest command that changed the contacts, events or notes.\n";
+
+    public static final String MESSAGE_SUCCESS = "Undid the latest change.";
+    public static final String MESSAGE_NOTHING_TO_UNDO = "There are no changes to undo.";
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+        model.commitAddressBook();
+        if (!model.canUndoAddressBook()) {
+            throw new CommandException(MESSAGE_NOTHING_TO_UNDO);
+        }
+
+        model.undoAddressBook();
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(MESSAGE_SUCCESS);
+    }
+}
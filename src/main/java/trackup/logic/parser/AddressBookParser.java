@@ -3,9 +3,9 @@ package trackup.logic.parser;
 import static trackup.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
 import static trackup.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.logging.Logger;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import trackup.commons.core.LogsCenter;
 import trackup.logic.commands.AddCommand;
@@ -22,9 +22,12 @@ import trackup.logic.commands.ExitCommand;
 import trackup.logic.commands.FindCommand;
 import trackup.logic.commands.HelpCommand;
 import trackup.logic.commands.ListCommand;
+import trackup.logic.commands.RedoCommand;
+import trackup.logic.commands.RunCommand;
 import trackup.logic.commands.SearchCommand;
 import trackup.logic.commands.SortCommand;
 import trackup.logic.commands.ToggleCommand;
+import trackup.logic.commands.UndoCommand;
 import trackup.logic.parser.exceptions.ParseException;
 
 /**
@@ -33,9 +36,11 @@ import trackup.logic.parser.exceptions.ParseException;
 public class AddressBookParser {
 
     /**
-     * Used for initial separation of command word and args.
+     * The parser of each command word. Parsers hold no state, so one instance of each serves every input.
      */
-    private static final Pattern BASIC_COMMAND_FORMAT = Pattern.compile("(?<commandWord>\\S+)(?<arguments>.*)");
+    private static final Map<String, Parser<? extends Command>> COMMAND_PARSERS = createCommandParsers();
+    private static final String WHITESPACE = " \t\n\u000B\f\r";
+    private static final String LINE_TERMINATORS = "\n\r\u0085\u2028\u2029";
     private static final Logger logger = LogsCenter.getLogger(AddressBookParser.class);
 
     /**
@@ -46,73 +51,75 @@ public class AddressBookParser {
      * @throws ParseException if the user input does not conform the expected format
      */
     public Command parseCommand(String userInput) throws ParseException {
-        final Matcher matcher = BASIC_COMMAND_FORMAT.matcher(userInput.trim());
-        if (!matcher.matches()) {
+        final String trimmedInput = userInput.trim();
+        final int commandWordEnd = findCommandWordEnd(trimmedInput);
+        if (commandWordEnd == 0 || containsLineTerminator(trimmedInput, commandWordEnd)) {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE));
         }
 
-        final String commandWord = matcher.group("commandWord");
-        final String arguments = String.format("%s ", matcher.group("arguments"));
+        final String commandWord = trimmedInput.substring(0, commandWordEnd);
+        final String arguments = trimmedInput.substring(commandWordEnd) + " ";
 
         // Note to developers: Change the log level in config.json to enable lower level (i.e., FINE, FINER and lower)
         // log messages such as the one below.
         // Lower level log messages are used sparingly to minimize noise in the code.
-        logger.fine("Command word: " + commandWord + "; Arguments: " + arguments);
+        logger.fine(() -> "Command word: " + commandWord + "; Arguments: " + arguments);
 
-        switch (commandWord) {
-
-        case AddCommand.COMMAND_WORD:
-            return new AddCommandParser().parse(arguments);
-
-        case EditCommand.COMMAND_WORD:
-            return new EditCommandParser().parse(arguments);
-
-        case DeleteCommand.COMMAND_WORD:
-            return new DeleteCommandParser().parse(arguments);
-
-        case ClearCommand.COMMAND_WORD:
-            return new ClearCommand();
-
-        case FindCommand.COMMAND_WORD:
-            return new FindCommandParser().parse(arguments);
-
-        case ListCommand.COMMAND_WORD:
-            return new ListCommandParser().parse(arguments);
-
-        case ExitCommand.COMMAND_WORD:
-            return new ExitCommand();
-
-        case HelpCommand.COMMAND_WORD:
-            return new HelpCommandParser().parse(arguments);
-
-        case DeleteByCommand.COMMAND_WORD:
-            return new DeleteByCommandParser().parse(arguments);
-
-        case SearchCommand.COMMAND_WORD:
-            return new SearchCommandParser().parse(arguments);
-
-        case SortCommand.COMMAND_WORD:
-            return new SortCommandParser().parse(arguments);
-
-        case AddEventCommand.COMMAND_WORD:
-            return new AddEventCommandParser().parse(arguments);
-
-        case DeleteEventCommand.COMMAND_WORD:
-            return new DeleteEventCommandParser().parse(arguments);
-
-        case ToggleCommand.COMMAND_WORD:
-            return new ToggleCommandParser().parse(arguments);
-
-        case AddNoteCommand.COMMAND_WORD:
-            return new AddNoteCommandParser().parse(arguments);
+        Parser<? extends Command> parser = COMMAND_PARSERS.get(commandWord);
+        if (parser == null) {
+            logger.finer(() -> "This user input caused a ParseException: " + userInput);
+            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+        }
+        return parser.parse(arguments);
+    }
 
-        case DeleteNoteCommand.COMMAND_WORD:
-            return new DeleteNoteCommandParser().parse(arguments);
+    private static Map<String, Parser<? extends Command>> createCommandParsers() {
+        Map<String, Parser<? extends Command>> parsers = new HashMap<>();
+        parsers.put(AddCommand.COMMAND_WORD, new AddCommandParser());
+        parsers.put(EditCommand.COMMAND_WORD, new EditCommandParser());
+        parsers.put(DeleteCommand.COMMAND_WORD, new DeleteCommandParser());
+        parsers.put(ClearCommand.COMMAND_WORD, arguments -> new ClearCommand());
+        parsers.put(FindCommand.COMMAND_WORD, new FindCommandParser());
+        parsers.put(ListCommand.COMMAND_WORD, new ListCommandParser());
+        parsers.put(ExitCommand.COMMAND_WORD, arguments -> new ExitCommand());
+        parsers.put(HelpCommand.COMMAND_WORD, new HelpCommandParser());
+        parsers.put(DeleteByCommand.COMMAND_WORD, new DeleteByCommandParser());
+        parsers.put(SearchCommand.COMMAND_WORD, new SearchCommandParser());
+        parsers.put(SortCommand.COMMAND_WORD, new SortCommandParser());
+        parsers.put(AddEventCommand.COMMAND_WORD, new AddEventCommandParser());
+        parsers.put(DeleteEventCommand.COMMAND_WORD, new DeleteEventCommandParser());
+        parsers.put(ToggleCommand.COMMAND_WORD, new ToggleCommandParser());
+        parsers.put(AddNoteCommand.COMMAND_WORD, new AddNoteCommandParser());
+        parsers.put(DeleteNoteCommand.COMMAND_WORD, new DeleteNoteCommandParser());
+        parsers.put(RunCommand.COMMAND_WORD, new RunCommandParser());
+        parsers.put(UndoCommand.COMMAND_WORD, arguments -> new UndoCommand());
+        parsers.put(RedoCommand.COMMAND_WORD, arguments -> new RedoCommand());
+        return Map.copyOf(parsers);
+    }
 
-        default:
-            logger.finer("This user input caused a ParseException: " + userInput);
-            throw new ParseException(MESSAGE_UNKNOWN_COMMAND);
+    /**
+     * Returns the index of the first whitespace in {@code input}, or its length if there is none.
+     * Whitespace is what the regular expression {@code \s} matches.
+     */
+    private static int findCommandWordEnd(String input) {
+        for (int i = 0; i < input.length(); i++) {
+            if (WHITESPACE.indexOf(input.charAt(i)) != -1) {
+                return i;
+            }
         }
+        return input.length();
     }
 
+    /**
+     * Returns true if {@code input} has a line terminator at or after {@code fromIndex}.
+     * Such input was never accepted, as a command word is followed by arguments on the same line.
+     */
+    private static boolean containsLineTerminator(String input, int fromIndex) {
+        for (int i = fromIndex; i < input.length(); i++) {
+            if (LINE_TERMINATORS.indexOf(input.charAt(i)) != -1) {
+                return true;
+            }
+        }
+        return false;
+    }
 }
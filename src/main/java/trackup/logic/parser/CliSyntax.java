@@ -16,4 +16,5 @@ public class CliSyntax {
     public static final Prefix PREFIX_EVENT_START = new Prefix("-s ");
     public static final Prefix PREFIX_EVENT_END = new Prefix("-e ");
     public static final Prefix PREFIX_EVENT_CONTACT = new Prefix("-c ");
+    public static final Prefix PREFIX_FUZZY = new Prefix("-f ");
 }
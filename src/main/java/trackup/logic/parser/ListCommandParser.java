@@ -27,7 +27,7 @@ public class ListCommandParser implements Parser<ListCommand> {
                         + "'. Use one of the supported categories: Client, Partner, Investor, Other.");
             }
 
-            category = Optional.of(new Category(trimmedArgs));
+            category = Optional.of(Category.of(trimmedArgs));
         }
 
         return new ListCommand(category);
@@ -1,6 +1,7 @@
 package trackup.logic.parser;
 
 import static trackup.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static trackup.logic.parser.CliSyntax.PREFIX_FUZZY;
 
 import trackup.logic.commands.SearchCommand;
 import trackup.logic.parser.exceptions.ParseException;
@@ -12,7 +13,8 @@ public class SearchCommandParser implements Parser<SearchCommand> {
 
     /**
      * Parses the given {@code String} of arguments in the context of the SearchCommand
-     * and returns a SearchCommand object for execution.
+     * and returns a SearchCommand object for execution. Arguments starting with {@code PREFIX_FUZZY} are a keyword
+     * for a fuzzy search.
      *
      * @param args The user input arguments.
      * @return A SearchCommand object with the parsed keyword.
@@ -25,6 +27,16 @@ public class SearchCommandParser implements Parser<SearchCommand> {
             throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
         }
 
-        return new SearchCommand(trimmedArgs);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_FUZZY);
+        if (!argMultimap.getPreamble().isEmpty() || argMultimap.getValue(PREFIX_FUZZY).isEmpty()) {
+            return new SearchCommand(trimmedArgs);
+        }
+
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_FUZZY);
+        String fuzzyKeyword = argMultimap.getValue(PREFIX_FUZZY).get();
+        if (fuzzyKeyword.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+        }
+        return new SearchCommand(fuzzyKeyword, true);
     }
 }
@@ -2,23 +2,56 @@ package trackup.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import trackup.commons.util.PersistentList;
 import trackup.commons.util.ToStringBuilder;
+import trackup.model.event.ContactEventIndex;
 import trackup.model.event.Event;
+import trackup.model.event.EventIdentity;
 import trackup.model.event.UniqueEventList;
+import trackup.model.note.Note;
+import trackup.model.person.FuzzyPersonIndex;
+import trackup.model.person.FuzzySearchResult;
 import trackup.model.person.Person;
+import trackup.model.person.PersonSearchIndex;
 import trackup.model.person.UniquePersonList;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * Once {@link #getSnapshot()} has been called, every change to the persons or events is also applied to a
+ * {@code PersistentList} of them, in O(log n) time for a change to a few elements, so that later snapshots are taken
+ * without copying. Address books that are never snapshotted do not pay for this.
+ * Persons whose notes are marked as changed are replaced by themselves in the copy, so that comparing snapshots with
+ * {@link PersistentList#diff} finds them.
+ *
+ * After {@link #startRecording()}, every change is also recorded, so that the changes made since the last
+ * {@link #takeRecordedChanges()} can be reverted as an {@code AddressBookDelta}.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
+    /** Changes to more than 1 in this many elements of a list rebuild its persistent copy instead. */
+    private static final int REBUILD_FRACTION = 16;
+
     private final UniquePersonList persons;
     private final UniqueEventList events;
+    private final PersonSearchIndex personSearchIndex;
+    private final FuzzyPersonIndex fuzzyPersonIndex;
+    private final ContactEventIndex contactEventIndex;
+    // Mirrors of the persons and events, or null until the first snapshot is taken
+    private PersistentList<Person> persistentPersons;
+    private PersistentList<Event> persistentEvents;
+    private long version;
+    // The changes made since the last call to takeRecordedChanges(), or null if changes are not recorded
+    private List<AddressBookDelta.Change> recordedChanges;
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -30,6 +63,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     {
         persons = new UniquePersonList();
         events = new UniqueEventList();
+        personSearchIndex = new PersonSearchIndex();
+        fuzzyPersonIndex = new FuzzyPersonIndex();
+        contactEventIndex = new ContactEventIndex();
     }
 
     public AddressBook() {}
@@ -50,7 +86,14 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         requireNonNull(persons);
+        if (isRecording()) {
+            record(new AddressBookDelta.PersonsReset(persistentPersons != null
+                    ? persistentPersons : PersistentList.copyOf(getPersonList())));
+        }
         this.persons.setPersons(persons);
+        personSearchIndex.setPersons(persons);
+        fuzzyPersonIndex.setPersons(persons);
+        version++;
     }
 
     /**
@@ -59,7 +102,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setEvents(List<Event> events) {
         requireNonNull(events);
+        if (isRecording()) {
+            record(new AddressBookDelta.EventsReset(persistentEvents != null
+                    ? persistentEvents : PersistentList.copyOf(getEventList())));
+        }
         this.events.setEvents(events);
+        contactEventIndex.setEvents(events);
+        version++;
     }
 
     /**
@@ -88,6 +137,22 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        personSearchIndex.add(p);
+        fuzzyPersonIndex.add(p);
+        record(new AddressBookDelta.PersonAdded(p));
+        version++;
+    }
+
+    /**
+     * Inserts a person into the person list at {@code index}, as when reverting its removal.
+     * The person must not already exist in the address book.
+     */
+    void addPerson(int index, Person p) {
+        persons.add(index, p);
+        personSearchIndex.add(p);
+        fuzzyPersonIndex.add(p);
+        record(new AddressBookDelta.PersonAdded(p));
+        version++;
     }
 
     /**
@@ -99,6 +164,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         persons.setPerson(target, editedPerson);
+        personSearchIndex.remove(target);
+        personSearchIndex.add(editedPerson);
+        fuzzyPersonIndex.remove(target);
+        fuzzyPersonIndex.add(editedPerson);
+        record(new AddressBookDelta.PersonReplaced(target, editedPerson));
+        version++;
     }
 
     /**
@@ -106,9 +177,52 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code key} must exist in the address book.
      */
     public void removePerson(Person key) {
+        int index = isRecording() ? persons.indexOf(key) : -1;
         persons.remove(key);
+        personSearchIndex.remove(key);
+        fuzzyPersonIndex.remove(key);
+        record(new AddressBookDelta.PersonRemoved(index, key));
+        version++;
+    }
+
+    /**
+     * Records that the notes of {@code person}, which must be in the address book, have been changed in place from
+     * {@code previousNotes}.
+     */
+    public void markNotesChanged(Person person, List<Note> previousNotes) {
+        requireNonNull(person);
+        requireNonNull(previousNotes);
+        assert hasPerson(person) : "Person should be in the address book.";
+        if (persistentPersons != null) {
+            // Replace the person by itself so that the change shows in a diff of the snapshots
+            int index = persons.indexOf(person);
+            persistentPersons = persistentPersons.set(index, persistentPersons.get(index));
+        }
+        record(new AddressBookDelta.NotesChanged(person, previousNotes));
+        version++;
     }
 
+    /**
+     * Returns the persons in the address book with a name, phone, email, address, tag or category containing
+     * {@code keyword}, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> searchPersons(String keyword) {
+        requireNonNull(keyword);
+        return personSearchIndex.search(keyword);
+    }
+
+    /**
+     * Returns the persons in the address book with a word in their name, email, address or tags similar to a word of
+     * {@code keyword} despite typos, each with its similarity to {@code keyword}, from just above 0 to 1.
+     * The returned result compares persons by reference.
+     *
+     * @see FuzzyPersonIndex#search(String)
+     */
+    public FuzzySearchResult searchPersonsFuzzy(String keyword) {
+        requireNonNull(keyword);
+        return fuzzyPersonIndex.search(keyword);
+    }
 
     //// Event-level operations
 
@@ -127,6 +241,21 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void addEvent(Event event) {
         requireNonNull(event);
         events.add(event);
+        contactEventIndex.add(event);
+        record(new AddressBookDelta.EventAdded(event));
+        version++;
+    }
+
+    /**
+     * Inserts an event into the event list at {@code index}, as when reverting its deletion.
+     * The event must not already exist in the address book.
+     */
+    void addEvent(int index, Event event) {
+        requireNonNull(event);
+        events.add(index, event);
+        contactEventIndex.add(event);
+        record(new AddressBookDelta.EventAdded(event));
+        version++;
     }
 
     /**
@@ -135,7 +264,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void deleteEvent(Event event) {
         requireNonNull(event);
+        int index = isRecording() ? events.indexOf(event) : -1;
         events.remove(event);
+        contactEventIndex.remove(event);
+        record(new AddressBookDelta.EventRemoved(index, event));
+        version++;
     }
 
     /**
@@ -147,10 +280,177 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedEvent);
 
         events.setEvent(target, editedEvent);
+        contactEventIndex.remove(target);
+        contactEventIndex.add(editedEvent);
+        record(new AddressBookDelta.EventReplaced(target, editedEvent));
+        version++;
+    }
+
+    /**
+     * Removes {@code person} from the contacts of every event linked to it.
+     */
+    public void removeContactFromEvents(Person person) {
+        requireNonNull(person);
+        updateContactInEvents(person, Optional.empty());
+    }
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the contacts of every event linked to {@code target}.
+     */
+    public void replaceContactInEvents(Person target, Person editedPerson) {
+        requireNonNull(target);
+        requireNonNull(editedPerson);
+        updateContactInEvents(target, Optional.of(editedPerson));
+    }
+
+    /**
+     * Replaces {@code target} in the contacts of every event linked to it with {@code replacement}, or removes it if
+     * {@code replacement} is empty. Only the linked events are visited, and they are updated in a single change to
+     * the event list.
+     */
+    private void updateContactInEvents(Person target, Optional<Person> replacement) {
+        List<Event> targetEvents = new ArrayList<>();
+        List<Event> editedEvents = new ArrayList<>();
+        for (EventIdentity eventIdentity : contactEventIndex.getEventIdentities(target)) {
+            Event event = events.find(eventIdentity).orElseThrow();
+            if (!event.getContacts().contains(target)) {
+                continue;
+            }
+
+            Set<Person> updatedContacts = new HashSet<>(event.getContacts());
+            updatedContacts.remove(target);
+            replacement.ifPresent(updatedContacts::add);
+            targetEvents.add(event);
+            editedEvents.add(new Event(event.getTitle(), event.getStartDateTime(), event.getEndDateTime(),
+                    updatedContacts));
+        }
+
+        if (targetEvents.isEmpty()) {
+            return;
+        }
+
+        replaceEvents(targetEvents, editedEvents);
+    }
+
+    /**
+     * Replaces each event in {@code targets} with the event at the same position in {@code editedEvents}, as a
+     * single change to the event list.
+     * Every event in {@code targets} must exist in the address book and have the same identity as its replacement.
+     */
+    void replaceEvents(List<Event> targets, List<Event> editedEvents) {
+        events.replaceEvents(targets, editedEvents);
+        targets.forEach(contactEventIndex::remove);
+        editedEvents.forEach(contactEventIndex::add);
+        record(new AddressBookDelta.EventsReplaced(targets, editedEvents));
+        version++;
+    }
+
+    //// history operations
+
+    /**
+     * Starts recording the changes made to this address book, if not already recording.
+     */
+    public void startRecording() {
+        if (recordedChanges == null) {
+            recordedChanges = new ArrayList<>();
+        }
+    }
+
+    private boolean isRecording() {
+        return recordedChanges != null;
+    }
+
+    private void record(AddressBookDelta.Change change) {
+        if (recordedChanges != null) {
+            recordedChanges.add(change);
+        }
+    }
+
+    /**
+     * Returns the changes recorded since the last call, and starts a new recording.
+     * Returns an empty delta if changes are not being recorded.
+     */
+    public AddressBookDelta takeRecordedChanges() {
+        if (recordedChanges == null || recordedChanges.isEmpty()) {
+            return new AddressBookDelta(List.of());
+        }
+        AddressBookDelta delta = new AddressBookDelta(recordedChanges);
+        recordedChanges = new ArrayList<>();
+        return delta;
+    }
+
+    /**
+     * Reverts the changes of {@code delta}, which must be the latest changes made to this address book that have
+     * not been reverted, and returns the delta that redoes them.
+     *
+     * @throws IllegalStateException if changes have been recorded but not taken, as {@code delta} would then no
+     *     longer be the latest changes.
+     */
+    public AddressBookDelta revert(AddressBookDelta delta) {
+        requireNonNull(delta);
+        if (recordedChanges != null && !recordedChanges.isEmpty()) {
+            throw new IllegalStateException("The recorded changes must be taken before reverting earlier ones.");
+        }
+        List<AddressBookDelta.Change> pendingChanges = recordedChanges;
+        recordedChanges = new ArrayList<>();
+        try {
+            delta.revertOn(this);
+            return new AddressBookDelta(recordedChanges);
+        } finally {
+            recordedChanges = pendingChanges == null ? null : new ArrayList<>();
+        }
     }
 
     //// util methods
 
+    /**
+     * Returns an immutable snapshot of the current persons and events of this address book, in O(1) time after the
+     * first snapshot, which copies them in O(n) time and starts keeping the copies up to date.
+     * It should be taken on the thread that changes this address book, but can then be read on any thread.
+     */
+    public PersistentAddressBook getSnapshot() {
+        if (persistentPersons == null) {
+            persistentPersons = PersistentList.copyOf(getPersonList());
+            persistentEvents = PersistentList.copyOf(getEventList());
+            getPersonList().addListener((ListChangeListener<Person>) change ->
+                    persistentPersons = applyChange(persistentPersons, change));
+            getEventList().addListener((ListChangeListener<Event>) change ->
+                    persistentEvents = applyChange(persistentEvents, change));
+        }
+        return new PersistentAddressBook(persistentPersons, persistentEvents);
+    }
+
+    /**
+     * Returns the version of {@code list} with {@code change}, made to the observable list it mirrors, applied.
+     */
+    private static <T> PersistentList<T> applyChange(PersistentList<T> list, ListChangeListener.Change<? extends T>
+            change) {
+        PersistentList<T> result = list;
+        while (change.next()) {
+            if (change.wasPermutated()
+                    || (change.getRemovedSize() + change.getAddedSize()) * REBUILD_FRACTION > result.size()) {
+                return PersistentList.copyOf(change.getList());
+            }
+
+            for (int i = 0; i < change.getRemovedSize(); i++) {
+                result = result.remove(change.getFrom());
+            }
+            int position = change.getFrom();
+            for (T added : change.getAddedSubList()) {
+                result = result.add(position++, added);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the modification version of this address book.
+     * The version increases with every change made through this {@code AddressBook}, and never decreases.
+     */
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(this)
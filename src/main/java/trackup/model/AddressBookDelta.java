@@ -0,0 +1,322 @@
+package trackup.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+
+import trackup.commons.util.PersistentList;
+import trackup.commons.util.ToStringBuilder;
+import trackup.model.event.Event;
+import trackup.model.note.Note;
+import trackup.model.person.Person;
+
+/**
+ * The changes made to an {@code AddressBook} by one command, recorded so that they can be reverted.
+ *
+ * Each change keeps only what is needed to revert it: an added person or event is kept by reference, and only the
+ * persons, events and notes that were removed or replaced are kept whole. Reverting a delta applies the inverse of
+ * each change, newest first, and records them as a new delta that redoes the changes.
+ *
+ * @see AddressBook#revert(AddressBookDelta)
+ */
+public final class AddressBookDelta {
+
+    // Rough heap sizes, in bytes, used to estimate how much memory a delta keeps alive. Text is counted at one
+    // byte per character, as most of it is Latin-1 and held in compact strings.
+    private static final long DELTA_BYTES = 48;
+    private static final long CHANGE_BYTES = 32;
+    private static final long PERSON_BYTES = 320;
+    private static final long NOTE_BYTES = 48;
+    private static final long EVENT_BYTES = 200;
+    private static final long CONTACT_BYTES = 40;
+    private static final long LIST_NODE_BYTES = 32;
+
+    private final List<Change> changes;
+    private final long estimatedSize;
+
+    AddressBookDelta(List<Change> changes) {
+        requireNonNull(changes);
+        this.changes = List.copyOf(changes);
+        this.estimatedSize = DELTA_BYTES + this.changes.stream().mapToLong(Change::estimateSize).sum();
+    }
+
+    /**
+     * Returns true if the delta has no changes.
+     */
+    public boolean isEmpty() {
+        return changes.isEmpty();
+    }
+
+    /**
+     * Returns the number of changes in the delta.
+     */
+    public int size() {
+        return changes.size();
+    }
+
+    /**
+     * Returns a rough estimate of the memory, in bytes, kept alive by the delta and not by the address book.
+     */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    /**
+     * Reverts the changes of this delta on {@code addressBook}, newest first.
+     * {@code addressBook} must be in the state the changes left it in.
+     */
+    void revertOn(AddressBook addressBook) {
+        for (int i = changes.size() - 1; i >= 0; i--) {
+            changes.get(i).revert(addressBook);
+        }
+    }
+
+    private static long estimateSize(Person person) {
+        long textLength = person.getName().fullName.length() + person.getPhone().value.length()
+                + person.getEmail().value.length() + person.getAddress().value.length();
+        for (Note note : person.getNotes()) {
+            textLength += note.text.length();
+        }
+        return PERSON_BYTES + NOTE_BYTES * person.getNotes().size() + textLength;
+    }
+
+    private static long estimateSize(Event event) {
+        return EVENT_BYTES + CONTACT_BYTES * event.getContacts().size() + event.getTitle().length();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("changes", changes.size())
+                .add("estimatedSize", estimatedSize)
+                .toString();
+    }
+
+    /**
+     * A single change made to an {@code AddressBook}.
+     */
+    interface Change {
+        /**
+         * Applies the inverse of this change to {@code addressBook}, through its recording operations.
+         */
+        void revert(AddressBook addressBook);
+
+        /**
+         * Returns a rough estimate of the memory, in bytes, kept alive by this change and not by the address book.
+         */
+        long estimateSize();
+    }
+
+    static final class PersonAdded implements Change {
+        private final Person person;
+
+        PersonAdded(Person person) {
+            this.person = person;
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.removePerson(person);
+        }
+
+        @Override
+        public long estimateSize() {
+            return CHANGE_BYTES;
+        }
+    }
+
+    static final class PersonRemoved implements Change {
+        private final int index;
+        private final Person person;
+
+        PersonRemoved(int index, Person person) {
+            this.index = index;
+            this.person = person;
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.addPerson(index, person);
+        }
+
+        @Override
+        public long estimateSize() {
+            return CHANGE_BYTES + AddressBookDelta.estimateSize(person);
+        }
+    }
+
+    static final class PersonReplaced implements Change {
+        private final Person target;
+        private final Person editedPerson;
+
+        PersonReplaced(Person target, Person editedPerson) {
+            this.target = target;
+            this.editedPerson = editedPerson;
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.setPerson(editedPerson, target);
+        }
+
+        @Override
+        public long estimateSize() {
+            return CHANGE_BYTES + AddressBookDelta.estimateSize(target);
+        }
+    }
+
+    static final class PersonsReset implements Change {
+        private final PersistentList<Person> previousPersons;
+
+        PersonsReset(PersistentList<Person> previousPersons) {
+            this.previousPersons = previousPersons;
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.setPersons(previousPersons.asList());
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = CHANGE_BYTES;
+            for (Person person : previousPersons) {
+                size += LIST_NODE_BYTES + AddressBookDelta.estimateSize(person);
+            }
+            return size;
+        }
+    }
+
+    static final class NotesChanged implements Change {
+        private final Person person;
+        private final List<Note> previousNotes;
+
+        NotesChanged(Person person, List<Note> previousNotes) {
+            this.person = person;
+            this.previousNotes = previousNotes;
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            List<Note> notes = person.getNotes();
+            person.setNotes(previousNotes);
+            addressBook.markNotesChanged(person, notes);
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = CHANGE_BYTES + NOTE_BYTES * previousNotes.size();
+            for (Note note : previousNotes) {
+                size += note.text.length();
+            }
+            return size;
+        }
+    }
+
+    static final class EventAdded implements Change {
+        private final Event event;
+
+        EventAdded(Event event) {
+            this.event = event;
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.deleteEvent(event);
+        }
+
+        @Override
+        public long estimateSize() {
+            return CHANGE_BYTES;
+        }
+    }
+
+    static final class EventRemoved implements Change {
+        private final int index;
+        private final Event event;
+
+        EventRemoved(int index, Event event) {
+            this.index = index;
+            this.event = event;
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.addEvent(index, event);
+        }
+
+        @Override
+        public long estimateSize() {
+            return CHANGE_BYTES + AddressBookDelta.estimateSize(event);
+        }
+    }
+
+    static final class EventReplaced implements Change {
+        private final Event target;
+        private final Event editedEvent;
+
+        EventReplaced(Event target, Event editedEvent) {
+            this.target = target;
+            this.editedEvent = editedEvent;
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.setEvent(editedEvent, target);
+        }
+
+        @Override
+        public long estimateSize() {
+            return CHANGE_BYTES + AddressBookDelta.estimateSize(target);
+        }
+    }
+
+    /**
+     * The replacement of many events at once, made when a person linked to them is edited or deleted.
+     */
+    static final class EventsReplaced implements Change {
+        private final List<Event> targets;
+        private final List<Event> editedEvents;
+
+        EventsReplaced(List<Event> targets, List<Event> editedEvents) {
+            this.targets = List.copyOf(targets);
+            this.editedEvents = List.copyOf(editedEvents);
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.replaceEvents(editedEvents, targets);
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = CHANGE_BYTES;
+            for (Event target : targets) {
+                size += AddressBookDelta.estimateSize(target);
+            }
+            return size;
+        }
+    }
+
+    static final class EventsReset implements Change {
+        private final PersistentList<Event> previousEvents;
+
+        EventsReset(PersistentList<Event> previousEvents) {
+            this.previousEvents = previousEvents;
+        }
+
+        @Override
+        public void revert(AddressBook addressBook) {
+            addressBook.setEvents(previousEvents.asList());
+        }
+
+        @Override
+        public long estimateSize() {
+            long size = CHANGE_BYTES;
+            for (Event event : previousEvents) {
+                size += LIST_NODE_BYTES + AddressBookDelta.estimateSize(event);
+            }
+            return size;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package trackup.model;
+
+import static java.util.Objects.requireNonNull;
+import static trackup.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import trackup.commons.util.ToStringBuilder;
+
+/**
+ * The undo and redo history of an {@code AddressBook}, kept as the {@code AddressBookDelta} of each command.
+ *
+ * The history is bounded by the estimated memory held by its deltas rather than by their number, so that many small
+ * commands can be undone, while a few large ones, such as clearing a big address book, cannot use up the heap.
+ * When over the bound, the oldest deltas to undo are dropped first, then the deltas to redo furthest away.
+ */
+public class AddressBookHistory {
+
+    /** The default bound on the estimated memory held by the history, in bytes. */
+    public static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+
+    private final long maxBytes;
+    // The first delta of each deque is the next to undo or redo
+    private final Deque<AddressBookDelta> undoDeltas = new ArrayDeque<>();
+    private final Deque<AddressBookDelta> redoDeltas = new ArrayDeque<>();
+    private long estimatedSize;
+
+    /**
+     * Creates an empty history holding at most about {@code maxBytes} bytes of deltas.
+     */
+    public AddressBookHistory(long maxBytes) {
+        checkArgument(maxBytes > 0, "The history must be able to hold some deltas.");
+        this.maxBytes = maxBytes;
+    }
+
+    public AddressBookHistory() {
+        this(DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Adds {@code delta}, the latest changes made to the address book, as the next to undo, and clears the deltas
+     * to redo. An empty delta is ignored. A delta too big to fit in the history clears the history, as the deltas
+     * before it can no longer be undone without it.
+     */
+    public void add(AddressBookDelta delta) {
+        requireNonNull(delta);
+        if (delta.isEmpty()) {
+            return;
+        }
+
+        redoDeltas.forEach(this::release);
+        redoDeltas.clear();
+        if (delta.getEstimatedSize() > maxBytes) {
+            clear();
+            return;
+        }
+        push(undoDeltas, delta);
+    }
+
+    public boolean canUndo() {
+        return !undoDeltas.isEmpty();
+    }
+
+    public boolean canRedo() {
+        return !redoDeltas.isEmpty();
+    }
+
+    /**
+     * Reverts the latest changes to {@code addressBook} that have not been undone, and keeps them to redo.
+     *
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    public void undo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (!canUndo()) {
+            throw new IllegalStateException("There is nothing to undo.");
+        }
+        AddressBookDelta delta = undoDeltas.pop();
+        release(delta);
+        push(redoDeltas, addressBook.revert(delta));
+    }
+
+    /**
+     * Reapplies the latest changes to {@code addressBook} that have been undone, and keeps them to undo again.
+     *
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    public void redo(AddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (!canRedo()) {
+            throw new IllegalStateException("There is nothing to redo.");
+        }
+        AddressBookDelta delta = redoDeltas.pop();
+        release(delta);
+        push(undoDeltas, addressBook.revert(delta));
+    }
+
+    /**
+     * Removes every delta from the history.
+     */
+    public void clear() {
+        undoDeltas.clear();
+        redoDeltas.clear();
+        estimatedSize = 0;
+    }
+
+    /**
+     * Returns the estimated memory held by the deltas in the history, in bytes.
+     */
+    public long getEstimatedSize() {
+        return estimatedSize;
+    }
+
+    private void push(Deque<AddressBookDelta> deltas, AddressBookDelta delta) {
+        deltas.push(delta);
+        estimatedSize += delta.getEstimatedSize();
+        while (estimatedSize > maxBytes) {
+            release((undoDeltas.isEmpty() ? redoDeltas : undoDeltas).removeLast());
+        }
+    }
+
+    private void release(AddressBookDelta delta) {
+        estimatedSize -= delta.getEstimatedSize();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("undoDeltas", undoDeltas.size())
+                .add("redoDeltas", redoDeltas.size())
+                .add("estimatedSize", estimatedSize)
+                .add("maxBytes", maxBytes)
+                .toString();
+    }
+}
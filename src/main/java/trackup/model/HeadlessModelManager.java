@@ -0,0 +1,297 @@
+package trackup.model;
+
+import static java.util.Objects.requireNonNull;
+import static trackup.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import trackup.commons.core.GuiSettings;
+import trackup.commons.core.LogsCenter;
+import trackup.model.event.Event;
+import trackup.model.note.Note;
+import trackup.model.person.FuzzySearchResult;
+import trackup.model.person.Person;
+
+/**
+ * Represents the in-memory model of the address book data, without the live JavaFX views needed by the GUI.
+ * Nothing listens to the lists of the address book, so changing the data does not update any view. Instead, the
+ * filtered person list is worked out from the address book when it is asked for after a change.
+ */
+public class HeadlessModelManager implements Model {
+    private static final Logger logger = LogsCenter.getLogger(HeadlessModelManager.class);
+
+    private final AddressBook addressBook;
+    private final UserPrefs userPrefs;
+    private final AddressBookHistory addressBookHistory = new AddressBookHistory();
+    private Predicate<Person> predicate = PREDICATE_SHOW_ALL_PERSONS;
+    private Comparator<Person> comparator;
+    // Orders the filtered persons instead of the comparator until the filter or the sort order is next updated
+    private Comparator<Person> ranking;
+    private ObservableList<Person> filteredPersons;
+    private long filteredPersonsVersion;
+
+    /**
+     * Initializes a HeadlessModelManager with the given addressBook and userPrefs.
+     */
+    public HeadlessModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
+        requireAllNonNull(addressBook, userPrefs);
+
+        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
+
+        this.addressBook = new AddressBook(addressBook);
+        this.userPrefs = new UserPrefs(userPrefs);
+        this.addressBook.startRecording();
+    }
+
+    public HeadlessModelManager() {
+        this(new AddressBook(), new UserPrefs());
+    }
+
+    //=========== UserPrefs ==================================================================================
+
+    @Override
+    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
+        requireNonNull(userPrefs);
+        this.userPrefs.resetData(userPrefs);
+    }
+
+    @Override
+    public ReadOnlyUserPrefs getUserPrefs() {
+        return userPrefs;
+    }
+
+    @Override
+    public GuiSettings getGuiSettings() {
+        return userPrefs.getGuiSettings();
+    }
+
+    @Override
+    public void setGuiSettings(GuiSettings guiSettings) {
+        requireNonNull(guiSettings);
+        userPrefs.setGuiSettings(guiSettings);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return userPrefs.getAddressBookFilePath();
+    }
+
+    @Override
+    public void setAddressBookFilePath(Path addressBookFilePath) {
+        requireNonNull(addressBookFilePath);
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+    }
+
+    //=========== AddressBook ================================================================================
+
+    @Override
+    public void setAddressBook(ReadOnlyAddressBook addressBook) {
+        this.addressBook.resetData(addressBook);
+    }
+
+    @Override
+    public ReadOnlyAddressBook getAddressBook() {
+        return addressBook;
+    }
+
+    @Override
+    public long getAddressBookVersion() {
+        return addressBook.getVersion();
+    }
+
+    @Override
+    public boolean hasPerson(Person person) {
+        requireNonNull(person);
+        return addressBook.hasPerson(person);
+    }
+
+    @Override
+    public void deletePerson(Person target) {
+        addressBook.removePerson(target);
+    }
+
+    @Override
+    public void addPerson(Person person) {
+        addressBook.addPerson(person);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
+    @Override
+    public void setPerson(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+
+        addressBook.setPerson(target, editedPerson);
+    }
+
+    @Override
+    public void markNotesChanged(Person person, List<Note> previousNotes) {
+        requireAllNonNull(person, previousNotes);
+        addressBook.markNotesChanged(person, previousNotes);
+    }
+
+    @Override
+    public Set<Person> searchPersons(String keyword) {
+        requireNonNull(keyword);
+        return addressBook.searchPersons(keyword);
+    }
+
+    @Override
+    public FuzzySearchResult searchPersonsFuzzy(String keyword) {
+        requireNonNull(keyword);
+        return addressBook.searchPersonsFuzzy(keyword);
+    }
+
+    //=========== Filtered Person List Accessors =============================================================
+
+    /**
+     * Returns an unmodifiable list of the persons in the address book that match the current predicate, in the order
+     * of the current ranking, if any, or else of the current comparator. The list is not updated by later changes;
+     * call this again to see them.
+     */
+    @Override
+    public ObservableList<Person> getFilteredPersonList() {
+        if (filteredPersons == null || filteredPersonsVersion != addressBook.getVersion()) {
+            List<Person> persons = new ArrayList<>();
+            for (Person person : addressBook.getPersonList()) {
+                if (predicate.test(person)) {
+                    persons.add(person);
+                }
+            }
+            Comparator<Person> order = ranking != null ? ranking : comparator;
+            if (order != null) {
+                persons.sort(order);
+            }
+            filteredPersons = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+            filteredPersonsVersion = addressBook.getVersion();
+        }
+        return filteredPersons;
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate) {
+        requireNonNull(predicate);
+        this.predicate = predicate;
+        ranking = null;
+        filteredPersons = null;
+    }
+
+    @Override
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> ranking) {
+        requireAllNonNull(predicate, ranking);
+        this.predicate = predicate;
+        this.ranking = ranking;
+        filteredPersons = null;
+    }
+
+    @Override
+    public void sortFilteredPersonList(Comparator<Person> comparator) {
+        this.comparator = comparator;
+        ranking = null;
+        filteredPersons = null;
+    }
+
+    //=========== Event ======================================================================================
+
+    @Override
+    public boolean hasEvent(Event event) {
+        requireNonNull(event);
+        return addressBook.hasEvent(event);
+    }
+
+    @Override
+    public void addEvent(Event event) {
+        requireNonNull(event);
+        addressBook.addEvent(event);
+    }
+
+    @Override
+    public void deleteEvent(Event event) {
+        requireNonNull(event);
+        addressBook.deleteEvent(event);
+    }
+
+    @Override
+    public void setEvent(Event target, Event editedEvent) {
+        requireAllNonNull(target, editedEvent);
+
+        addressBook.setEvent(target, editedEvent);
+    }
+
+    @Override
+    public void removeContactFromEvents(Person person) {
+        requireNonNull(person);
+        addressBook.removeContactFromEvents(person);
+    }
+
+    @Override
+    public void replaceContactInEvents(Person target, Person editedPerson) {
+        requireAllNonNull(target, editedPerson);
+        addressBook.replaceContactInEvents(target, editedPerson);
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return addressBook.getEventList();
+    }
+
+    //=========== History ====================================================================================
+
+    @Override
+    public void commitAddressBook() {
+        addressBookHistory.add(addressBook.takeRecordedChanges());
+    }
+
+    @Override
+    public boolean canUndoAddressBook() {
+        return addressBookHistory.canUndo();
+    }
+
+    @Override
+    public boolean canRedoAddressBook() {
+        return addressBookHistory.canRedo();
+    }
+
+    @Override
+    public void undoAddressBook() {
+        commitAddressBook();
+        addressBookHistory.undo(addressBook);
+    }
+
+    @Override
+    public void redoAddressBook() {
+        commitAddressBook();
+        addressBookHistory.redo(addressBook);
+    }
+
+    @Override
+    public void clearAddressBookHistory() {
+        addressBook.takeRecordedChanges();
+        addressBookHistory.clear();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof HeadlessModelManager)) {
+            return false;
+        }
+
+        HeadlessModelManager otherModelManager = (HeadlessModelManager) other;
+        return addressBook.equals(otherModelManager.addressBook)
+                && userPrefs.equals(otherModelManager.userPrefs)
+                && getFilteredPersonList().equals(otherModelManager.getFilteredPersonList());
+    }
+
+}
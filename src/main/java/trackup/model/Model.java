@@ -2,11 +2,15 @@ package trackup.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import trackup.commons.core.GuiSettings;
 import trackup.model.event.Event;
+import trackup.model.note.Note;
+import trackup.model.person.FuzzySearchResult;
 import trackup.model.person.Person;
 
 /**
@@ -54,6 +58,11 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the modification version of the address book, which increases whenever the address book changes.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -78,6 +87,26 @@ public interface Model {
      */
     void setPerson(Person target, Person editedPerson);
 
+    /**
+     * Returns the persons in the address book with a name, phone, email, address, tag or category containing
+     * {@code keyword}, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    Set<Person> searchPersons(String keyword);
+
+    /**
+     * Returns the persons in the address book with a word in their name, email, address or tags similar to a word of
+     * {@code keyword} despite typos, each with its similarity to {@code keyword}, from just above 0 to 1.
+     * The returned result compares persons by reference.
+     */
+    FuzzySearchResult searchPersonsFuzzy(String keyword);
+
+    /**
+     * Records that the notes of {@code person} have been changed in place from {@code previousNotes}.
+     * {@code person} must exist in the address book.
+     */
+    void markNotesChanged(Person person, List<Note> previousNotes);
+
     /** Returns an unmodifiable view of the filtered person list */
     ObservableList<Person> getFilteredPersonList();
 
@@ -87,6 +116,14 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered person list to filter by the given {@code predicate}, and orders the
+     * persons by {@code ranking} instead of the current sort order, until the filter or the sort order is next
+     * updated. Persons ranked equally keep their current order.
+     * @throws NullPointerException if {@code predicate} or {@code ranking} is null.
+     */
+    void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> ranking);
+
     /**
      * Sort the filtered person list under current filter by the given {@code comparator}.
      * @throws NullPointerException if {@code comparator} is null.
@@ -117,7 +154,52 @@ public interface Model {
      */
     void setEvent(Event target, Event editedEvent);
 
+    /**
+     * Removes {@code person} from the contacts of every event linked to it.
+     */
+    void removeContactFromEvents(Person person);
+
+    /**
+     * Replaces {@code target} with {@code editedPerson} in the contacts of every event linked to {@code target}.
+     */
+    void replaceContactInEvents(Person target, Person editedPerson);
+
     /** Returns an unmodifiable view of the event list */
     ObservableList<Event> getEventList();
 
+    /**
+     * Saves the changes made to the address book since the last commit as one step in its history, which can be
+     * undone. Nothing is saved if there are no changes.
+     */
+    void commitAddressBook();
+
+    /**
+     * Returns true if there is a committed step in the address book history that can be undone.
+     */
+    boolean canUndoAddressBook();
+
+    /**
+     * Returns true if there is an undone step in the address book history that can be redone.
+     */
+    boolean canRedoAddressBook();
+
+    /**
+     * Undoes the latest step in the address book history.
+     * Changes not yet committed are committed first, as the latest step.
+     * @throws IllegalStateException if there is nothing to undo.
+     */
+    void undoAddressBook();
+
+    /**
+     * Redoes the latest undone step in the address book history.
+     * Changes not yet committed are committed first, which leaves nothing to redo if there are any.
+     * @throws IllegalStateException if there is nothing to redo.
+     */
+    void redoAddressBook();
+
+    /**
+     * Removes every step from the address book history, and discards any changes not yet committed.
+     */
+    void clearAddressBookHistory();
+
 }
@@ -3,121 +3,38 @@ package trackup.model;
 import static java.util.Objects.requireNonNull;
 import static trackup.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.nio.file.Path;
 import java.util.Comparator;
 import java.util.function.Predicate;
-import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
-import javafx.collections.transformation.SortedList;
-import trackup.commons.core.GuiSettings;
-import trackup.commons.core.LogsCenter;
-import trackup.model.event.Event;
 import trackup.model.person.Person;
 
 /**
- * Represents the in-memory model of the address book data.
+ * Represents the in-memory model of the address book data, with live JavaFX views of the filtered person list
+ * for the GUI to display.
  */
-public class ModelManager implements Model {
-    private static final Logger logger = LogsCenter.getLogger(ModelManager.class);
+public class ModelManager extends HeadlessModelManager {
 
-    private final AddressBook addressBook;
-    private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
-    private final SortedList<Person> sortedFilteredPersons;
-    private final ObservableList<Event> eventList;
+    private final SortedPersonList sortedFilteredPersons;
+    private Comparator<Person> comparator;
+    // Whether the sorted list is ordered by a ranking instead of the comparator
+    private boolean isRanked;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
     public ModelManager(ReadOnlyAddressBook addressBook, ReadOnlyUserPrefs userPrefs) {
-        requireAllNonNull(addressBook, userPrefs);
-
-        logger.fine("Initializing with address book: " + addressBook + " and user prefs " + userPrefs);
-
-        this.addressBook = new AddressBook(addressBook);
-        this.userPrefs = new UserPrefs(userPrefs);
-        this.filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
-        this.sortedFilteredPersons = new SortedList<>(filteredPersons);
-        this.eventList = this.addressBook.getEventList();
+        super(addressBook, userPrefs);
+        this.filteredPersons = new FilteredList<>(getAddressBook().getPersonList());
+        this.sortedFilteredPersons = new SortedPersonList(filteredPersons);
     }
 
     public ModelManager() {
         this(new AddressBook(), new UserPrefs());
     }
 
-    //=========== UserPrefs ==================================================================================
-
-    @Override
-    public void setUserPrefs(ReadOnlyUserPrefs userPrefs) {
-        requireNonNull(userPrefs);
-        this.userPrefs.resetData(userPrefs);
-    }
-
-    @Override
-    public ReadOnlyUserPrefs getUserPrefs() {
-        return userPrefs;
-    }
-
-    @Override
-    public GuiSettings getGuiSettings() {
-        return userPrefs.getGuiSettings();
-    }
-
-    @Override
-    public void setGuiSettings(GuiSettings guiSettings) {
-        requireNonNull(guiSettings);
-        userPrefs.setGuiSettings(guiSettings);
-    }
-
-    @Override
-    public Path getAddressBookFilePath() {
-        return userPrefs.getAddressBookFilePath();
-    }
-
-    @Override
-    public void setAddressBookFilePath(Path addressBookFilePath) {
-        requireNonNull(addressBookFilePath);
-        userPrefs.setAddressBookFilePath(addressBookFilePath);
-    }
-
-    //=========== AddressBook ================================================================================
-
-    @Override
-    public void setAddressBook(ReadOnlyAddressBook addressBook) {
-        this.addressBook.resetData(addressBook);
-    }
-
-    @Override
-    public ReadOnlyAddressBook getAddressBook() {
-        return addressBook;
-    }
-
-    @Override
-    public boolean hasPerson(Person person) {
-        requireNonNull(person);
-        return addressBook.hasPerson(person);
-    }
-
-    @Override
-    public void deletePerson(Person target) {
-        addressBook.removePerson(target);
-    }
-
-    @Override
-    public void addPerson(Person person) {
-        addressBook.addPerson(person);
-        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
-    }
-
-    @Override
-    public void setPerson(Person target, Person editedPerson) {
-        requireAllNonNull(target, editedPerson);
-
-        addressBook.setPerson(target, editedPerson);
-    }
-
     //=========== Filtered Person List Accessors =============================================================
 
     /**
@@ -129,65 +46,33 @@ public class ModelManager implements Model {
         return sortedFilteredPersons;
     }
 
-
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
+        if (isRanked) {
+            sortedFilteredPersons.setComparator(comparator);
+            isRanked = false;
+        }
+        // The list is kept filtered as persons change, so applying the same predicate again would change nothing
+        if (filteredPersons.getPredicate() == predicate) {
+            return;
+        }
         filteredPersons.setPredicate(predicate);
     }
 
     @Override
-    public void sortFilteredPersonList(Comparator<Person> comparator) {
-        sortedFilteredPersons.setComparator(comparator);
-    }
-
-    //=========== Event ======================================================================================
-
-    @Override
-    public boolean hasEvent(Event event) {
-        requireNonNull(event);
-        return addressBook.hasEvent(event);
-    }
-
-    @Override
-    public void addEvent(Event event) {
-        requireNonNull(event);
-        addressBook.addEvent(event);
-    }
-
-    @Override
-    public void deleteEvent(Event event) {
-        requireNonNull(event);
-        addressBook.deleteEvent(event);
-    }
-
-    @Override
-    public void setEvent(Event target, Event editedEvent) {
-        requireAllNonNull(target, editedEvent);
-
-        addressBook.setEvent(target, editedEvent);
-    }
-
-    @Override
-    public ObservableList<Event> getEventList() {
-        return eventList;
+    public void updateFilteredPersonList(Predicate<Person> predicate, Comparator<Person> ranking) {
+        requireAllNonNull(predicate, ranking);
+        // Filtered first, so that the ranking only compares the persons it was made for
+        filteredPersons.setPredicate(predicate);
+        sortedFilteredPersons.setComparator(ranking);
+        isRanked = true;
     }
 
     @Override
-    public boolean equals(Object other) {
-        if (other == this) {
-            return true;
-        }
-
-        // instanceof handles nulls
-        if (!(other instanceof ModelManager)) {
-            return false;
-        }
-
-        ModelManager otherModelManager = (ModelManager) other;
-        return addressBook.equals(otherModelManager.addressBook)
-                && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredPersons.equals(otherModelManager.filteredPersons);
+    public void sortFilteredPersonList(Comparator<Person> comparator) {
+        this.comparator = comparator;
+        isRanked = false;
+        sortedFilteredPersons.setComparator(comparator);
     }
-
 }
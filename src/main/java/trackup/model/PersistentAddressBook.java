@@ -0,0 +1,124 @@
+package trackup.model;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import trackup.commons.util.PersistentList;
+import trackup.commons.util.ToStringBuilder;
+import trackup.model.event.Event;
+import trackup.model.person.Person;
+
+/**
+ * An immutable version of the persons and events of an address book, held in {@code PersistentList}s.
+ * A changed version shares everything the change does not touch with the version it was made from, so each change
+ * takes O(log n) time, and every version stays readable. A version can be read from any thread, and is not affected
+ * by later changes. The persons and events themselves are shared with the address book it was taken from.
+ *
+ * Callers are responsible for keeping the persons and events free of duplicates when making new versions.
+ */
+public final class PersistentAddressBook implements ReadOnlyAddressBook {
+
+    private static final PersistentAddressBook EMPTY =
+            new PersistentAddressBook(PersistentList.empty(), PersistentList.empty());
+
+    private final PersistentList<Person> persons;
+    private final PersistentList<Event> events;
+    private final ObservableList<Person> personList;
+    private final ObservableList<Event> eventList;
+
+    /**
+     * Creates a {@code PersistentAddressBook} with {@code persons} and {@code events}.
+     */
+    public PersistentAddressBook(PersistentList<Person> persons, PersistentList<Event> events) {
+        requireNonNull(persons);
+        requireNonNull(events);
+        this.persons = persons;
+        this.events = events;
+        this.personList = FXCollections.unmodifiableObservableList(FXCollections.observableList(persons.asList()));
+        this.eventList = FXCollections.unmodifiableObservableList(FXCollections.observableList(events.asList()));
+    }
+
+    /**
+     * Returns the version without persons or events.
+     */
+    public static PersistentAddressBook empty() {
+        return EMPTY;
+    }
+
+    /**
+     * Returns a version with the current persons and events of {@code addressBook}, without copying them if
+     * {@code addressBook} is a {@code PersistentAddressBook} or an {@code AddressBook}.
+     */
+    public static PersistentAddressBook of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook instanceof PersistentAddressBook persistentAddressBook) {
+            return persistentAddressBook;
+        }
+        if (addressBook instanceof AddressBook modifiableAddressBook) {
+            return modifiableAddressBook.getSnapshot();
+        }
+        return new PersistentAddressBook(PersistentList.copyOf(addressBook.getPersonList()),
+                PersistentList.copyOf(addressBook.getEventList()));
+    }
+
+    public PersistentList<Person> getPersons() {
+        return persons;
+    }
+
+    public PersistentList<Event> getEvents() {
+        return events;
+    }
+
+    /**
+     * Returns a version with the events of this version and {@code persons}.
+     */
+    public PersistentAddressBook withPersons(PersistentList<Person> persons) {
+        return new PersistentAddressBook(persons, events);
+    }
+
+    /**
+     * Returns a version with the persons of this version and {@code events}.
+     */
+    public PersistentAddressBook withEvents(PersistentList<Event> events) {
+        return new PersistentAddressBook(persons, events);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return personList;
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return eventList;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersistentAddressBook)) {
+            return false;
+        }
+
+        PersistentAddressBook otherAddressBook = (PersistentAddressBook) other;
+        return persons.equals(otherAddressBook.persons) && events.equals(otherAddressBook.events);
+    }
+
+    @Override
+    public int hashCode() {
+        return persons.hashCode() + events.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("persons", persons)
+                .add("events", events)
+                .toString();
+    }
+}
@@ -2,6 +2,7 @@ package trackup.model;
 
 import java.nio.file.Path;
 
+import trackup.commons.core.DataFormat;
 import trackup.commons.core.GuiSettings;
 
 /**
@@ -13,4 +14,6 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    DataFormat getAddressBookFormat();
+
 }
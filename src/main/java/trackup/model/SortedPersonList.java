@@ -0,0 +1,265 @@
+package trackup.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javafx.collections.ListChangeListener.Change;
+import javafx.collections.ObservableList;
+import javafx.collections.transformation.TransformationList;
+import trackup.model.person.Person;
+import trackup.model.person.PersonComparator;
+
+/**
+ * An unmodifiable view of a list of persons, sorted by a comparator that can be changed at any time.
+ * Without a comparator the view keeps the order of the source list.
+ *
+ * Unlike {@link javafx.collections.transformation.SortedList}, the sort keys of a {@link PersonComparator} are
+ * extracted once for each person instead of on every comparison, large lists are sorted in parallel, and persons
+ * added to or removed from the source are inserted into or removed from their sorted position without re-sorting the
+ * rest of the view. Persons that compare equal keep the order in which they entered the view.
+ */
+public class SortedPersonList extends TransformationList<Person, Person> {
+
+    /** Lists at least this long are sorted with a parallel sort. */
+    static final int PARALLEL_SORT_THRESHOLD = 1 << 13;
+
+    /** Source changes adding or removing more persons than this re-sort the whole view instead. */
+    static final int INCREMENTAL_CHANGE_LIMIT = 256;
+
+    private final List<SortEntry> entries = new ArrayList<>();
+    private final Map<Person, SortEntry> entriesByPerson = new IdentityHashMap<>();
+    private Comparator<Person> comparator;
+    private Comparator<SortEntry> entryComparator;
+    private long nextSequence;
+
+    /**
+     * Creates a view of {@code source} in the order of the source.
+     */
+    public SortedPersonList(ObservableList<Person> source) {
+        super(source);
+        rebuild();
+    }
+
+    public Comparator<Person> getComparator() {
+        return comparator;
+    }
+
+    /**
+     * Sorts the view by {@code comparator}, or restores the order of the source if {@code comparator} is null.
+     */
+    public void setComparator(Comparator<Person> comparator) {
+        this.comparator = comparator;
+        this.entryComparator = comparator == null ? null : toEntryComparator(comparator);
+
+        List<Person> removed = new ArrayList<>(this);
+        rebuild();
+        beginChange();
+        nextReplace(0, size(), removed);
+        endChange();
+    }
+
+    @Override
+    public Person get(int index) {
+        return entries.get(index).person;
+    }
+
+    @Override
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     * When the view is sorted, this looks the person up in the source and takes time linear in its size.
+     */
+    @Override
+    public int getSourceIndex(int index) {
+        if (comparator == null) {
+            return index;
+        }
+        return getSource().indexOf(get(index));
+    }
+
+    @Override
+    public int getViewIndex(int index) {
+        if (comparator == null) {
+            return index;
+        }
+        return findPosition(entriesByPerson.get(getSource().get(index)));
+    }
+
+    @Override
+    protected void sourceChanged(Change<? extends Person> change) {
+        beginChange();
+        if (comparator == null) {
+            while (change.next()) {
+                applyInSourceOrder(change);
+            }
+        } else if (countAddedAndRemoved(change) > INCREMENTAL_CHANGE_LIMIT) {
+            List<Person> removed = new ArrayList<>(this);
+            rebuild();
+            nextReplace(0, size(), removed);
+        } else {
+            while (change.next()) {
+                applyInSortedOrder(change);
+            }
+        }
+        endChange();
+    }
+
+    /**
+     * Applies one step of a source change to a view that keeps the order of the source.
+     */
+    private void applyInSourceOrder(Change<? extends Person> change) {
+        int from = change.getFrom();
+        int to = change.getTo();
+        if (change.wasPermutated()) {
+            List<SortEntry> permuted = new ArrayList<>(entries.subList(from, to));
+            int[] permutation = new int[to - from];
+            for (int i = from; i < to; i++) {
+                permutation[i - from] = change.getPermutation(i);
+                permuted.set(change.getPermutation(i) - from, entries.get(i));
+            }
+            Collections.copy(entries.subList(from, to), permuted);
+            nextPermutation(from, to, permutation);
+            return;
+        }
+        if (change.wasUpdated()) {
+            for (int i = from; i < to; i++) {
+                nextUpdate(i);
+            }
+            return;
+        }
+
+        List<SortEntry> removedEntries = entries.subList(from, from + change.getRemovedSize());
+        removedEntries.forEach(entry -> entriesByPerson.remove(entry.person));
+        removedEntries.clear();
+        List<SortEntry> addedEntries = new ArrayList<>();
+        for (Person person : change.getAddedSubList()) {
+            SortEntry entry = createEntry(person, 0);
+            entriesByPerson.put(person, entry);
+            addedEntries.add(entry);
+        }
+        entries.addAll(from, addedEntries);
+
+        List<Person> removed = new ArrayList<>(change.getRemoved());
+        if (removed.isEmpty()) {
+            nextAdd(from, to);
+        } else if (from == to) {
+            nextRemove(from, removed);
+        } else {
+            nextReplace(from, to, removed);
+        }
+    }
+
+    /**
+     * Applies one step of a source change to a sorted view, moving only the persons that were added or removed.
+     */
+    private void applyInSortedOrder(Change<? extends Person> change) {
+        if (change.wasPermutated()) {
+            return;
+        }
+        if (change.wasUpdated()) {
+            for (int i = change.getFrom(); i < change.getTo(); i++) {
+                nextUpdate(findPosition(entriesByPerson.get(getSource().get(i))));
+            }
+            return;
+        }
+
+        for (Person person : change.getRemoved()) {
+            SortEntry entry = entriesByPerson.remove(person);
+            int position = findPosition(entry);
+            entries.remove(position);
+            nextRemove(position, person);
+        }
+        for (Person person : change.getAddedSubList()) {
+            SortEntry entry = createEntry(person, nextSequence++);
+            entriesByPerson.put(person, entry);
+            int position = -Collections.binarySearch(entries, entry, entryComparator) - 1;
+            entries.add(position, entry);
+            nextAdd(position, position + 1);
+        }
+    }
+
+    /**
+     * Replaces the contents of the view with the persons in the source, sorted by the current comparator.
+     */
+    private void rebuild() {
+        ObservableList<? extends Person> source = getSource();
+        SortEntry[] sorted = new SortEntry[source.size()];
+        boolean isParallel = sorted.length >= PARALLEL_SORT_THRESHOLD;
+        if (isParallel) {
+            Arrays.parallelSetAll(sorted, i -> createEntry(source.get(i), i));
+        } else {
+            Arrays.setAll(sorted, i -> createEntry(source.get(i), i));
+        }
+
+        if (entryComparator != null && isParallel) {
+            Arrays.parallelSort(sorted, entryComparator);
+        } else if (entryComparator != null) {
+            Arrays.sort(sorted, entryComparator);
+        }
+
+        entries.clear();
+        entries.addAll(Arrays.asList(sorted));
+        entriesByPerson.clear();
+        entries.forEach(entry -> entriesByPerson.put(entry.person, entry));
+        nextSequence = sorted.length;
+    }
+
+    /**
+     * Returns the position of {@code entry} in the sorted view.
+     */
+    private int findPosition(SortEntry entry) {
+        assert entry != null : "Person is not in the view.";
+        int position = Collections.binarySearch(entries, entry, entryComparator);
+        assert position >= 0 : "Person is not in its sorted position.";
+        return position;
+    }
+
+    private int countAddedAndRemoved(Change<? extends Person> change) {
+        int count = 0;
+        while (change.next()) {
+            count += change.getAddedSize() + change.getRemovedSize();
+        }
+        change.reset();
+        return count;
+    }
+
+    private SortEntry createEntry(Person person, long sequence) {
+        Object[] keys = comparator instanceof PersonComparator personComparator
+                ? personComparator.extractKeys(person)
+                : null;
+        return new SortEntry(person, keys, sequence);
+    }
+
+    /**
+     * Returns a comparator of entries that orders them by {@code comparator}, breaking ties by their sequence.
+     */
+    private static Comparator<SortEntry> toEntryComparator(Comparator<Person> comparator) {
+        Comparator<SortEntry> byPerson = comparator instanceof PersonComparator personComparator
+                ? (entry, otherEntry) -> personComparator.compareKeys(entry.keys, otherEntry.keys)
+                : (entry, otherEntry) -> comparator.compare(entry.person, otherEntry.person);
+        return byPerson.thenComparingLong(entry -> entry.sequence);
+    }
+
+    /**
+     * A person in the view together with its sort keys and the order in which it entered the view.
+     */
+    private static class SortEntry {
+        private final Person person;
+        private final Object[] keys;
+        private final long sequence;
+
+        SortEntry(Person person, Object[] keys, long sequence) {
+            this.person = person;
+            this.keys = keys;
+            this.sequence = sequence;
+        }
+    }
+}
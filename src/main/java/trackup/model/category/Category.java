@@ -3,52 +3,55 @@ package trackup.model.category;
 import static java.util.Objects.requireNonNull;
 import static trackup.commons.util.AppUtil.checkArgument;
 
+import java.util.HashMap;
+import java.util.Map;
+
 /**
  * Represents a Category in the address book.
- * Guarantees: immutable; value is one of the predefined valid categories.
+ * Guarantees: immutable; value is one of the predefined valid categories; there is a single instance for each
+ * category, so equal categories are the same object.
  */
 public class Category {
 
     public static final String MESSAGE_CONSTRAINTS = "Category should be one of: Client, Investor, Partner, Other";
     private static final String[] VALID_CATEGORIES = {"Client", "Investor", "Partner", "Other"};
 
+    private static final Map<String, Category> CATEGORIES = new HashMap<>();
+
+    static {
+        for (String validCategory : VALID_CATEGORIES) {
+            CATEGORIES.put(validCategory, new Category(validCategory));
+        }
+    }
+
     public final String categoryName;
 
+    private Category(String categoryName) {
+        this.categoryName = categoryName;
+    }
+
     /**
-     * Constructs a {@code Category}.
+     * Returns the {@code Category} with the given name.
      *
      * @param categoryName A valid category name.
      */
-    public Category(String categoryName) {
+    public static Category of(String categoryName) {
         requireNonNull(categoryName);
         checkArgument(isValidCategoryName(categoryName), MESSAGE_CONSTRAINTS);
-        this.categoryName = categoryName;
+        return CATEGORIES.get(categoryName);
     }
 
     /**
      * Returns true if a given string is a valid category name.
      */
     public static boolean isValidCategoryName(String test) {
-        for (String validCategory : VALID_CATEGORIES) {
-            if (validCategory.equals(test)) {
-                return true;
-            }
-        }
-        return false;
+        return CATEGORIES.containsKey(test);
     }
 
     @Override
     public boolean equals(Object other) {
-        if (other == this) {
-            return true;
-        }
-
-        if (!(other instanceof Category)) {
-            return false;
-        }
-
-        Category otherCategory = (Category) other;
-        return categoryName.equals(otherCategory.categoryName);
+        // There is only one instance for each category
+        return other == this;
     }
 
     @Override
@@ -0,0 +1,69 @@
+package trackup.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import trackup.model.person.Person;
+import trackup.model.person.PersonIdentity;
+
+/**
+ * A reverse index from the identity of each contact to the identities of the events linked to that contact.
+ * Lets the events of a contact be found without scanning every event in the calendar.
+ */
+public class ContactEventIndex {
+
+    private final Map<PersonIdentity, Set<EventIdentity>> eventsByContact = new HashMap<>();
+
+    /**
+     * Indexes {@code event} under each of its contacts.
+     */
+    public void add(Event event) {
+        requireNonNull(event);
+        EventIdentity eventIdentity = EventIdentity.of(event);
+        for (Person contact : event.getContacts()) {
+            eventsByContact.computeIfAbsent(PersonIdentity.of(contact), unused -> new HashSet<>()).add(eventIdentity);
+        }
+    }
+
+    /**
+     * Removes {@code event} from the index.
+     */
+    public void remove(Event event) {
+        requireNonNull(event);
+        EventIdentity eventIdentity = EventIdentity.of(event);
+        for (Person contact : event.getContacts()) {
+            PersonIdentity contactIdentity = PersonIdentity.of(contact);
+            Set<EventIdentity> linkedEvents = eventsByContact.get(contactIdentity);
+            if (linkedEvents == null) {
+                continue;
+            }
+            linkedEvents.remove(eventIdentity);
+            if (linkedEvents.isEmpty()) {
+                eventsByContact.remove(contactIdentity);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code events}.
+     */
+    public void setEvents(List<Event> events) {
+        requireNonNull(events);
+        eventsByContact.clear();
+        events.forEach(this::add);
+    }
+
+    /**
+     * Returns the identities of the events linked to a contact with the same identity as {@code person}.
+     */
+    public Set<EventIdentity> getEventIdentities(Person person) {
+        requireNonNull(person);
+        return Collections.unmodifiableSet(eventsByContact.getOrDefault(PersonIdentity.of(person), Set.of()));
+    }
+}
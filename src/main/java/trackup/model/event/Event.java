@@ -19,7 +19,10 @@ public class Event {
     private final String title;
     private final LocalDateTime startDateTime;
     private final LocalDateTime endDateTime;
-    private final Set<Person> contacts = new HashSet<>();
+    private final Set<Person> contacts;
+    private final EventIdentity identity;
+    // Events are immutable, and the hash codes of their contacts do not change, so the hash code is kept
+    private final int hash;
 
     /**
      * Constructs an {@code Event}.
@@ -34,7 +37,9 @@ public class Event {
         this.title = title;
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
-        this.contacts.addAll(contacts);
+        this.contacts = Collections.unmodifiableSet(new HashSet<>(contacts));
+        this.identity = new EventIdentity(title, startDateTime, endDateTime);
+        this.hash = Objects.hash(title, startDateTime, endDateTime, this.contacts);
     }
 
     public String getTitle() {
@@ -49,13 +54,20 @@ public class Event {
         return endDateTime;
     }
 
+    /**
+     * Returns the identity of this event, which is shared by every lookup keyed on it.
+     */
+    public EventIdentity getIdentity() {
+        return identity;
+    }
+
     /**
      * Returns an unmodifiable view of the contacts linked to this event.
      *
      * @return A set of contacts.
      */
     public Set<Person> getContacts() {
-        return Collections.unmodifiableSet(contacts);
+        return contacts;
     }
 
     /**
@@ -87,7 +99,8 @@ public class Event {
         }
 
         Event otherEvent = (Event) other;
-        return title.equals(otherEvent.title)
+        return hash == otherEvent.hash
+                && title.equals(otherEvent.title)
                 && startDateTime.equals(otherEvent.startDateTime)
                 && endDateTime.equals(otherEvent.endDateTime)
                 && contacts.equals(otherEvent.contacts);
@@ -95,7 +108,7 @@ public class Event {
 
     @Override
     public int hashCode() {
-        return Objects.hash(title, startDateTime, endDateTime, contacts);
+        return hash;
     }
 
     @Override
@@ -0,0 +1,82 @@
+package trackup.model.event;
+
+import static trackup.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import trackup.commons.util.ToStringBuilder;
+
+/**
+ * Represents the identity of an {@code Event}, i.e. the fields compared by {@link Event#isSameEvent(Event)}.
+ * Two events have equal identities if and only if they are the same event.
+ * Guarantees: immutable; fields are not null.
+ */
+public final class EventIdentity {
+
+    private final String title;
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+    private final int hash;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public EventIdentity(String title, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        requireAllNonNull(title, startDateTime, endDateTime);
+        this.title = title;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.hash = Objects.hash(title, startDateTime, endDateTime);
+    }
+
+    /**
+     * Returns the identity of the given {@code event}.
+     */
+    public static EventIdentity of(Event event) {
+        return event.getIdentity();
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public LocalDateTime getStartDateTime() {
+        return startDateTime;
+    }
+
+    public LocalDateTime getEndDateTime() {
+        return endDateTime;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof EventIdentity otherIdentity)) {
+            return false;
+        }
+
+        return hash == otherIdentity.hash
+                && title.equals(otherIdentity.title)
+                && startDateTime.equals(otherIdentity.startDateTime)
+                && endDateTime.equals(otherIdentity.endDateTime);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("title", title)
+                .add("startDateTime", startDateTime)
+                .add("endDateTime", endDateTime)
+                .toString();
+    }
+}
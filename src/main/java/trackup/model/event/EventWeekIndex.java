@@ -0,0 +1,86 @@
+package trackup.model.event;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An index of events by the week they start in, where a week runs from Monday to Sunday.
+ * Lets the events of one week be found without scanning every event in the calendar.
+ *
+ * Events are held by reference, and the events of a week are kept in the order they were added to the index.
+ */
+public class EventWeekIndex {
+
+    private final Map<LocalDate, List<Event>> eventsByWeek = new HashMap<>();
+
+    /**
+     * Returns the Monday starting the week that {@code date} is in.
+     */
+    public static LocalDate getWeekStart(LocalDate date) {
+        requireNonNull(date);
+        return date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+    }
+
+    /**
+     * Returns the Monday starting the week that {@code event} starts in.
+     */
+    public static LocalDate getWeekStart(Event event) {
+        requireNonNull(event);
+        return getWeekStart(event.getStartDateTime().toLocalDate());
+    }
+
+    /**
+     * Adds {@code event} to the week it starts in.
+     */
+    public void add(Event event) {
+        requireNonNull(event);
+        eventsByWeek.computeIfAbsent(getWeekStart(event), unused -> new ArrayList<>()).add(event);
+    }
+
+    /**
+     * Removes {@code event} from the index, if it is there.
+     */
+    public void remove(Event event) {
+        requireNonNull(event);
+        LocalDate weekStart = getWeekStart(event);
+        List<Event> events = eventsByWeek.get(weekStart);
+        if (events == null) {
+            return;
+        }
+
+        for (int i = 0; i < events.size(); i++) {
+            if (events.get(i) == event) {
+                events.remove(i);
+                break;
+            }
+        }
+        if (events.isEmpty()) {
+            eventsByWeek.remove(weekStart);
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code events}.
+     */
+    public void setEvents(List<Event> events) {
+        requireNonNull(events);
+        eventsByWeek.clear();
+        events.forEach(this::add);
+    }
+
+    /**
+     * Returns the events starting in the week that {@code date} is in.
+     */
+    public List<Event> getEvents(LocalDate date) {
+        requireNonNull(date);
+        return Collections.unmodifiableList(eventsByWeek.getOrDefault(getWeekStart(date), List.of()));
+    }
+}
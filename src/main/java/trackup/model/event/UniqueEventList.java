@@ -1,10 +1,16 @@
 package trackup.model.event;
 
+import static java.util.Objects.checkIndex;
 import static java.util.Objects.requireNonNull;
+import static trackup.commons.util.AppUtil.checkArgument;
 import static trackup.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +24,9 @@ import trackup.model.event.exceptions.EventNotFoundException;
  * However, the removal of an event uses {@code Event#equals(Object)} to ensure that the
  * exact event instance is removed.
  *
+ * Alongside the observable list, a hash index maps each {@link EventIdentity} to the position of its event in the
+ * list, so that identity checks and position lookups do not need to scan the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Event#isSameEvent(Event)
@@ -27,13 +36,14 @@ public class UniqueEventList implements Iterable<Event> {
     private final ObservableList<Event> internalList = FXCollections.observableArrayList();
     private final ObservableList<Event> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<EventIdentity, Integer> positionIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent event as the given argument.
      */
     public boolean contains(Event toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSameEvent);
+        return positionIndex.containsKey(EventIdentity.of(toCheck));
     }
 
     /**
@@ -42,12 +52,28 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void add(Event toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (positionIndex.putIfAbsent(EventIdentity.of(toAdd), internalList.size()) != null) {
             throw new DuplicateEventException();
         }
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts an event into the list at {@code index}, shifting the events from {@code index} onwards back by one.
+     * The event must not already exist in the list.
+     */
+    public void add(int index, Event toAdd) {
+        requireNonNull(toAdd);
+        checkIndex(index, internalList.size() + 1);
+        if (positionIndex.putIfAbsent(EventIdentity.of(toAdd), index) != null) {
+            throw new DuplicateEventException();
+        }
+        internalList.add(index, toAdd);
+        for (int i = index + 1; i < internalList.size(); i++) {
+            positionIndex.put(EventIdentity.of(internalList.get(i)), i);
+        }
+    }
+
     /**
      * Replaces the event {@code target} in the list with {@code editedEvent}.
      * {@code target} must exist in the list.
@@ -56,7 +82,7 @@ public class UniqueEventList implements Iterable<Event> {
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new EventNotFoundException();
         }
@@ -66,8 +92,40 @@ public class UniqueEventList implements Iterable<Event> {
         }
 
         internalList.set(index, editedEvent);
+        positionIndex.remove(EventIdentity.of(target));
+        positionIndex.put(EventIdentity.of(editedEvent), index);
     }
 
+    /**
+     * Replaces each event in {@code targets} with the event at the same position in {@code editedEvents},
+     * as a single change to the list.
+     * Every event in {@code targets} must exist in the list and have the same identity as its replacement.
+     */
+    public void replaceEvents(List<Event> targets, List<Event> editedEvents) {
+        requireAllNonNull(targets, editedEvents);
+        checkArgument(targets.size() == editedEvents.size(), "Each target event must have one replacement.");
+
+        int[] indices = new int[targets.size()];
+        for (int i = 0; i < targets.size(); i++) {
+            indices[i] = indexOf(targets.get(i));
+            if (indices[i] == -1) {
+                throw new EventNotFoundException();
+            }
+            checkArgument(targets.get(i).isSameEvent(editedEvents.get(i)),
+                    "Replacement events must have the same identity as their targets.");
+        }
+
+        if (indices.length == 1) {
+            internalList.set(indices[0], editedEvents.get(0));
+            return;
+        }
+
+        List<Event> replacement = new ArrayList<>(internalList);
+        for (int i = 0; i < indices.length; i++) {
+            replacement.set(indices[i], editedEvents.get(i));
+        }
+        internalList.setAll(replacement);
+    }
 
     /**
      * Removes the equivalent event from the list.
@@ -75,16 +133,24 @@ public class UniqueEventList implements Iterable<Event> {
      */
     public void remove(Event toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new EventNotFoundException();
         }
+
+        internalList.remove(index);
+        positionIndex.remove(EventIdentity.of(toRemove));
+        for (int i = index; i < internalList.size(); i++) {
+            positionIndex.put(EventIdentity.of(internalList.get(i)), i);
+        }
     }
+
     public void setEvents(UniqueEventList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positionIndex = new HashMap<>(replacement.positionIndex);
     }
 
-
     /**
      * Replaces the contents of this list with {@code events}.
      * {@code events} must not contain duplicate events.
@@ -92,11 +158,31 @@ public class UniqueEventList implements Iterable<Event> {
     public void setEvents(List<Event> events) {
         requireNonNull(events);
         requireAllNonNull(events);
-        if (!eventsAreUnique(events)) {
-            throw new DuplicateEventException();
-        }
+        Map<EventIdentity, Integer> replacementIndex = indexByIdentity(events);
 
         internalList.setAll(events);
+        positionIndex = replacementIndex;
+    }
+
+    /**
+     * Returns the position of {@code event} in the list, or -1 if the list does not contain an event
+     * equal to {@code event}.
+     */
+    public int indexOf(Event event) {
+        requireNonNull(event);
+        Integer index = positionIndex.get(EventIdentity.of(event));
+        if (index == null || !internalList.get(index).equals(event)) {
+            return -1;
+        }
+        return index;
+    }
+
+    /**
+     * Returns the event in the list with the given {@code identity}, if any.
+     */
+    public Optional<Event> find(EventIdentity identity) {
+        requireNonNull(identity);
+        return Optional.ofNullable(positionIndex.get(identity)).map(internalList::get);
     }
 
     /**
@@ -136,17 +222,18 @@ public class UniqueEventList implements Iterable<Event> {
     }
 
     /**
-     * Returns true if {@code events} contains only unique events.
+     * Returns a map from the identity of each event in {@code events} to its position.
+     *
+     * @throws DuplicateEventException if {@code events} does not contain only unique events.
      */
-    private boolean eventsAreUnique(List<Event> events) {
-        for (int i = 0; i < events.size() - 1; i++) {
-            for (int j = i + 1; j < events.size(); j++) {
-                if (events.get(i).isSameEvent(events.get(j))) {
-                    return false;
-                }
+    private static Map<EventIdentity, Integer> indexByIdentity(List<Event> events) {
+        Map<EventIdentity, Integer> index = new HashMap<>(Math.max(16, (int) (events.size() / 0.75f) + 1));
+        for (int i = 0; i < events.size(); i++) {
+            if (index.putIfAbsent(EventIdentity.of(events.get(i)), i) != null) {
+                throw new DuplicateEventException();
             }
         }
-        return true;
+        return index;
     }
 }
 
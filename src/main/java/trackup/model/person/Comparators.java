@@ -6,6 +6,7 @@ import java.util.function.Function;
 /**
  * A utility class that provides {@link Comparator} implementations for {@link Person} objects
  * in ascending order. Each comparator compares persons based on different attributes.
+ * The comparators are {@link PersonComparator}s, so the keys they compare can be extracted once per person.
  */
 public class Comparators {
 
@@ -17,7 +18,7 @@ public class Comparators {
     public static final Comparator<Person> CATEGORY_COMPARATOR = comparing(p -> p.getCategory().toString());
 
     private static <T extends Comparable<T>> Comparator<Person> comparing(Function<Person, T> keyExtractor) {
-        return Comparator.comparing(keyExtractor);
+        return PersonComparator.comparing(keyExtractor);
     }
 
 }
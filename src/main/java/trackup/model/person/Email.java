@@ -3,6 +3,8 @@ package trackup.model.person;
 import static java.util.Objects.requireNonNull;
 import static trackup.commons.util.AppUtil.checkArgument;
 
+import java.util.Locale;
+
 /**
  * Represents a Person's email in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidEmail(String)}
@@ -82,7 +84,8 @@ public class Email implements Comparable<Email> {
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        // Emails equal ignoring case must have equal hash codes; valid emails only have ASCII letters
+        return value.toLowerCase(Locale.ROOT).hashCode();
     }
 
 }
@@ -0,0 +1,417 @@
+package trackup.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import trackup.model.tag.Tag;
+
+/**
+ * An index of the words of persons by their trigrams, for finding the persons similar to a keyword despite typos.
+ * The words of a person are the runs of letters, and the runs of digits, in its name, email, address and tags,
+ * lower-cased, so that {@code "tan42@example.com"} has the words {@code "tan"}, {@code "42"}, {@code "example"} and
+ * {@code "com"}.
+ *
+ * The trigrams of a word are its substrings of length {@value #GRAM_LENGTH} once padded with two spaces in front and
+ * one behind, so {@code "ann"} has the trigrams {@code "  a"}, {@code " an"}, {@code "ann"} and {@code "nn "}.
+ * A word of the keyword matches an indexed word within {@link #getMaxEdits(int)} edits of it, where an edit inserts,
+ * deletes or replaces a character or swaps two adjacent ones. As each edit changes at most
+ * {@value #GRAM_LENGTH} + 1 trigrams, only the words sharing enough trigrams with the keyword word are compared
+ * with it, and these are found among the shortest postings of its trigrams.
+ *
+ * Distinct words are far fewer than persons, so trigrams are posted with the words containing them, and only the
+ * persons with a matching word are visited. Persons are held by reference, like in {@link PersonSearchIndex}.
+ * Every indexed person takes one of the consecutive slots from 0, and words list the slots of their persons in
+ * arrays, so that a search adds up similarities in an array indexed by slot without visiting the persons at all.
+ */
+public class FuzzyPersonIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    // The kinds of characters that make up a word
+    private static final int NOT_IN_WORD = 0;
+    private static final int LETTERS = 1;
+    private static final int DIGITS = 2;
+
+    private final Map<String, IndexedWord> words = new HashMap<>();
+    private final Map<String, Set<IndexedWord>> wordPostings = new HashMap<>();
+    private final Map<PersonIdentity, IndexedPerson> indexedPersons = new HashMap<>();
+    // The indexed persons by slot, and the identity hash code of each, read together when building results
+    private IndexedPerson[] indexedPersonsBySlot = new IndexedPerson[16];
+    private Person[] personsBySlot = new Person[16];
+    private int[] identityHashesBySlot = new int[16];
+
+    /**
+     * Adds {@code person} to the index.
+     * A person with the same identity must not already be in the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        IndexedPerson indexedPerson = new IndexedPerson(person, indexedPersons.size());
+        IndexedPerson previous = indexedPersons.putIfAbsent(PersonIdentity.of(person), indexedPerson);
+        assert previous == null : "Person with the same identity is already indexed.";
+
+        if (indexedPerson.slot == personsBySlot.length) {
+            int capacity = personsBySlot.length * 2;
+            indexedPersonsBySlot = Arrays.copyOf(indexedPersonsBySlot, capacity);
+            personsBySlot = Arrays.copyOf(personsBySlot, capacity);
+            identityHashesBySlot = Arrays.copyOf(identityHashesBySlot, capacity);
+        }
+        putInSlot(indexedPerson, indexedPerson.slot);
+
+        String[] personWords = toWords(person);
+        indexedPerson.words = new IndexedWord[personWords.length];
+        indexedPerson.positions = new int[personWords.length];
+        for (int i = 0; i < personWords.length; i++) {
+            IndexedWord indexedWord = words.computeIfAbsent(personWords[i], this::indexWord);
+            indexedPerson.words[i] = indexedWord;
+            indexedPerson.positions[i] = indexedWord.add(indexedPerson);
+        }
+    }
+
+    /**
+     * Removes the person with the same identity as {@code person} from the index, if any.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        IndexedPerson indexedPerson = indexedPersons.remove(PersonIdentity.of(person));
+        if (indexedPerson == null) {
+            return;
+        }
+
+        for (int i = 0; i < indexedPerson.words.length; i++) {
+            IndexedWord indexedWord = indexedPerson.words[i];
+            indexedWord.remove(indexedPerson.positions[i]);
+            if (indexedWord.size == 0) {
+                unindexWord(indexedWord);
+            }
+        }
+
+        // The person in the last slot moves into the freed one, keeping the slots consecutive
+        int lastSlot = indexedPersons.size();
+        IndexedPerson lastPerson = indexedPersonsBySlot[lastSlot];
+        if (lastPerson != indexedPerson) {
+            putInSlot(lastPerson, indexedPerson.slot);
+        }
+        indexedPersonsBySlot[lastSlot] = null;
+        personsBySlot[lastSlot] = null;
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        words.clear();
+        wordPostings.clear();
+        indexedPersons.clear();
+        int capacity = Math.max(16, persons.size());
+        indexedPersonsBySlot = new IndexedPerson[capacity];
+        personsBySlot = new Person[capacity];
+        identityHashesBySlot = new int[capacity];
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Puts {@code indexedPerson} into {@code slot}, updating the slot listed by each of its words.
+     */
+    private void putInSlot(IndexedPerson indexedPerson, int slot) {
+        indexedPerson.slot = slot;
+        indexedPersonsBySlot[slot] = indexedPerson;
+        personsBySlot[slot] = indexedPerson.person;
+        identityHashesBySlot[slot] = System.identityHashCode(indexedPerson.person);
+        if (indexedPerson.words != null) {
+            for (int i = 0; i < indexedPerson.words.length; i++) {
+                indexedPerson.words[i].slots[indexedPerson.positions[i]] = slot;
+            }
+        }
+    }
+
+    /**
+     * Returns the indexed persons with a word similar to a word of {@code keyword}, each with its similarity to
+     * {@code keyword}, from just above 0 to 1 for a person with every word of {@code keyword}.
+     *
+     * The similarity of two words is 1 minus the number of edits between them over the length of the longer one.
+     * The similarity of a person is that of its most similar word to each word of {@code keyword}, averaged over the
+     * words of {@code keyword}.
+     */
+    public FuzzySearchResult search(String keyword) {
+        requireNonNull(keyword);
+        Set<String> keywordWords = new LinkedHashSet<>();
+        addWords(keywordWords, keyword);
+
+        // Similarities are above 0, so the persons found are those in the slots with a similarity above 0
+        int personCount = indexedPersons.size();
+        double[] similarities = new double[personCount];
+        // With a single word, its similarities are those of the persons, and need not be gathered separately
+        double[] wordSimilarities = keywordWords.size() == 1 ? similarities : new double[personCount];
+        for (String keywordWord : keywordWords) {
+            findSimilarWords(keywordWord).forEach((indexedWord, similarity) -> {
+                for (int i = 0; i < indexedWord.size; i++) {
+                    int slot = indexedWord.slots[i];
+                    wordSimilarities[slot] = Math.max(wordSimilarities[slot], similarity);
+                }
+            });
+            if (wordSimilarities == similarities) {
+                continue;
+            }
+
+            for (int slot = 0; slot < personCount; slot++) {
+                if (wordSimilarities[slot] > 0) {
+                    similarities[slot] += wordSimilarities[slot] / keywordWords.size();
+                    wordSimilarities[slot] = 0;
+                }
+            }
+        }
+
+        int matchCount = 0;
+        for (int slot = 0; slot < personCount; slot++) {
+            if (similarities[slot] > 0) {
+                matchCount++;
+            }
+        }
+        Person[] matchedPersons = new Person[matchCount];
+        int[] matchedIdentityHashes = new int[matchCount];
+        double[] matchedSimilarities = new double[matchCount];
+        int match = 0;
+        for (int slot = 0; slot < personCount; slot++) {
+            if (similarities[slot] > 0) {
+                matchedPersons[match] = personsBySlot[slot];
+                matchedIdentityHashes[match] = identityHashesBySlot[slot];
+                matchedSimilarities[match] = similarities[slot];
+                match++;
+            }
+        }
+        return new FuzzySearchResult(matchedPersons, matchedIdentityHashes, matchedSimilarities);
+    }
+
+    /**
+     * Returns the maximum number of edits between a word of {@code length} characters in a keyword and the words it
+     * matches: none for words of up to 2 characters, 1 for words of up to 5 characters, and 2 for longer words.
+     */
+    public static int getMaxEdits(int length) {
+        if (length <= 2) {
+            return 0;
+        }
+        return length <= 5 ? 1 : 2;
+    }
+
+    /**
+     * Returns the indexed words within {@link #getMaxEdits(int)} edits of {@code keywordWord}, each mapped to its
+     * similarity to {@code keywordWord}.
+     */
+    private Map<IndexedWord, Double> findSimilarWords(String keywordWord) {
+        int maxEdits = getMaxEdits(keywordWord.length());
+        List<Set<IndexedWord>> postings = new ArrayList<>();
+        for (String gram : toGrams(keywordWord)) {
+            postings.add(wordPostings.getOrDefault(gram, Collections.emptySet()));
+        }
+
+        // A word sharing at least minShared of the trigrams of keywordWord is in one of the shortest postings, of
+        // which there are one more than the number of trigrams it can lack
+        int minShared = Math.max(1, postings.size() - (GRAM_LENGTH + 1) * maxEdits);
+        postings.sort(Comparator.comparingInt(Set::size));
+        Set<IndexedWord> candidates = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Set<IndexedWord> posting : postings.subList(0, postings.size() - minShared + 1)) {
+            candidates.addAll(posting);
+        }
+
+        Map<IndexedWord, Double> similarWords = new IdentityHashMap<>();
+        for (IndexedWord candidate : candidates) {
+            if (Math.abs(candidate.text.length() - keywordWord.length()) > maxEdits) {
+                continue;
+            }
+            int edits = countEdits(keywordWord, candidate.text, maxEdits);
+            if (edits <= maxEdits) {
+                double longerLength = Math.max(keywordWord.length(), candidate.text.length());
+                similarWords.put(candidate, 1 - edits / longerLength);
+            }
+        }
+        return similarWords;
+    }
+
+    /**
+     * Returns the number of insertions, deletions, replacements and swaps of adjacent characters that turn
+     * {@code first} into {@code second}, or {@code maxEdits + 1} if more than {@code maxEdits} are needed.
+     */
+    static int countEdits(String first, String second, int maxEdits) {
+        // Each row holds the edits between a prefix of first and every prefix of second
+        int[] beforePrevious = new int[second.length() + 1];
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMinimum = i;
+            for (int j = 1; j <= second.length(); j++) {
+                int replaceCost = first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1;
+                int edits = Math.min(Math.min(previous[j], current[j - 1]) + 1, previous[j - 1] + replaceCost);
+                if (i > 1 && j > 1 && first.charAt(i - 1) == second.charAt(j - 2)
+                        && first.charAt(i - 2) == second.charAt(j - 1)) {
+                    edits = Math.min(edits, beforePrevious[j - 2] + 1);
+                }
+                current[j] = edits;
+                rowMinimum = Math.min(rowMinimum, edits);
+            }
+            if (rowMinimum > maxEdits) {
+                return maxEdits + 1;
+            }
+
+            int[] recycled = beforePrevious;
+            beforePrevious = previous;
+            previous = current;
+            current = recycled;
+        }
+        return Math.min(previous[second.length()], maxEdits + 1);
+    }
+
+    private IndexedWord indexWord(String word) {
+        IndexedWord indexedWord = new IndexedWord(word);
+        for (String gram : toGrams(word)) {
+            wordPostings.computeIfAbsent(gram, unused -> Collections.newSetFromMap(new IdentityHashMap<>()))
+                    .add(indexedWord);
+        }
+        return indexedWord;
+    }
+
+    private void unindexWord(IndexedWord indexedWord) {
+        words.remove(indexedWord.text);
+        for (String gram : toGrams(indexedWord.text)) {
+            Set<IndexedWord> posting = wordPostings.get(gram);
+            posting.remove(indexedWord);
+            if (posting.isEmpty()) {
+                wordPostings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Returns the distinct lower-cased words of the name, email, address and tags of {@code person}.
+     */
+    private static String[] toWords(Person person) {
+        Set<String> words = new LinkedHashSet<>();
+        addWords(words, person.getName().fullName);
+        addWords(words, person.getEmail().value);
+        addWords(words, person.getAddress().value);
+        for (Tag tag : person.getTags()) {
+            addWords(words, tag.tagName);
+        }
+        return words.toArray(new String[0]);
+    }
+
+    /**
+     * Adds the runs of letters, and the runs of digits, in {@code text}, lower-cased, to {@code words}.
+     */
+    private static void addWords(Set<String> words, String text) {
+        String lowerText = text.toLowerCase();
+        int wordStart = 0;
+        int wordType = NOT_IN_WORD;
+        for (int i = 0; i <= lowerText.length(); i++) {
+            int type = i < lowerText.length() ? getWordType(lowerText.charAt(i)) : NOT_IN_WORD;
+            if (type == wordType) {
+                continue;
+            }
+            if (wordType != NOT_IN_WORD) {
+                words.add(lowerText.substring(wordStart, i));
+            }
+            wordStart = i;
+            wordType = type;
+        }
+    }
+
+    private static int getWordType(char c) {
+        if (Character.isLetter(c)) {
+            return LETTERS;
+        }
+        return Character.isDigit(c) ? DIGITS : NOT_IN_WORD;
+    }
+
+    /**
+     * Returns the distinct trigrams of {@code word}, padded with two spaces in front and one behind.
+     */
+    private static Set<String> toGrams(String word) {
+        String paddedWord = "  " + word + " ";
+        Set<String> grams = new LinkedHashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= paddedWord.length(); i++) {
+            grams.add(paddedWord.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+
+    /**
+     * A distinct word of the indexed persons, with the persons that have it and their slots, in no particular order.
+     */
+    private static class IndexedWord {
+        private final String text;
+        private IndexedPerson[] persons = new IndexedPerson[1];
+        private int[] slots = new int[1];
+        private int size;
+
+        IndexedWord(String text) {
+            this.text = text;
+        }
+
+        /**
+         * Adds {@code indexedPerson} to the persons having this word, and returns its position among them.
+         */
+        int add(IndexedPerson indexedPerson) {
+            if (size == persons.length) {
+                persons = Arrays.copyOf(persons, size * 2);
+                slots = Arrays.copyOf(slots, size * 2);
+            }
+            persons[size] = indexedPerson;
+            slots[size] = indexedPerson.slot;
+            return size++;
+        }
+
+        /**
+         * Removes the person at {@code position}, moving the last person into its position.
+         */
+        void remove(int position) {
+            size--;
+            IndexedPerson lastPerson = persons[size];
+            persons[position] = lastPerson;
+            slots[position] = slots[size];
+            persons[size] = null;
+            if (position != size) {
+                lastPerson.positions[lastPerson.indexOf(this)] = position;
+            }
+        }
+    }
+
+    /**
+     * An indexed person together with its slot, and its words at the time it was indexed with its position among
+     * the persons of each.
+     */
+    private static class IndexedPerson {
+        private final Person person;
+        private int slot;
+        private IndexedWord[] words;
+        private int[] positions;
+
+        IndexedPerson(Person person, int slot) {
+            this.person = person;
+            this.slot = slot;
+        }
+
+        int indexOf(IndexedWord word) {
+            int i = 0;
+            while (words[i] != word) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package trackup.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * The persons found by {@link FuzzyPersonIndex#search(String)}, each with its similarity to the keyword.
+ * Persons are compared by reference.
+ *
+ * The similarities are held in a {@code double} array alongside the persons, and persons are looked up in an
+ * open-addressing table of their positions keyed by identity hash code, so that building a result boxes no values
+ * and allocates no entries.
+ * Guarantees: immutable.
+ */
+public final class FuzzySearchResult {
+
+    private final Person[] persons;
+    private final double[] similarities;
+    // Position of each person plus one, at the slot its identity hash code probes to first, or 0 for free slots
+    private final int[] table;
+
+    /**
+     * Creates a result of the distinct {@code persons}, the similarity of each being at the same position of
+     * {@code similarities}. The arrays are not copied.
+     */
+    FuzzySearchResult(Person[] persons, double[] similarities) {
+        this(persons, Arrays.stream(persons).mapToInt(System::identityHashCode).toArray(), similarities);
+    }
+
+    /**
+     * Creates a result of the distinct {@code persons}, the identity hash code and similarity of each being at the
+     * same position of {@code identityHashes} and {@code similarities}. The arrays are not copied.
+     */
+    FuzzySearchResult(Person[] persons, int[] identityHashes, double[] similarities) {
+        assert persons.length == identityHashes.length && persons.length == similarities.length
+                : "Every person should have an identity hash code and a similarity.";
+        this.persons = persons;
+        this.similarities = similarities;
+
+        // Kept at most half full, so that probes stay short
+        table = new int[Integer.highestOneBit(Math.max(1, persons.length) * 2 - 1) * 2];
+        for (int i = 0; i < persons.length; i++) {
+            int slot = firstSlotOf(identityHashes[i]);
+            while (table[slot] != 0) {
+                slot = (slot + 1) & (table.length - 1);
+            }
+            table[slot] = i + 1;
+        }
+    }
+
+    public int size() {
+        return persons.length;
+    }
+
+    public boolean isEmpty() {
+        return persons.length == 0;
+    }
+
+    /**
+     * Returns an unmodifiable view of the persons found, in the order they were given.
+     */
+    public List<Person> getPersons() {
+        return Collections.unmodifiableList(Arrays.asList(persons));
+    }
+
+    /**
+     * Returns true if {@code person} itself was found.
+     */
+    public boolean contains(Person person) {
+        return positionOf(person) >= 0;
+    }
+
+    /**
+     * Returns the similarity of {@code person} to the keyword, from just above 0 to 1, or 0 if it was not found.
+     */
+    public double getSimilarity(Person person) {
+        int position = positionOf(person);
+        return position >= 0 ? similarities[position] : 0;
+    }
+
+    private int positionOf(Person person) {
+        requireNonNull(person);
+        int slot = firstSlotOf(System.identityHashCode(person));
+        while (table[slot] != 0) {
+            if (persons[table[slot] - 1] == person) {
+                return table[slot] - 1;
+            }
+            slot = (slot + 1) & (table.length - 1);
+        }
+        return -1;
+    }
+
+    private int firstSlotOf(int identityHash) {
+        return (identityHash ^ (identityHash >>> 16)) & (table.length - 1);
+    }
+}
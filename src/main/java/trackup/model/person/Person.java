@@ -1,9 +1,12 @@
 package trackup.model.person;
 
+import static java.util.Objects.requireNonNull;
 import static trackup.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -12,6 +15,7 @@ import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import trackup.commons.core.index.Index;
 import trackup.commons.util.ToStringBuilder;
+import trackup.commons.util.WeakInterner;
 import trackup.model.category.Category;
 import trackup.model.note.Note;
 import trackup.model.tag.Tag;
@@ -24,16 +28,30 @@ public class Person {
 
     public static final int MAX_NOTES = 5;
 
+    // Most persons have one of a few combinations of tags, so persons with the same tags share one set, which is
+    // dropped from the pool once no person has it
+    private static final WeakInterner<Set<Tag>> TAG_SETS = new WeakInterner<>();
+
     // Identity fields
     private final Name name;
     private final Phone phone;
     private final Email email;
+    private final PersonIdentity identity;
 
     // Data fields
     private final Address address;
-    private final Set<Tag> tags = new HashSet<>();
+    private final Set<Tag> tags;
     private final Optional<Category> category;
-    private final ObservableList<Note> notes;
+    // Immutable, and replaced on every change so that other threads can read a consistent view. Most persons have
+    // no notes and share the empty list; a few notes are held in a list sized to fit them.
+    private volatile List<Note> notes = List.of();
+    // Created only when something needs to be told about changes to the notes, such as a person card in the GUI
+    private ObservableList<Note> observableNotes;
+    private ObservableList<Note> unmodifiableObservableNotes;
+
+    // Hash code of every field but the notes, which can change; equal persons still have equal hash codes
+    private final int hash;
+
     /**
      * Every field must be present and not null.
      */
@@ -43,9 +61,10 @@ public class Person {
         this.phone = phone;
         this.email = email;
         this.address = address;
-        this.tags.addAll(tags);
+        this.tags = TAG_SETS.intern(Collections.unmodifiableSet(new HashSet<>(tags)));
         this.category = category; // can be Optional.empty()
-        this.notes = FXCollections.observableArrayList();
+        this.identity = new PersonIdentity(name, phone, email);
+        this.hash = Objects.hash(name, phone, email, address, this.tags, category);
     }
 
     public Name getName() {
@@ -64,12 +83,19 @@ public class Person {
         return address;
     }
 
+    /**
+     * Returns the identity of this person, which is shared by every lookup keyed on it.
+     */
+    public PersonIdentity getIdentity() {
+        return identity;
+    }
+
     /**
      * Returns an immutable tag set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
     public Set<Tag> getTags() {
-        return Collections.unmodifiableSet(tags);
+        return tags;
     }
 
     public Optional<Category> getCategory() {
@@ -80,10 +106,37 @@ public class Person {
         return this.category.isPresent() && this.category.get().equals(category);
     }
 
-    public ObservableList<Note> getNotes() {
+    /**
+     * Returns an immutable list of the notes as of their last change.
+     * This may be read from threads other than the one changing the notes.
+     */
+    public List<Note> getNotes() {
         return notes;
     }
 
+    /**
+     * Returns an unmodifiable view of the notes that is updated when they change, for listening to the changes.
+     * The view is created on the first call, and must only be used on the thread that changes the notes.
+     */
+    public ObservableList<Note> getObservableNotes() {
+        if (observableNotes == null) {
+            observableNotes = FXCollections.observableArrayList(notes);
+            unmodifiableObservableNotes = FXCollections.unmodifiableObservableList(observableNotes);
+        }
+        return unmodifiableObservableNotes;
+    }
+
+    /**
+     * Replaces the notes with {@code notes}.
+     */
+    public void setNotes(List<Note> notes) {
+        requireNonNull(notes);
+        this.notes = List.copyOf(notes);
+        if (observableNotes != null) {
+            observableNotes.setAll(this.notes);
+        }
+    }
+
     /**
      * Adds a note to the person's list of notes if the maximum limit has not been reached.
      *
@@ -94,7 +147,9 @@ public class Person {
         if (notes.size() >= MAX_NOTES) {
             return false;
         }
-        notes.add(note);
+        List<Note> newNotes = new ArrayList<>(notes);
+        newNotes.add(note);
+        setNotes(newNotes);
         return true;
     }
 
@@ -105,7 +160,9 @@ public class Person {
      * @throws IndexOutOfBoundsException if the index is invalid.
      */
     public void removeNote(Index index) {
-        notes.remove(index.getZeroBased());
+        List<Note> newNotes = new ArrayList<>(notes);
+        newNotes.remove(index.getZeroBased());
+        setNotes(newNotes);
     }
 
     /**
@@ -137,7 +194,10 @@ public class Person {
             return false;
         }
 
-        return name.equals(otherPerson.name)
+        // Equal fields have equal hash codes, emails included as they hash ignoring case, so unequal hashes
+        // rule out equality
+        return hash == otherPerson.hash
+                && name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
                 && email.equals(otherPerson.email)
                 && address.equals(otherPerson.address)
@@ -148,8 +208,9 @@ public class Person {
 
     @Override
     public int hashCode() {
-        // use this method for custom fields hashing instead of implementing your own
-        return Objects.hash(name, phone, email, address, tags, category, notes);
+        // Leaving out the notes keeps the hash code of a person in a hash-based collection, such as the contacts of
+        // an event, from changing when a note is added or removed
+        return hash;
     }
 
     @Override
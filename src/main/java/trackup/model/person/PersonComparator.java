@@ -0,0 +1,159 @@
+package trackup.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+
+import trackup.commons.util.ToStringBuilder;
+
+/**
+ * A {@link Comparator} of persons that compares a sequence of sort keys extracted from each person.
+ * The keys of a person can be extracted once with {@link #extractKeys(Person)} and then compared any number of
+ * times with {@link #compareKeys(Object[], Object[])}, so sorting does not have to rebuild them on every comparison.
+ * Reversing or chaining these comparators gives another {@code PersonComparator}.
+ */
+public final class PersonComparator implements Comparator<Person> {
+
+    private final List<SortKey> sortKeys;
+
+    private PersonComparator(List<SortKey> sortKeys) {
+        this.sortKeys = List.copyOf(sortKeys);
+    }
+
+    /**
+     * Returns a comparator that compares persons by the ascending order of the key given by {@code keyExtractor}.
+     */
+    public static PersonComparator comparing(Function<Person, ? extends Comparable<?>> keyExtractor) {
+        requireNonNull(keyExtractor);
+        return new PersonComparator(List.of(new SortKey(keyExtractor, true)));
+    }
+
+    /**
+     * Returns the sort keys of {@code person}, in the order this comparator compares them.
+     */
+    public Object[] extractKeys(Person person) {
+        requireNonNull(person);
+        Object[] keys = new Object[sortKeys.size()];
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = sortKeys.get(i).keyExtractor.apply(person);
+        }
+        return keys;
+    }
+
+    /**
+     * Compares two arrays of sort keys returned by {@link #extractKeys(Person)}.
+     * The result is the same as comparing the persons the keys were extracted from.
+     */
+    public int compareKeys(Object[] keys, Object[] otherKeys) {
+        for (int i = 0; i < keys.length; i++) {
+            int result = sortKeys.get(i).compare(keys[i], otherKeys[i]);
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public int compare(Person person, Person otherPerson) {
+        for (SortKey sortKey : sortKeys) {
+            int result = sortKey.compare(sortKey.keyExtractor.apply(person), sortKey.keyExtractor.apply(otherPerson));
+            if (result != 0) {
+                return result;
+            }
+        }
+        return 0;
+    }
+
+    @Override
+    public PersonComparator reversed() {
+        List<SortKey> reversedKeys = new ArrayList<>();
+        for (SortKey sortKey : sortKeys) {
+            reversedKeys.add(new SortKey(sortKey.keyExtractor, !sortKey.isAscending));
+        }
+        return new PersonComparator(reversedKeys);
+    }
+
+    @Override
+    public Comparator<Person> thenComparing(Comparator<? super Person> other) {
+        if (!(other instanceof PersonComparator otherComparator)) {
+            return Comparator.super.thenComparing(other);
+        }
+        List<SortKey> chainedKeys = new ArrayList<>(sortKeys);
+        chainedKeys.addAll(otherComparator.sortKeys);
+        return new PersonComparator(chainedKeys);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonComparator otherComparator)) {
+            return false;
+        }
+
+        return sortKeys.equals(otherComparator.sortKeys);
+    }
+
+    @Override
+    public int hashCode() {
+        return sortKeys.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("sortKeys", sortKeys)
+                .toString();
+    }
+
+    /**
+     * A key extracted from each person together with the direction it is sorted in.
+     */
+    private static class SortKey {
+        private final Function<Person, ? extends Comparable<?>> keyExtractor;
+        private final boolean isAscending;
+
+        SortKey(Function<Person, ? extends Comparable<?>> keyExtractor, boolean isAscending) {
+            this.keyExtractor = keyExtractor;
+            this.isAscending = isAscending;
+        }
+
+        @SuppressWarnings("unchecked")
+        int compare(Object key, Object otherKey) {
+            return isAscending
+                    ? ((Comparable<Object>) key).compareTo(otherKey)
+                    : ((Comparable<Object>) otherKey).compareTo(key);
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof SortKey otherSortKey)) {
+                return false;
+            }
+
+            return keyExtractor.equals(otherSortKey.keyExtractor) && isAscending == otherSortKey.isAscending;
+        }
+
+        @Override
+        public int hashCode() {
+            return keyExtractor.hashCode() * 31 + Boolean.hashCode(isAscending);
+        }
+
+        @Override
+        public String toString() {
+            return isAscending ? "ascending" : "descending";
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package trackup.model.person;
+
+import static trackup.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.Objects;
+
+import trackup.commons.util.ToStringBuilder;
+
+/**
+ * Represents the identity of a {@code Person}, i.e. the fields compared by {@link Person#isSamePerson(Person)}.
+ * Two persons have equal identities if and only if they are the same person, which makes this class suitable
+ * as a key for hash-based lookups of persons.
+ * Guarantees: immutable; fields are not null.
+ */
+public final class PersonIdentity {
+
+    private final Name name;
+    private final Phone phone;
+    private final Email email;
+    private final int hash;
+
+    /**
+     * Every field must be present and not null.
+     */
+    public PersonIdentity(Name name, Phone phone, Email email) {
+        requireAllNonNull(name, phone, email);
+        this.name = name;
+        this.phone = phone;
+        this.email = email;
+        this.hash = Objects.hash(name, phone, email);
+    }
+
+    /**
+     * Returns the identity of the given {@code person}.
+     */
+    public static PersonIdentity of(Person person) {
+        return person.getIdentity();
+    }
+
+    public Name getName() {
+        return name;
+    }
+
+    public Phone getPhone() {
+        return phone;
+    }
+
+    public Email getEmail() {
+        return email;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof PersonIdentity otherIdentity)) {
+            return false;
+        }
+
+        // Equal fields have equal hash codes, emails included as they hash ignoring case
+        return hash == otherIdentity.hash
+                && name.equals(otherIdentity.name)
+                && phone.equals(otherIdentity.phone)
+                && email.equals(otherIdentity.email);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("name", name)
+                .add("phone", phone)
+                .add("email", email)
+                .toString();
+    }
+}
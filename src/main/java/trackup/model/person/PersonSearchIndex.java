@@ -0,0 +1,205 @@
+package trackup.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import trackup.model.tag.Tag;
+
+/**
+ * An inverted index from substrings of the searchable fields of persons to the persons containing them.
+ * The searchable fields of a person are its name, phone, email, address, tags and category, lower-cased the same
+ * way a search keyword is. A person matches a keyword if any one of those fields contains the keyword.
+ *
+ * Every substring of length {@value #GRAM_LENGTH} of a field is indexed, as is every field shorter than that.
+ * A keyword of at least {@value #GRAM_LENGTH} characters only needs to be checked against the persons posted under
+ * one of its substrings, and a shorter keyword is answered by the postings of the indexed substrings containing it.
+ *
+ * Persons are held by reference, so lookups are not affected by changes to the notes of a person.
+ */
+public class PersonSearchIndex {
+
+    public static final int GRAM_LENGTH = 3;
+
+    /** Lists of at least this many persons have their searchable fields and substrings extracted in parallel. */
+    static final int PARALLEL_INDEX_THRESHOLD = 1 << 13;
+
+    private final Map<String, Set<Person>> postings = new HashMap<>();
+    private final Map<PersonIdentity, IndexedPerson> indexedPersons = new HashMap<>();
+
+    /**
+     * Adds {@code person} to the index.
+     * A person with the same identity must not already be in the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        IndexedPerson indexedPerson = new IndexedPerson(person, toSearchableFields(person));
+        add(indexedPerson, toGrams(indexedPerson.fields));
+    }
+
+    private void add(IndexedPerson indexedPerson, Set<String> grams) {
+        IndexedPerson previous = indexedPersons.putIfAbsent(PersonIdentity.of(indexedPerson.person), indexedPerson);
+        assert previous == null : "Person with the same identity is already indexed.";
+
+        for (String gram : grams) {
+            postings.computeIfAbsent(gram, unused -> newPersonSet()).add(indexedPerson.person);
+        }
+    }
+
+    /**
+     * Removes the person with the same identity as {@code person} from the index, if any.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        IndexedPerson indexedPerson = indexedPersons.remove(PersonIdentity.of(person));
+        if (indexedPerson == null) {
+            return;
+        }
+
+        for (String gram : toGrams(indexedPerson.fields)) {
+            Set<Person> posting = postings.get(gram);
+            posting.remove(indexedPerson.person);
+            if (posting.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     * For a large list, the searchable fields and substrings of the persons are extracted in parallel, and only
+     * the postings are then filled in on the calling thread.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        postings.clear();
+        indexedPersons.clear();
+        if (persons.size() < PARALLEL_INDEX_THRESHOLD) {
+            persons.forEach(this::add);
+            return;
+        }
+
+        Person[] personArray = persons.toArray(new Person[0]);
+        IndexedPerson[] indexed = new IndexedPerson[personArray.length];
+        @SuppressWarnings("unchecked")
+        Set<String>[] grams = new Set[personArray.length];
+        Arrays.parallelSetAll(indexed, i -> new IndexedPerson(personArray[i], toSearchableFields(personArray[i])));
+        Arrays.parallelSetAll(grams, i -> toGrams(indexed[i].fields));
+        for (int i = 0; i < indexed.length; i++) {
+            add(indexed[i], grams[i]);
+        }
+    }
+
+    /**
+     * Returns the indexed persons with a searchable field containing {@code keyword}, ignoring case.
+     * The returned set compares persons by reference.
+     */
+    public Set<Person> search(String keyword) {
+        requireNonNull(keyword);
+        String lowerKeyword = keyword.toLowerCase();
+        Set<Person> matches = newPersonSet();
+
+        if (lowerKeyword.isEmpty()) {
+            indexedPersons.values().forEach(indexedPerson -> matches.add(indexedPerson.person));
+        } else if (lowerKeyword.length() < GRAM_LENGTH) {
+            postings.forEach((gram, posting) -> {
+                if (gram.contains(lowerKeyword)) {
+                    matches.addAll(posting);
+                }
+            });
+        } else {
+            Set<Person> candidates = findSmallestPosting(lowerKeyword);
+            for (Person candidate : candidates) {
+                if (indexedPersons.get(PersonIdentity.of(candidate)).containsInAnyField(lowerKeyword)) {
+                    matches.add(candidate);
+                }
+            }
+        }
+        return Collections.unmodifiableSet(matches);
+    }
+
+    /**
+     * Returns the shortest posting among the substrings of length {@value #GRAM_LENGTH} of {@code lowerKeyword}.
+     */
+    private Set<Person> findSmallestPosting(String lowerKeyword) {
+        Set<Person> smallest = null;
+        for (int i = 0; i + GRAM_LENGTH <= lowerKeyword.length(); i++) {
+            Set<Person> posting = postings.get(lowerKeyword.substring(i, i + GRAM_LENGTH));
+            if (posting == null) {
+                return Collections.emptySet();
+            }
+            if (smallest == null || posting.size() < smallest.size()) {
+                smallest = posting;
+            }
+        }
+        return smallest;
+    }
+
+    /**
+     * Returns the lower-cased searchable fields of {@code person}.
+     */
+    private static String[] toSearchableFields(Person person) {
+        return new String[] {
+            person.getName().fullName.toLowerCase(),
+            person.getPhone().value,
+            person.getEmail().value.toLowerCase(),
+            person.getAddress().value.toLowerCase(),
+            person.getTags().stream().map(Tag::toString).collect(Collectors.joining(" ")).toLowerCase(),
+            person.getCategory().map(category -> category.toString().toLowerCase()).orElse("")
+        };
+    }
+
+    /**
+     * Returns the distinct substrings of {@code fields} that are indexed.
+     */
+    private static Set<String> toGrams(String[] fields) {
+        Set<String> grams = new HashSet<>();
+        for (String field : fields) {
+            if (field.isEmpty()) {
+                continue;
+            }
+            if (field.length() < GRAM_LENGTH) {
+                grams.add(field);
+                continue;
+            }
+            for (int i = 0; i + GRAM_LENGTH <= field.length(); i++) {
+                grams.add(field.substring(i, i + GRAM_LENGTH));
+            }
+        }
+        return grams;
+    }
+
+    private static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * An indexed person together with its searchable fields at the time it was indexed.
+     */
+    private static class IndexedPerson {
+        private final Person person;
+        private final String[] fields;
+
+        IndexedPerson(Person person, String[] fields) {
+            this.person = person;
+            this.fields = fields;
+        }
+
+        boolean containsInAnyField(String lowerKeyword) {
+            for (String field : fields) {
+                if (field.contains(lowerKeyword)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
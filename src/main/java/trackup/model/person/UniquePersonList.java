@@ -1,10 +1,13 @@
 package trackup.model.person;
 
+import static java.util.Objects.checkIndex;
 import static java.util.Objects.requireNonNull;
 import static trackup.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
@@ -18,6 +21,9 @@ import trackup.model.person.exceptions.PersonNotFoundException;
  * unique in terms of identity in the UniquePersonList. However, the removal of a person uses Person#equals(Object) so
  * as to ensure that the person with exactly the same fields will be removed.
  *
+ * Alongside the observable list, a hash index maps each {@link PersonIdentity} to the position of its person in the
+ * list, so that identity checks and position lookups do not need to scan the list.
+ *
  * Supports a minimal set of list operations.
  *
  * @see Person#isSamePerson(Person)
@@ -27,13 +33,14 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private Map<PersonIdentity, Integer> positionIndex = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return positionIndex.containsKey(PersonIdentity.of(toCheck));
     }
 
     /**
@@ -42,12 +49,28 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void add(Person toAdd) {
         requireNonNull(toAdd);
-        if (contains(toAdd)) {
+        if (positionIndex.putIfAbsent(PersonIdentity.of(toAdd), internalList.size()) != null) {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
     }
 
+    /**
+     * Inserts a person into the list at {@code index}, shifting the persons from {@code index} onwards back by one.
+     * The person must not already exist in the list.
+     */
+    public void add(int index, Person toAdd) {
+        requireNonNull(toAdd);
+        checkIndex(index, internalList.size() + 1);
+        if (positionIndex.putIfAbsent(PersonIdentity.of(toAdd), index) != null) {
+            throw new DuplicatePersonException();
+        }
+        internalList.add(index, toAdd);
+        for (int i = index + 1; i < internalList.size(); i++) {
+            positionIndex.put(PersonIdentity.of(internalList.get(i)), i);
+        }
+    }
+
     /**
      * Replaces the person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the list.
@@ -57,7 +80,7 @@ public class UniquePersonList implements Iterable<Person> {
         requireAllNonNull(target, editedPerson);
         assert target != null && editedPerson != null;
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -67,6 +90,8 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.set(index, editedPerson);
+        positionIndex.remove(PersonIdentity.of(target));
+        positionIndex.put(PersonIdentity.of(editedPerson), index);
     }
 
     /**
@@ -75,14 +100,22 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+
+        internalList.remove(index);
+        positionIndex.remove(PersonIdentity.of(toRemove));
+        for (int i = index; i < internalList.size(); i++) {
+            positionIndex.put(PersonIdentity.of(internalList.get(i)), i);
+        }
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        positionIndex = new HashMap<>(replacement.positionIndex);
     }
 
     /**
@@ -92,11 +125,23 @@ public class UniquePersonList implements Iterable<Person> {
     public void setPersons(List<Person> persons) {
         requireNonNull(persons);
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
-        }
+        Map<PersonIdentity, Integer> replacementIndex = indexByIdentity(persons);
 
         internalList.setAll(persons);
+        positionIndex = replacementIndex;
+    }
+
+    /**
+     * Returns the position of {@code person} in the list, or -1 if the list does not contain a person
+     * equal to {@code person}.
+     */
+    public int indexOf(Person person) {
+        requireNonNull(person);
+        Integer index = positionIndex.get(PersonIdentity.of(person));
+        if (index == null || !internalList.get(index).equals(person)) {
+            return -1;
+        }
+        return index;
     }
 
     /**
@@ -137,17 +182,18 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns a map from the identity of each person in {@code persons} to its position.
+     *
+     * @throws DuplicatePersonException if {@code persons} does not contain only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
+    private static Map<PersonIdentity, Integer> indexByIdentity(List<Person> persons) {
         assert persons != null : "Input list for uniqueness check should not be null.";
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Map<PersonIdentity, Integer> index = new HashMap<>(Math.max(16, (int) (persons.size() / 0.75f) + 1));
+        for (int i = 0; i < persons.size(); i++) {
+            if (index.putIfAbsent(PersonIdentity.of(persons.get(i)), i) != null) {
+                throw new DuplicatePersonException();
             }
         }
-        return true;
+        return index;
     }
 }
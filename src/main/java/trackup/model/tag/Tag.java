@@ -3,33 +3,47 @@ package trackup.model.tag;
 import static java.util.Objects.requireNonNull;
 import static trackup.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
+import trackup.commons.util.WeakInterner;
+
 /**
  * Represents a Tag in the address book.
- * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}
+ * Guarantees: immutable; name is valid as declared in {@link #isValidTagName(String)}; tags in use with the same
+ * name share a single instance.
  */
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Tags names should be alphanumeric";
     public static final String VALIDATION_REGEX = "\\p{Alnum}+";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    // The tags in use, shared by every person with the tag, and dropped once no one has them
+    private static final WeakInterner<Tag> TAGS = new WeakInterner<>();
+
     public final String tagName;
 
+    private Tag(String tagName) {
+        this.tagName = tagName;
+    }
+
     /**
-     * Constructs a {@code Tag}.
+     * Returns the {@code Tag} with the given name.
      *
      * @param tagName A valid tag name.
      */
-    public Tag(String tagName) {
+    public static Tag of(String tagName) {
         requireNonNull(tagName);
         checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = tagName;
+        return TAGS.intern(new Tag(tagName));
     }
 
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -29,22 +29,22 @@ public class SampleDataUtil {
         return new Person[] {
             new Person(new Name("Alex Yeoh"), new Phone("87438807"), new Email("alexyeoh@example.com"),
                 new Address("Blk 30 Geylang Street 29, #06-40"),
-                getTagSet("friends"), Optional.of(new Category("Client"))),
+                getTagSet("friends"), Optional.of(Category.of("Client"))),
             new Person(new Name("Bernice Yu"), new Phone("99272758"), new Email("berniceyu@example.com"),
                 new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"),
-                getTagSet("colleagues", "friends"), Optional.of(new Category("Investor"))),
+                getTagSet("colleagues", "friends"), Optional.of(Category.of("Investor"))),
             new Person(new Name("Charlotte Oliveiro"), new Phone("93210283"), new Email("charlotte@example.com"),
                 new Address("Blk 11 Ang Mo Kio Street 74, #11-04"),
-                getTagSet("neighbours"), Optional.of(new Category("Partner"))),
+                getTagSet("neighbours"), Optional.of(Category.of("Partner"))),
             new Person(new Name("David Li"), new Phone("91031282"), new Email("lidavid@example.com"),
                 new Address("Blk 436 Serangoon Gardens Street 26, #16-43"),
-                getTagSet("family"), Optional.of(new Category("Other"))),
+                getTagSet("family"), Optional.of(Category.of("Other"))),
             new Person(new Name("Irfan Ibrahim"), new Phone("92492021"), new Email("irfan@example.com"),
                 new Address("Blk 47 Tampines Street 20, #17-35"),
-                getTagSet("classmates"), Optional.of(new Category("Client"))),
+                getTagSet("classmates"), Optional.of(Category.of("Client"))),
             new Person(new Name("Roy Balakrishnan"), new Phone("92624417"), new Email("royb@example.com"),
                 new Address("Blk 45 Aljunied Street 85, #11-31"),
-                getTagSet("colleagues"), Optional.of(new Category("Investor")))
+                getTagSet("colleagues"), Optional.of(Category.of("Investor")))
         };
     }
 
@@ -89,7 +89,7 @@ public class SampleDataUtil {
      */
     public static Set<Tag> getTagSet(String... strings) {
         return Arrays.stream(strings)
-                .map(Tag::new)
+                .map(Tag::of)
                 .collect(Collectors.toSet());
     }
 
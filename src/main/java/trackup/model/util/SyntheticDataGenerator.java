@@ -0,0 +1,195 @@
+package trackup.model.util;
+
+import static trackup.commons.util.AppUtil.checkArgument;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+import java.util.Set;
+
+import trackup.model.AddressBook;
+import trackup.model.category.Category;
+import trackup.model.event.Event;
+import trackup.model.note.Note;
+import trackup.model.person.Address;
+import trackup.model.person.Email;
+import trackup.model.person.Name;
+import trackup.model.person.Person;
+import trackup.model.person.Phone;
+import trackup.model.tag.Tag;
+
+/**
+ * Generates large address books of made-up persons and events, for profiling and load testing.
+ * The same seed always generates the same data.
+ *
+ * Tags and the contacts of events are drawn with a skew, so that a few tags are on most persons and a few persons
+ * are contacts of many events, as in real address books.
+ */
+public class SyntheticDataGenerator {
+
+    public static final long DEFAULT_SEED = 20250401L;
+    public static final LocalDate DEFAULT_FIRST_DAY = LocalDate.of(2025, 3, 31);
+    public static final int DEFAULT_WEEKS = 52;
+
+    private static final String[] FIRST_NAMES = {"Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Amy",
+        "Benson", "Carl", "Daniel", "Elle", "Fiona", "George", "Hoon", "Ida", "Kavya", "Li", "Mei", "Nur", "Omar",
+        "Priya", "Quentin", "Rachel", "Siti", "Wei"};
+    private static final String[] LAST_NAMES = {"Yeoh", "Yu", "Oliveiro", "Li", "Ibrahim", "Balakrishnan", "Bee",
+        "Meier", "Kurz", "Kunz", "Best", "Tan", "Lim", "Wong", "Ng", "Goh", "Chua", "Koh", "Teo", "Ong", "Rahman",
+        "Pillai", "Chen", "Lee", "Sim"};
+    private static final String[] STREETS = {"Geylang Street", "Serangoon Gardens Street", "Ang Mo Kio Street",
+        "Tampines Street", "Aljunied Street", "Jurong West Ave", "Clementi Ave", "Bedok North Road",
+        "Woodlands Drive", "Toa Payoh Lorong"};
+    // In decreasing order of how often they are used
+    private static final String[] TAGS = {"friends", "colleagues", "family", "neighbours", "classmates", "vip",
+        "lead", "supplier", "mentor", "alumni"};
+    private static final String[] CATEGORIES = {"Client", "Partner", "Investor", "Other"};
+    private static final int[] CATEGORY_PERCENTAGES = {40, 25, 15, 10};
+    private static final String[] NOTES = {"Prefers email over calls", "Follow up next week", "Sent proposal",
+        "Met at networking event", "Interested in premium plan", "Asked for a discount", "Call back after 6pm",
+        "Birthday in March", "Referred by a colleague", "Waiting for signed contract"};
+    private static final String[] EVENT_TITLES = {"Team Meeting", "Client Call", "Lunch", "Project Review",
+        "Pitch", "Site Visit", "Workshop", "Coffee Chat", "Quarterly Review", "Demo"};
+
+    private final long seed;
+    private final LocalDate firstDay;
+    private final int weeks;
+
+    /**
+     * Creates a {@code SyntheticDataGenerator} with the given {@code seed}, which places events in the
+     * {@value #DEFAULT_WEEKS} weeks from {@link #DEFAULT_FIRST_DAY}.
+     */
+    public SyntheticDataGenerator(long seed) {
+        this(seed, DEFAULT_FIRST_DAY, DEFAULT_WEEKS);
+    }
+
+    /**
+     * Creates a {@code SyntheticDataGenerator} with the given {@code seed}, which places events in the
+     * {@code weeks} weeks from {@code firstDay}.
+     */
+    public SyntheticDataGenerator(long seed, LocalDate firstDay, int weeks) {
+        checkArgument(weeks > 0, "The number of weeks should be positive.");
+        this.seed = seed;
+        this.firstDay = firstDay;
+        this.weeks = weeks;
+    }
+
+    /**
+     * Returns {@code count} persons with distinct identities.
+     */
+    public List<Person> generatePersons(int count) {
+        checkArgument(count >= 0, "The number of persons should not be negative.");
+        Random random = new Random(seed);
+        List<Person> persons = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String firstName = pick(random, FIRST_NAMES);
+            String lastName = pick(random, LAST_NAMES);
+            Person person = new Person(new Name(firstName + " " + lastName),
+                    new Phone(String.valueOf(80_000_000 + i)),
+                    new Email(firstName.toLowerCase() + "." + lastName.toLowerCase() + i + "@example.com"),
+                    new Address("Blk " + (random.nextInt(900) + 1) + " " + pick(random, STREETS) + " "
+                            + (random.nextInt(90) + 1) + ", #" + (random.nextInt(20) + 1) + "-"
+                            + (random.nextInt(90) + 10)),
+                    generateTags(random), generateCategory(random));
+            generateNotes(random).forEach(person::addNote);
+            persons.add(person);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns {@code count} events with distinct identities, each linked to some of {@code persons}.
+     */
+    public List<Event> generateEvents(int count, List<Person> persons) {
+        checkArgument(count >= 0, "The number of events should not be negative.");
+        Random random = new Random(seed + 1);
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDateTime start = firstDay.atTime(8 + random.nextInt(10), random.nextBoolean() ? 0 : 30)
+                    .plusDays(random.nextInt(weeks * 7));
+            LocalDateTime end = start.plusMinutes(30L * (1 + random.nextInt(6)));
+            events.add(new Event(pick(random, EVENT_TITLES) + " " + (i + 1), start, end,
+                    generateContacts(random, persons)));
+        }
+        return events;
+    }
+
+    /**
+     * Returns an address book with {@code personCount} persons and {@code eventCount} events linked to them.
+     */
+    public AddressBook generateAddressBook(int personCount, int eventCount) {
+        List<Person> persons = generatePersons(personCount);
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        addressBook.setEvents(generateEvents(eventCount, persons));
+        return addressBook;
+    }
+
+    /**
+     * Returns up to three tags, most of them from the start of {@link #TAGS}.
+     */
+    private static Set<Tag> generateTags(Random random) {
+        Set<Tag> tags = new HashSet<>();
+        for (int i = random.nextInt(4); i > 0; i--) {
+            tags.add(Tag.of(TAGS[skewedIndex(random, TAGS.length, 2)]));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns a category following {@link #CATEGORY_PERCENTAGES}, or none for the remaining persons.
+     */
+    private static Optional<Category> generateCategory(Random random) {
+        int percentile = random.nextInt(100);
+        for (int i = 0; i < CATEGORIES.length; i++) {
+            percentile -= CATEGORY_PERCENTAGES[i];
+            if (percentile < 0) {
+                return Optional.of(Category.of(CATEGORIES[i]));
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Returns no notes for about half of the persons, and up to {@link Person#MAX_NOTES} notes for the rest.
+     */
+    private static List<Note> generateNotes(Random random) {
+        List<Note> notes = new ArrayList<>();
+        if (random.nextBoolean()) {
+            return notes;
+        }
+        for (int i = 1 + skewedIndex(random, Person.MAX_NOTES, 2); i > 0; i--) {
+            notes.add(new Note(pick(random, NOTES)));
+        }
+        return notes;
+    }
+
+    /**
+     * Returns up to eight contacts from {@code persons}, most often one to three, favouring a few of the persons.
+     */
+    private static Set<Person> generateContacts(Random random, List<Person> persons) {
+        Set<Person> contacts = new HashSet<>();
+        if (persons.isEmpty()) {
+            return contacts;
+        }
+        for (int i = skewedIndex(random, 9, 2) + (random.nextInt(5) == 0 ? 0 : 1); i > 0; i--) {
+            contacts.add(persons.get(skewedIndex(random, persons.size(), 3)));
+        }
+        return contacts;
+    }
+
+    /**
+     * Returns an index below {@code bound}, with smaller indices more likely the larger {@code skew} is.
+     */
+    private static int skewedIndex(Random random, int bound, int skew) {
+        return (int) (Math.pow(random.nextDouble(), skew) * bound);
+    }
+
+    private static String pick(Random random, String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,92 @@
+package trackup.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Locale;
+
+import trackup.commons.core.DataFormat;
+import trackup.commons.exceptions.DataLoadingException;
+import trackup.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data files between the formats in {@link DataFormat}.
+ * Every format holds all of the data, so converting a file to another format and back gives the same address book.
+ *
+ * Usage: {@code AddressBookFormatConverter SOURCE TARGET json|binary}
+ */
+public class AddressBookFormatConverter {
+
+    public static final String MESSAGE_USAGE = "Usage: AddressBookFormatConverter SOURCE TARGET json|binary";
+
+    /**
+     * Returns an {@code AddressBookStorage} that keeps the data file at {@code filePath} in {@code format}.
+     */
+    public static AddressBookStorage createStorage(DataFormat format, Path filePath) {
+        requireNonNull(format);
+        requireNonNull(filePath);
+        return switch (format) {
+        case BINARY -> new BinaryAddressBookStorage(filePath);
+        case JSON -> new JsonAddressBookStorage(filePath);
+        };
+    }
+
+    /**
+     * Returns the format of the existing data file at {@code filePath}.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    public static DataFormat detectFormat(Path filePath) throws IOException {
+        return BinaryAddressBookStorage.isBinaryFile(filePath) ? DataFormat.BINARY : DataFormat.JSON;
+    }
+
+    /**
+     * Reads the data file at {@code source}, in whichever format it is in, and saves it to {@code target} in
+     * {@code targetFormat}.
+     *
+     * @throws DataLoadingException if {@code source} does not exist or could not be read.
+     * @throws IOException if {@code target} could not be written.
+     */
+    public static void convert(Path source, Path target, DataFormat targetFormat)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        requireNonNull(targetFormat);
+
+        DataFormat sourceFormat;
+        try {
+            sourceFormat = detectFormat(source);
+        } catch (IOException ioe) {
+            throw new DataLoadingException(ioe);
+        }
+        ReadOnlyAddressBook addressBook = createStorage(sourceFormat, source).readAddressBook()
+                .orElseThrow(() -> new DataLoadingException(new NoSuchFileException(source.toString())));
+        createStorage(targetFormat, target).saveAddressBook(addressBook);
+    }
+
+    public static void main(String[] args) {
+        if (args.length != 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        DataFormat targetFormat;
+        try {
+            targetFormat = DataFormat.valueOf(args[2].toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+            return;
+        }
+
+        try {
+            convert(Paths.get(args[0]), Paths.get(args[1]), targetFormat);
+        } catch (DataLoadingException | IOException e) {
+            System.err.println("Could not convert " + args[0] + ": " + e.getMessage());
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package trackup.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import trackup.commons.core.LogsCenter;
+import trackup.commons.exceptions.DataLoadingException;
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.commons.util.FileUtil;
+import trackup.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored as a binary file on the hard disk, in the format described in
+ * {@link BinarySerializableAddressBook}.
+ *
+ * A file that is not in the binary format is read as JSON, so that switching the format of an existing data file
+ * keeps its data. Such a file is rewritten in the binary format on the next save.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    /** The size of the largest file that can be read, as the whole file is read into one buffer. */
+    static final long MAX_FILE_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private Path filePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this.filePath = filePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} exists and is in the binary format.
+     *
+     * @throws IOException if the file could not be read.
+     */
+    public static boolean isBinaryFile(Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (!Files.exists(filePath)) {
+            return false;
+        }
+
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+            while (header.hasRemaining() && channel.read(header) != -1) {
+                // keep reading until the header is full or the file ends
+            }
+            return BinarySerializableAddressBook.hasMagic(header.flip());
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        ByteBuffer data;
+        try {
+            data = readFile(filePath);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        }
+
+        if (!BinarySerializableAddressBook.hasMagic(data)) {
+            logger.info(filePath + " is not in the binary format, reading it as JSON.");
+            return new JsonAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        try {
+            return Optional.of(BinarySerializableAddressBook.decode(data));
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    private static ByteBuffer readFile(Path filePath) throws IOException {
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAX_FILE_SIZE) {
+                throw new IOException("File is too large to read: " + size + " bytes, at most " + MAX_FILE_SIZE
+                        + " bytes can be read");
+            }
+
+            ByteBuffer data = ByteBuffer.allocate((int) size);
+            while (data.hasRemaining() && channel.read(data) != -1) {
+                // keep reading until the buffer is full or the file ends
+            }
+            return data.flip();
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        ByteBuffer[] data = BinarySerializableAddressBook.encode(addressBook);
+        FileUtil.createParentDirsOfFile(filePath);
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.WRITE, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (data[data.length - 1].hasRemaining()) {
+                channel.write(data);
+            }
+        }
+    }
+
+}
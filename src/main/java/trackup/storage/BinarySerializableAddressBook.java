@@ -0,0 +1,427 @@
+package trackup.storage;
+
+import static trackup.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT;
+import static trackup.storage.JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.commons.util.Interner;
+import trackup.model.AddressBook;
+import trackup.model.ReadOnlyAddressBook;
+import trackup.model.event.Event;
+import trackup.model.event.EventIdentity;
+import trackup.model.note.Note;
+import trackup.model.person.Person;
+import trackup.model.person.PersonIdentity;
+import trackup.model.tag.Tag;
+
+/**
+ * Converts an address book to and from the binary data format.
+ *
+ * The data starts with {@link #MAGIC} and the format version, followed by a table of every distinct string in the
+ * address book, then the persons and the events. Each person and event is a record prefixed by its length in bytes,
+ * so that a reader can skip fields appended to a record by a later version. Records refer to strings by their
+ * position in the table, and date-times are stored as seconds since the epoch in UTC and nanoseconds.
+ * As in the JSON format, events refer to their contacts by position in the persons, and embed contacts that are not
+ * among them. Counts, lengths and references are stored as variable-length integers.
+ */
+class BinarySerializableAddressBook {
+
+    /** The first four bytes of every binary data file, "TKUP" in ASCII. */
+    public static final int MAGIC = 0x544B5550;
+    public static final int CURRENT_VERSION = 1;
+
+    public static final String MESSAGE_NOT_BINARY = "Data is not in the binary format.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Binary format version %1$d is not supported.";
+    public static final String MESSAGE_TRUNCATED = "Binary data ends unexpectedly.";
+    public static final String MESSAGE_INVALID_RECORD = "Binary data contains an invalid record.";
+
+    private static final int INITIAL_BUFFER_CAPACITY = 1 << 16;
+
+    /**
+     * Returns true if {@code header}, the first bytes of a file, starts with {@link #MAGIC}.
+     */
+    public static boolean hasMagic(ByteBuffer header) {
+        return header.remaining() >= Integer.BYTES && header.getInt(header.position()) == MAGIC;
+    }
+
+    /**
+     * Encodes {@code source} in the binary format, as a header holding the string table followed by the records.
+     * Writing the returned buffers in order, e.g. with a gathering write, produces the whole file.
+     */
+    public static ByteBuffer[] encode(ReadOnlyAddressBook source) {
+        Map<String, Integer> strings = new HashMap<>();
+        List<String> stringTable = new ArrayList<>();
+        Output records = new Output(INITIAL_BUFFER_CAPACITY);
+        Function<String, Integer> stringRefOf = string -> strings.computeIfAbsent(string, unused -> {
+            stringTable.add(string);
+            return stringTable.size() - 1;
+        });
+
+        List<Person> persons = source.getPersonList();
+        records.putVarInt(persons.size());
+        for (Person person : persons) {
+            writePerson(records, person, stringRefOf);
+        }
+
+        Function<Person, Optional<Integer>> contactRefOf = JsonSerializableAddressBook.toContactRefs(persons);
+        List<Event> events = source.getEventList();
+        records.putVarInt(events.size());
+        for (Event event : events) {
+            writeEvent(records, event, stringRefOf, contactRefOf);
+        }
+
+        Output header = new Output(INITIAL_BUFFER_CAPACITY);
+        header.putInt(MAGIC);
+        header.putVarInt(CURRENT_VERSION);
+        header.putVarInt(stringTable.size());
+        for (String string : stringTable) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            header.putVarInt(bytes.length);
+            header.putBytes(bytes);
+        }
+        return new ByteBuffer[] {header.toByteBuffer(), records.toByteBuffer()};
+    }
+
+    private static void writePerson(Output out, Person person, Function<String, Integer> stringRefOf) {
+        int record = out.startRecord();
+        out.putVarInt(stringRefOf.apply(person.getName().fullName));
+        out.putVarInt(stringRefOf.apply(person.getPhone().value));
+        out.putVarInt(stringRefOf.apply(person.getEmail().value));
+        out.putVarInt(stringRefOf.apply(person.getAddress().value));
+        // 0 stands for no category, so every other reference is shifted by one
+        out.putVarInt(person.getCategory().map(category -> stringRefOf.apply(category.categoryName) + 1).orElse(0));
+        out.putVarInt(person.getTags().size());
+        for (Tag tag : person.getTags()) {
+            out.putVarInt(stringRefOf.apply(tag.tagName));
+        }
+        out.putVarInt(person.getNotes().size());
+        for (Note note : person.getNotes()) {
+            out.putVarInt(stringRefOf.apply(note.text));
+        }
+        out.endRecord(record);
+    }
+
+    private static void writeEvent(Output out, Event event, Function<String, Integer> stringRefOf,
+                                   Function<Person, Optional<Integer>> contactRefOf) {
+        List<Integer> contactRefs = new ArrayList<>();
+        List<Person> embeddedContacts = new ArrayList<>();
+        for (Person contact : event.getContacts()) {
+            Optional<Integer> contactRef = contactRefOf.apply(contact);
+            if (contactRef.isPresent()) {
+                contactRefs.add(contactRef.get());
+            } else {
+                embeddedContacts.add(contact);
+            }
+        }
+
+        int record = out.startRecord();
+        out.putVarInt(stringRefOf.apply(event.getTitle()));
+        putDateTime(out, event.getStartDateTime());
+        putDateTime(out, event.getEndDateTime());
+        out.putVarInt(contactRefs.size());
+        for (int contactRef : contactRefs) {
+            out.putVarInt(contactRef);
+        }
+        out.putVarInt(embeddedContacts.size());
+        for (Person contact : embeddedContacts) {
+            writePerson(out, contact, stringRefOf);
+        }
+        out.endRecord(record);
+    }
+
+    private static void putDateTime(Output out, LocalDateTime dateTime) {
+        out.putLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+        out.putVarInt(dateTime.getNano());
+    }
+
+    /**
+     * Decodes an address book in the binary format from the remaining bytes of {@code data}.
+     * Persons are checked against the same constraints as persons read from the JSON format, across the common
+     * fork-join pool while the records after them are decoded. The persons, then the events, are added to the
+     * address book in one bulk operation each.
+     *
+     * @throws IllegalValueException if {@code data} is not a valid address book in a supported version of the format.
+     */
+    public static AddressBook decode(ByteBuffer data) throws IllegalValueException {
+        if (!hasMagic(data)) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY);
+        }
+
+        try {
+            Input in = new Input(data);
+            in.getInt();
+            int version = in.getVarInt();
+            if (version > CURRENT_VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+
+            String[] strings = new String[in.getCount()];
+            for (int i = 0; i < strings.length; i++) {
+                strings[i] = in.getString();
+            }
+            in.setStrings(strings);
+
+            Interner<String> interner = new Interner<>();
+            ParallelConverter<JsonAdaptedPerson, Person> personConverter = new ParallelConverter<>(
+                    jsonAdaptedPerson -> jsonAdaptedPerson.toModelType(interner), PersonIdentity::of,
+                    MESSAGE_DUPLICATE_PERSON);
+            int personCount = in.getCount();
+            for (int i = 0; i < personCount; i++) {
+                personConverter.submit(readAdaptedPerson(in));
+            }
+            List<Person> persons = personConverter.join();
+
+            // Events are cheap to build once decoded, and are decoded in order from the same buffer
+            int eventCount = in.getCount();
+            List<Event> events = new ArrayList<>(eventCount);
+            Set<EventIdentity> eventIdentities = new HashSet<>();
+            for (int i = 0; i < eventCount; i++) {
+                Event event = readEvent(in, persons, interner);
+                if (!eventIdentities.add(EventIdentity.of(event))) {
+                    throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
+                }
+                events.add(event);
+            }
+
+            AddressBook addressBook = new AddressBook();
+            addressBook.setPersons(persons);
+            addressBook.setEvents(events);
+            return addressBook;
+        } catch (BufferUnderflowException e) {
+            throw new IllegalValueException(MESSAGE_TRUNCATED);
+        }
+    }
+
+    private static Person readPerson(Input in, Interner<String> interner) throws IllegalValueException {
+        return readAdaptedPerson(in).toModelType(interner);
+    }
+
+    /**
+     * Reads a person record into the Jackson-friendly form of a person, which is yet to be checked.
+     */
+    private static JsonAdaptedPerson readAdaptedPerson(Input in) throws IllegalValueException {
+        int recordEnd = in.startRecord();
+        String name = in.getStringRef();
+        String phone = in.getStringRef();
+        String email = in.getStringRef();
+        String address = in.getStringRef();
+        int categoryRef = in.getVarInt();
+        String category = categoryRef == 0 ? null : in.getString(categoryRef - 1);
+
+        List<JsonAdaptedTag> tags = new ArrayList<>();
+        int tagCount = in.getCount();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new JsonAdaptedTag(in.getStringRef()));
+        }
+        List<JsonAdaptedNote> notes = new ArrayList<>();
+        int noteCount = in.getCount();
+        for (int i = 0; i < noteCount; i++) {
+            notes.add(new JsonAdaptedNote(in.getStringRef()));
+        }
+        in.endRecord(recordEnd);
+
+        return new JsonAdaptedPerson(name, phone, email, address, tags, category, notes);
+    }
+
+    private static Event readEvent(Input in, List<Person> persons, Interner<String> interner)
+            throws IllegalValueException {
+        int recordEnd = in.startRecord();
+        String title = in.getStringRef();
+        LocalDateTime start = in.getDateTime();
+        LocalDateTime end = in.getDateTime();
+
+        Set<Person> contacts = new HashSet<>();
+        int contactRefCount = in.getCount();
+        for (int i = 0; i < contactRefCount; i++) {
+            int contactRef = in.getVarInt();
+            if (contactRef >= persons.size()) {
+                throw new IllegalValueException(
+                        String.format(JsonAdaptedEvent.INVALID_CONTACT_REF_MESSAGE_FORMAT, contactRef));
+            }
+            contacts.add(persons.get(contactRef));
+        }
+        int embeddedContactCount = in.getCount();
+        for (int i = 0; i < embeddedContactCount; i++) {
+            contacts.add(readPerson(in, interner));
+        }
+        in.endRecord(recordEnd);
+
+        return new Event(title, start, end, contacts);
+    }
+
+    /**
+     * A buffer that grows as data is written to it.
+     */
+    private static class Output {
+        private ByteBuffer buffer;
+
+        Output(int initialCapacity) {
+            buffer = ByteBuffer.allocate(initialCapacity);
+        }
+
+        private void ensureRemaining(int length) {
+            if (buffer.remaining() >= length) {
+                return;
+            }
+            int capacity = Math.max(buffer.capacity() * 2, buffer.position() + length);
+            buffer = ByteBuffer.allocate(capacity).put(buffer.flip());
+        }
+
+        void putInt(int value) {
+            ensureRemaining(Integer.BYTES);
+            buffer.putInt(value);
+        }
+
+        void putLong(long value) {
+            ensureRemaining(Long.BYTES);
+            buffer.putLong(value);
+        }
+
+        /**
+         * Writes a non-negative {@code value} in as few bytes as possible, seven bits per byte, with the high bit
+         * of every byte but the last set.
+         */
+        void putVarInt(int value) {
+            assert value >= 0 : "Only non-negative values can be written as variable-length integers.";
+            ensureRemaining(5);
+            while ((value & ~0x7F) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        void putBytes(byte[] bytes) {
+            ensureRemaining(bytes.length);
+            buffer.put(bytes);
+        }
+
+        /**
+         * Starts a record, and returns the position to pass to {@link #endRecord(int)} once its fields are written.
+         */
+        int startRecord() {
+            ensureRemaining(Integer.BYTES);
+            int start = buffer.position();
+            buffer.putInt(0);
+            return start;
+        }
+
+        void endRecord(int start) {
+            buffer.putInt(start, buffer.position() - start - Integer.BYTES);
+        }
+
+        ByteBuffer toByteBuffer() {
+            return buffer.flip();
+        }
+    }
+
+    /**
+     * Reads the binary format from a buffer, checking that every length and reference is within bounds.
+     */
+    private static class Input {
+        private final ByteBuffer buffer;
+        private String[] strings = new String[0];
+
+        Input(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        void setStrings(String[] strings) {
+            this.strings = strings;
+        }
+
+        int getInt() {
+            return buffer.getInt();
+        }
+
+        int getVarInt() throws IllegalValueException {
+            int value = 0;
+            for (int shift = 0; shift < Integer.SIZE; shift += 7) {
+                byte b = buffer.get();
+                value |= (b & 0x7F) << shift;
+                if (b >= 0) {
+                    if (value < 0) {
+                        break;
+                    }
+                    return value;
+                }
+            }
+            throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+        }
+
+        /**
+         * Reads a count of items that each take at least one byte, so that a corrupted count cannot cause a huge
+         * allocation.
+         */
+        int getCount() throws IllegalValueException {
+            int count = getVarInt();
+            if (count > buffer.remaining()) {
+                throw new BufferUnderflowException();
+            }
+            return count;
+        }
+
+        LocalDateTime getDateTime() throws IllegalValueException {
+            long epochSecond = buffer.getLong();
+            int nano = getVarInt();
+            try {
+                return LocalDateTime.ofEpochSecond(epochSecond, nano, ZoneOffset.UTC);
+            } catch (RuntimeException e) {
+                throw new IllegalValueException("Invalid DateTime format for Event.");
+            }
+        }
+
+        String getString() throws IllegalValueException {
+            byte[] bytes = new byte[getCount()];
+            buffer.get(bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+
+        String getString(int ref) throws IllegalValueException {
+            if (ref >= strings.length) {
+                throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+            }
+            return strings[ref];
+        }
+
+        String getStringRef() throws IllegalValueException {
+            return getString(getVarInt());
+        }
+
+        /**
+         * Starts reading a record, and returns the position to pass to {@link #endRecord(int)} once its fields are
+         * read.
+         */
+        int startRecord() throws IllegalValueException {
+            int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+            }
+            return buffer.position() + length;
+        }
+
+        /**
+         * Skips any fields of the record that this version does not know of.
+         */
+        void endRecord(int end) throws IllegalValueException {
+            if (buffer.position() > end) {
+                throw new IllegalValueException(MESSAGE_INVALID_RECORD);
+            }
+            buffer.position(end);
+        }
+    }
+}
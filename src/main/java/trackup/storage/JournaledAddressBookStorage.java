@@ -0,0 +1,380 @@
+package trackup.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import trackup.commons.core.LogsCenter;
+import trackup.commons.exceptions.DataLoadingException;
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.commons.util.JsonUtil;
+import trackup.commons.util.PersistentList;
+import trackup.model.AddressBook;
+import trackup.model.PersistentAddressBook;
+import trackup.model.ReadOnlyAddressBook;
+import trackup.model.event.Event;
+import trackup.model.note.Note;
+import trackup.model.person.Person;
+import trackup.model.person.PersonIdentity;
+
+/**
+ * An {@code AddressBookStorage} that records saves as an append-only journal next to a snapshot kept by another
+ * {@code AddressBookStorage}.
+ *
+ * Each save appends one line to the journal, holding only the persons, notes and events that changed since the
+ * previous save. The changes are found by comparing {@code PersistentAddressBook} snapshots with
+ * {@link PersistentList#diff}, so a save takes time proportional to the changes rather than to the address book.
+ * Notes changed in place are found only if they were marked as changed through
+ * {@link AddressBook#markNotesChanged}. Every {@code checkpointInterval} saves, or whenever the changes cannot be
+ * expressed as a journal entry, a full snapshot is written and the journal is restarted. Reading replays the
+ * journal over the snapshot.
+ *
+ * The journal starts with a header identifying the snapshot it applies to by its size and last modified time, so
+ * that a journal is not replayed over a snapshot changed by something else. A checkpoint deletes the journal before
+ * writing the snapshot, so a journal left behind by an interrupted checkpoint is never replayed over the newer
+ * snapshot. An incomplete last line, left behind by an interrupted save, is ignored.
+ *
+ * Reads and saves are synchronized, as the data may be loaded on one thread and saved on another.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final int DEFAULT_CHECKPOINT_INTERVAL = 100;
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final AddressBookStorage snapshotStorage;
+    private final int checkpointInterval;
+
+    // Guarded by this storage
+    private Baseline baseline;
+    private int entriesSinceCheckpoint;
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshots in {@code snapshotStorage}.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage) {
+        this(snapshotStorage, DEFAULT_CHECKPOINT_INTERVAL);
+    }
+
+    /**
+     * Creates a {@code JournaledAddressBookStorage} that keeps its snapshots in {@code snapshotStorage} and writes a
+     * new snapshot after every {@code checkpointInterval} journal entries.
+     */
+    public JournaledAddressBookStorage(AddressBookStorage snapshotStorage, int checkpointInterval) {
+        requireNonNull(snapshotStorage);
+        assert checkpointInterval > 0 : "Checkpoint interval should be positive.";
+        this.snapshotStorage = snapshotStorage;
+        this.checkpointInterval = checkpointInterval;
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return snapshotStorage.getAddressBookFilePath();
+    }
+
+    /**
+     * Returns the path of the journal kept for the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(getAddressBookFilePath());
+    }
+
+    /**
+     * Reads the snapshot at {@code filePath} and replays its journal, if any, over it.
+     * Only the journal of the file at {@link #getAddressBookFilePath()} is kept up to date by this storage.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        Optional<ReadOnlyAddressBook> snapshot = snapshotStorage.readAddressBook(filePath);
+        if (!filePath.equals(getAddressBookFilePath())) {
+            return snapshot;
+        }
+
+        baseline = null;
+        if (!snapshot.isPresent()) {
+            return snapshot;
+        }
+
+        List<Person> persons = new ArrayList<>(snapshot.get().getPersonList());
+        List<Event> events = new ArrayList<>(snapshot.get().getEventList());
+        int replayedEntries = replayJournal(filePath, persons, events);
+
+        AddressBook addressBook = new AddressBook();
+        try {
+            addressBook.setPersons(persons);
+            addressBook.setEvents(events);
+        } catch (RuntimeException e) {
+            logger.warning("Journal of " + filePath + " produced invalid data: " + e);
+            throw new DataLoadingException(e);
+        }
+
+        baseline = new Baseline(new PersistentAddressBook(PersistentList.copyOf(persons),
+                PersistentList.copyOf(events)));
+        entriesSinceCheckpoint = replayedEntries;
+        return Optional.of(addressBook);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, getAddressBookFilePath());
+    }
+
+    /**
+     * Saves {@code addressBook} to {@code filePath}, by appending its changes since the last save to the journal
+     * when {@code filePath} is the file at {@link #getAddressBookFilePath()}.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(getAddressBookFilePath())) {
+            snapshotStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        PersistentAddressBook snapshot = PersistentAddressBook.of(addressBook);
+        if (baseline == null || entriesSinceCheckpoint >= checkpointInterval) {
+            checkpoint(snapshot, filePath);
+            return;
+        }
+
+        // The baseline moves on to the snapshot as it is compared, so it is dropped unless the entry is written
+        Baseline currentBaseline = baseline;
+        baseline = null;
+        Optional<JsonAdaptedJournalEntry> entry = currentBaseline.advanceTo(snapshot);
+        if (!entry.isPresent()) {
+            checkpoint(snapshot, filePath);
+            return;
+        }
+        if (!entry.get().isEmpty()) {
+            // If this fails, the journal may end with a partial entry, so the next save has to write a full snapshot
+            Files.writeString(getJournalFilePath(filePath), JsonUtil.toCompactJsonString(entry.get()) + "\n",
+                    StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            entriesSinceCheckpoint++;
+        }
+        baseline = currentBaseline;
+    }
+
+    /**
+     * Writes {@code snapshot} as a full snapshot to {@code filePath} and restarts its journal.
+     */
+    private void checkpoint(PersistentAddressBook snapshot, Path filePath) throws IOException {
+        baseline = null;
+        Path journalPath = getJournalFilePath(filePath);
+        Files.deleteIfExists(journalPath);
+        snapshotStorage.saveAddressBook(snapshot, filePath);
+
+        JournalHeader header = JournalHeader.of(filePath);
+        Files.writeString(journalPath, JsonUtil.toCompactJsonString(header) + "\n", StandardCharsets.UTF_8);
+        baseline = new Baseline(snapshot);
+        entriesSinceCheckpoint = 0;
+    }
+
+    /**
+     * Applies the entries of the journal of the snapshot at {@code snapshotPath} to {@code persons} and
+     * {@code events}, and returns the number of entries applied.
+     */
+    private int replayJournal(Path snapshotPath, List<Person> persons, List<Event> events)
+            throws DataLoadingException {
+        Path journalPath = getJournalFilePath(snapshotPath);
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String headerLine = reader.readLine();
+            if (headerLine == null || !isHeaderOf(headerLine, snapshotPath)) {
+                logger.info("Ignoring journal " + journalPath + " as it does not belong to the current snapshot.");
+                return 0;
+            }
+
+            int replayedEntries = 0;
+            Map<PersonIdentity, Person> personsByIdentity = null;
+            String line = reader.readLine();
+            while (line != null) {
+                String nextLine = reader.readLine();
+                JsonAdaptedJournalEntry entry;
+                try {
+                    entry = JsonUtil.fromJsonString(line, JsonAdaptedJournalEntry.class);
+                } catch (IOException e) {
+                    if (nextLine == null) {
+                        logger.warning("Ignoring incomplete last entry of journal " + journalPath);
+                        break;
+                    }
+                    throw e;
+                }
+                if (personsByIdentity == null) {
+                    personsByIdentity = new HashMap<>();
+                    for (Person person : persons) {
+                        personsByIdentity.put(person.getIdentity(), person);
+                    }
+                }
+                entry.applyTo(persons, personsByIdentity, events);
+                replayedEntries++;
+                line = nextLine;
+            }
+            logger.info("Replayed " + replayedEntries + " entries of journal " + journalPath);
+            return replayedEntries;
+        } catch (IOException | IllegalValueException e) {
+            logger.warning("Error reading journal " + journalPath + ": " + e);
+            throw new DataLoadingException(e);
+        }
+    }
+
+    private static boolean isHeaderOf(String headerLine, Path snapshotPath) throws IOException {
+        try {
+            return JsonUtil.fromJsonString(headerLine, JournalHeader.class).equals(JournalHeader.of(snapshotPath));
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Identifies the snapshot a journal applies to by its size and last modified time, which are read without
+     * reading the snapshot itself.
+     */
+    static class JournalHeader {
+        private final long snapshotSize;
+        private final long snapshotModifiedTime;
+
+        @JsonCreator
+        JournalHeader(@JsonProperty("snapshotSize") long snapshotSize,
+                      @JsonProperty("snapshotModifiedTime") long snapshotModifiedTime) {
+            this.snapshotSize = snapshotSize;
+            this.snapshotModifiedTime = snapshotModifiedTime;
+        }
+
+        /**
+         * Returns the header for the snapshot at {@code snapshotPath}.
+         */
+        static JournalHeader of(Path snapshotPath) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(snapshotPath, BasicFileAttributes.class);
+            return new JournalHeader(attributes.size(), attributes.lastModifiedTime().to(TimeUnit.MICROSECONDS));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (other == this) {
+                return true;
+            }
+
+            // instanceof handles nulls
+            if (!(other instanceof JournalHeader otherHeader)) {
+                return false;
+            }
+
+            return snapshotSize == otherHeader.snapshotSize
+                    && snapshotModifiedTime == otherHeader.snapshotModifiedTime;
+        }
+
+        @Override
+        public int hashCode() {
+            return Long.hashCode(snapshotSize) * 31 + Long.hashCode(snapshotModifiedTime);
+        }
+    }
+
+    /**
+     * The persons, notes and events of the address book as last persisted, held by reference so that the next
+     * save can tell which of them changed.
+     */
+    private static class Baseline {
+        private PersistentAddressBook addressBook;
+        // The notes of every persisted person that has notes
+        private final Map<Person, List<Note>> notes = new IdentityHashMap<>();
+
+        Baseline(PersistentAddressBook addressBook) {
+            this.addressBook = addressBook;
+            for (Person person : addressBook.getPersons()) {
+                recordNotes(person);
+            }
+        }
+
+        /**
+         * Returns the changes from this baseline to {@code current} and moves this baseline to {@code current}, or
+         * returns an empty {@code Optional}, leaving this baseline unusable, if the changes cannot be expressed as a
+         * journal entry.
+         */
+        Optional<JsonAdaptedJournalEntry> advanceTo(PersistentAddressBook current) {
+            JsonAdaptedJournalEntry entry = new JsonAdaptedJournalEntry();
+            boolean isPersonDiffValid = addressBook.getPersons().diff(current.getPersons(),
+                    new PersistentList.DiffHandler<>() {
+                        @Override
+                        public void removed(int index, Person person) {
+                            entry.addRemovedPerson(index);
+                            notes.remove(person);
+                        }
+
+                        @Override
+                        public void added(int index, Person person) {
+                            entry.addAddedPerson(index, person);
+                            recordNotes(person);
+                        }
+
+                        @Override
+                        public void kept(int index, Person person) {
+                            List<Note> persistedNotes = notes.getOrDefault(person, List.of());
+                            if (!persistedNotes.equals(person.getNotes())) {
+                                entry.addChangedNotes(index, person.getNotes());
+                                notes.remove(person);
+                                recordNotes(person);
+                            }
+                        }
+                    });
+            if (!isPersonDiffValid) {
+                return Optional.empty();
+            }
+
+            boolean isEventDiffValid = addressBook.getEvents().diff(current.getEvents(),
+                    new PersistentList.DiffHandler<>() {
+                        @Override
+                        public void removed(int index, Event event) {
+                            entry.addRemovedEvent(index);
+                        }
+
+                        @Override
+                        public void added(int index, Event event) {
+                            entry.addAddedEvent(index, event);
+                        }
+                    });
+            if (!isEventDiffValid) {
+                return Optional.empty();
+            }
+
+            addressBook = current;
+            return Optional.of(entry);
+        }
+
+        private void recordNotes(Person person) {
+            List<Note> personNotes = person.getNotes();
+            if (!personNotes.isEmpty()) {
+                notes.put(person, personNotes);
+            }
+        }
+    }
+}
@@ -4,26 +4,32 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.function.Function;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import trackup.commons.exceptions.IllegalValueException;
+import trackup.commons.util.Interner;
 import trackup.model.event.Event;
 import trackup.model.person.Person;
 
 /**
  * Jackson-friendly version of {@link Event}.
+ * A contact is stored as a reference to its position in the persons of the address book where possible, and is
+ * embedded in full otherwise. Files written before contact references were introduced embed every contact.
  */
 class JsonAdaptedEvent {
 
     public static final String MISSING_FIELD_MESSAGE_FORMAT = "Event's %s field is missing!";
+    public static final String INVALID_CONTACT_REF_MESSAGE_FORMAT = "Event's contact reference %s is invalid!";
 
     private final String title;
     private final String startDateTime;
     private final String endDateTime;
+    private final List<Integer> contactRefs = new ArrayList<>();
     private final List<JsonAdaptedPerson> contacts = new ArrayList<>();
 
     /**
@@ -33,33 +39,93 @@ class JsonAdaptedEvent {
     public JsonAdaptedEvent(@JsonProperty("title") String title,
                             @JsonProperty("startDateTime") String startDateTime,
                             @JsonProperty("endDateTime") String endDateTime,
+                            @JsonProperty("contactRefs") List<Integer> contactRefs,
                             @JsonProperty("contacts") List<JsonAdaptedPerson> contacts) {
         this.title = title;
         this.startDateTime = startDateTime;
         this.endDateTime = endDateTime;
+        if (contactRefs != null) {
+            this.contactRefs.addAll(contactRefs);
+        }
         if (contacts != null) {
             this.contacts.addAll(contacts);
         }
     }
 
     /**
-     * Converts a given {@code Event} into this class for Jackson use.
+     * Constructs a {@code JsonAdaptedEvent} with the given event details and embedded contacts.
+     */
+    public JsonAdaptedEvent(String title, String startDateTime, String endDateTime,
+                            List<JsonAdaptedPerson> contacts) {
+        this(title, startDateTime, endDateTime, null, contacts);
+    }
+
+    /**
+     * Converts a given {@code Event} into this class for Jackson use, embedding every contact.
      */
     public JsonAdaptedEvent(Event source) {
+        this(source, contact -> Optional.empty());
+    }
+
+    /**
+     * Converts a given {@code Event} into this class for Jackson use.
+     *
+     * @param contactRefOf returns the reference to store for a contact, or an empty {@code Optional} if the contact
+     *     has to be embedded.
+     */
+    public JsonAdaptedEvent(Event source, Function<Person, Optional<Integer>> contactRefOf) {
         title = source.getTitle();
         startDateTime = source.getStartDateTime().toString();
         endDateTime = source.getEndDateTime().toString();
-        contacts.addAll(source.getContacts().stream()
-                .map(JsonAdaptedPerson::new)
-                .collect(Collectors.toList()));
+        for (Person contact : source.getContacts()) {
+            Optional<Integer> contactRef = contactRefOf.apply(contact);
+            if (contactRef.isPresent()) {
+                contactRefs.add(contactRef.get());
+            } else {
+                contacts.add(new JsonAdaptedPerson(contact));
+            }
+        }
     }
 
     /**
      * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
+     * The event must not contain contact references.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted event.
      */
     public Event toModelType() throws IllegalValueException {
+        return toModelType(List.of());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted event object into the model's {@code Event} object, resolving contact
+     * references against {@code persons}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted event.
+     */
+    public Event toModelType(List<Person> persons) throws IllegalValueException {
+        return toModelType(persons, new Interner<>());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted event object into the model's {@code Event} object, resolving contact
+     * references against {@code persons} and taking the strings of embedded contacts from {@code strings}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted event.
+     */
+    public Event toModelType(List<Person> persons, Interner<String> strings) throws IllegalValueException {
+        return toModelType(persons, strings, Function.identity());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted event object into the model's {@code Event} object, resolving contact
+     * references against {@code persons}, taking the strings of embedded contacts from {@code strings} and linking
+     * each embedded contact to the person returned for it by {@code contactOf}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted event.
+     */
+    public Event toModelType(List<Person> persons, Interner<String> strings, Function<Person, Person> contactOf)
+            throws IllegalValueException {
         if (title == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Title"));
         }
@@ -80,8 +146,14 @@ class JsonAdaptedEvent {
         }
 
         Set<Person> eventContacts = new HashSet<>();
+        for (Integer contactRef : contactRefs) {
+            if (contactRef == null || contactRef < 0 || contactRef >= persons.size()) {
+                throw new IllegalValueException(String.format(INVALID_CONTACT_REF_MESSAGE_FORMAT, contactRef));
+            }
+            eventContacts.add(persons.get(contactRef));
+        }
         for (JsonAdaptedPerson contact : contacts) {
-            eventContacts.add(contact.toModelType());
+            eventContacts.add(contactOf.apply(contact.toModelType(strings)));
         }
 
         return new Event(title, modelStartDateTime, modelEndDateTime, eventContacts);
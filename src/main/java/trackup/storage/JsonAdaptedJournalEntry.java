@@ -0,0 +1,187 @@
+package trackup.storage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.commons.util.Interner;
+import trackup.model.event.Event;
+import trackup.model.note.Note;
+import trackup.model.person.Person;
+import trackup.model.person.PersonIdentity;
+
+/**
+ * Jackson-friendly record of the changes made to an address book between two saves.
+ * Removals are given as positions in the lists before the change, additions as positions in the lists after it.
+ * Events embed their contacts, which are linked back to the persons with the same identity when applied. Entries
+ * written before contacts were embedded refer to them by position in the persons after the change.
+ */
+class JsonAdaptedJournalEntry {
+
+    public static final String INVALID_POSITION_MESSAGE = "Journal entry refers to an invalid position.";
+
+    private final List<Integer> removedPersons = new ArrayList<>();
+    private final List<IndexedPerson> addedPersons = new ArrayList<>();
+    private final List<IndexedNotes> changedNotes = new ArrayList<>();
+    private final List<Integer> removedEvents = new ArrayList<>();
+    private final List<IndexedEvent> addedEvents = new ArrayList<>();
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalEntry} with the given changes.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalEntry(@JsonProperty("removedPersons") List<Integer> removedPersons,
+                                   @JsonProperty("addedPersons") List<IndexedPerson> addedPersons,
+                                   @JsonProperty("changedNotes") List<IndexedNotes> changedNotes,
+                                   @JsonProperty("removedEvents") List<Integer> removedEvents,
+                                   @JsonProperty("addedEvents") List<IndexedEvent> addedEvents) {
+        addAllIfPresent(this.removedPersons, removedPersons);
+        addAllIfPresent(this.addedPersons, addedPersons);
+        addAllIfPresent(this.changedNotes, changedNotes);
+        addAllIfPresent(this.removedEvents, removedEvents);
+        addAllIfPresent(this.addedEvents, addedEvents);
+    }
+
+    /**
+     * Constructs an empty {@code JsonAdaptedJournalEntry}.
+     */
+    public JsonAdaptedJournalEntry() {
+        this(null, null, null, null, null);
+    }
+
+    public void addRemovedPerson(int position) {
+        removedPersons.add(position);
+    }
+
+    public void addAddedPerson(int position, Person person) {
+        addedPersons.add(new IndexedPerson(position, new JsonAdaptedPerson(person)));
+    }
+
+    /**
+     * Records that the notes of the person at {@code position} have been changed to {@code notes}.
+     */
+    public void addChangedNotes(int position, List<Note> notes) {
+        changedNotes.add(new IndexedNotes(position, notes.stream().map(JsonAdaptedNote::new).toList()));
+    }
+
+    public void addRemovedEvent(int position) {
+        removedEvents.add(position);
+    }
+
+    public void addAddedEvent(int position, Event event) {
+        addedEvents.add(new IndexedEvent(position, new JsonAdaptedEvent(event)));
+    }
+
+    /**
+     * Returns true if this entry records no changes.
+     */
+    public boolean isEmpty() {
+        return removedPersons.isEmpty() && addedPersons.isEmpty() && changedNotes.isEmpty()
+                && removedEvents.isEmpty() && addedEvents.isEmpty();
+    }
+
+    /**
+     * Applies the changes in this entry to {@code persons} and {@code events}, keeping {@code personsByIdentity}
+     * mapping the identity of every person in {@code persons} to that person.
+     *
+     * @throws IllegalValueException if the entry does not apply to the given lists or contains invalid data.
+     */
+    public void applyTo(List<Person> persons, Map<PersonIdentity, Person> personsByIdentity, List<Event> events)
+            throws IllegalValueException {
+        for (Person person : removePositions(persons, removedPersons)) {
+            personsByIdentity.remove(person.getIdentity());
+        }
+        for (IndexedPerson addedPerson : addedPersons) {
+            checkPosition(addedPerson.position, persons.size() + 1);
+            Person person = addedPerson.person.toModelType();
+            persons.add(addedPerson.position, person);
+            personsByIdentity.put(person.getIdentity(), person);
+        }
+        for (IndexedNotes notes : changedNotes) {
+            checkPosition(notes.position, persons.size());
+            List<Note> modelNotes = new ArrayList<>();
+            for (JsonAdaptedNote note : notes.notes) {
+                modelNotes.add(note.toModelType());
+            }
+            persons.get(notes.position).setNotes(modelNotes);
+        }
+
+        removePositions(events, removedEvents);
+        for (IndexedEvent addedEvent : addedEvents) {
+            checkPosition(addedEvent.position, events.size() + 1);
+            events.add(addedEvent.position, addedEvent.event.toModelType(persons, new Interner<>(),
+                    contact -> personsByIdentity.getOrDefault(contact.getIdentity(), contact)));
+        }
+    }
+
+    /**
+     * Removes the elements at {@code positions}, given in ascending order, from {@code list}, and returns them.
+     */
+    private static <T> List<T> removePositions(List<T> list, List<Integer> positions) throws IllegalValueException {
+        List<T> removed = new ArrayList<>();
+        for (int i = positions.size() - 1; i >= 0; i--) {
+            Integer position = positions.get(i);
+            checkPosition(position, list.size());
+            removed.add(list.remove((int) position));
+        }
+        return removed;
+    }
+
+    private static void checkPosition(Integer position, int bound) throws IllegalValueException {
+        if (position == null || position < 0 || position >= bound) {
+            throw new IllegalValueException(INVALID_POSITION_MESSAGE);
+        }
+    }
+
+    private static <T> void addAllIfPresent(List<T> target, List<T> source) {
+        if (source != null) {
+            target.addAll(source);
+        }
+    }
+
+    /**
+     * A person added at a position.
+     */
+    static class IndexedPerson {
+        private final Integer position;
+        private final JsonAdaptedPerson person;
+
+        @JsonCreator
+        IndexedPerson(@JsonProperty("position") Integer position, @JsonProperty("person") JsonAdaptedPerson person) {
+            this.position = position;
+            this.person = person;
+        }
+    }
+
+    /**
+     * The notes of the person at a position.
+     */
+    static class IndexedNotes {
+        private final Integer position;
+        private final List<JsonAdaptedNote> notes = new ArrayList<>();
+
+        @JsonCreator
+        IndexedNotes(@JsonProperty("position") Integer position, @JsonProperty("notes") List<JsonAdaptedNote> notes) {
+            this.position = position;
+            addAllIfPresent(this.notes, notes);
+        }
+    }
+
+    /**
+     * An event added at a position.
+     */
+    static class IndexedEvent {
+        private final Integer position;
+        private final JsonAdaptedEvent event;
+
+        @JsonCreator
+        IndexedEvent(@JsonProperty("position") Integer position, @JsonProperty("event") JsonAdaptedEvent event) {
+            this.position = position;
+            this.event = event;
+        }
+    }
+}
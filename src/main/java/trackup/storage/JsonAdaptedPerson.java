@@ -11,6 +11,7 @@ import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import trackup.commons.exceptions.IllegalValueException;
+import trackup.commons.util.Interner;
 import trackup.model.category.Category;
 import trackup.model.note.Note;
 import trackup.model.person.Address;
@@ -81,6 +82,16 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(new Interner<>());
+    }
+
+    /**
+     * Converts this Jackson-friendly adapted person object into the model's {@code Person} object, taking its name
+     * and address from {@code strings} so that persons converted with the same pool share equal strings.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the adapted person.
+     */
+    public Person toModelType(Interner<String> strings) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
             personTags.add(tag.toModelType());
@@ -92,7 +103,7 @@ class JsonAdaptedPerson {
         if (!Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = new Name(strings.intern(name));
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
@@ -116,7 +127,7 @@ class JsonAdaptedPerson {
         if (!Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = new Address(strings.intern(address));
 
         final Set<Tag> modelTags = new HashSet<>(personTags);
 
@@ -127,7 +138,7 @@ class JsonAdaptedPerson {
             if (!Category.isValidCategoryName(category)) {
                 throw new IllegalValueException(Category.MESSAGE_CONSTRAINTS);
             }
-            modelCategory = new Category(category);
+            modelCategory = Category.of(category);
         }
 
         final List<Note> modelNotes = new ArrayList<>();
@@ -141,10 +152,7 @@ class JsonAdaptedPerson {
 
         Person person = new Person(modelName, modelPhone, modelEmail, modelAddress, modelTags,
                 Optional.ofNullable(modelCategory));
-
-        for (Note note : modelNotes) {
-            person.addNote(note); // safe since we already checked the size
-        }
+        person.setNotes(modelNotes); // safe since we already checked the size
 
         return person;
     }
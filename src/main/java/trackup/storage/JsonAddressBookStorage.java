@@ -3,6 +3,7 @@ package trackup.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
@@ -45,18 +46,39 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
+        JsonAddressBookStreamReader reader = new JsonAddressBookStreamReader(filePath);
+        ReadOnlyAddressBook addressBook;
         try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+            addressBook = reader.read();
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
         }
+
+        if (reader.isLegacyFormat()) {
+            migrateAddressBook(addressBook, filePath);
+        }
+        return Optional.of(addressBook);
+    }
+
+    /**
+     * Rewrites the data file at {@code filePath}, which is in an older format, in the current format.
+     * Failing to do so is not fatal, as the file can still be read in its older format.
+     */
+    private void migrateAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+        try {
+            saveAddressBook(addressBook, filePath);
+            logger.info("Migrated " + filePath + " to the current data format.");
+        } catch (IOException ioe) {
+            logger.warning("Unable to migrate " + filePath + " to the current data format: " + ioe);
+        }
     }
 
     @Override
@@ -0,0 +1,147 @@
+package trackup.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.commons.util.Interner;
+import trackup.commons.util.JsonUtil;
+import trackup.model.AddressBook;
+import trackup.model.event.Event;
+import trackup.model.event.EventIdentity;
+import trackup.model.person.Person;
+import trackup.model.person.PersonIdentity;
+
+/**
+ * Reads an address book file in the format of {@link JsonSerializableAddressBook} one person or event at a time.
+ * Each entry is handed to a {@link ParallelConverter} as soon as it is parsed, so that it is validated and converted
+ * into a model object on the common fork-join pool while the entries after it are parsed. Neither the contents of
+ * the file nor the Jackson-friendly form of the whole address book is held in memory. The converted persons, then
+ * events, are added to the address book in one bulk operation each.
+ *
+ * Events are expected after the persons they refer to, as they are written by {@link JsonAddressBookStorage}.
+ * Events found before the persons are kept until the persons have been read.
+ */
+class JsonAddressBookStreamReader {
+
+    private final Path filePath;
+    private Integer version;
+
+    /**
+     * Creates a {@code JsonAddressBookStreamReader} for the file at {@code filePath}.
+     */
+    JsonAddressBookStreamReader(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Reads the address book in the file.
+     *
+     * @throws IOException if the file cannot be read or is not a valid JSON address book.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    AddressBook read() throws IOException, IllegalValueException {
+        // Many persons share a name or an address, which are read as separate strings
+        Interner<String> strings = new Interner<>();
+        ParallelConverter<JsonAdaptedPerson, Person> personConverter = new ParallelConverter<>(
+                jsonAdaptedPerson -> jsonAdaptedPerson.toModelType(strings), PersonIdentity::of,
+                JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        List<Person> persons = null;
+        ParallelConverter<JsonAdaptedEvent, Event> eventConverter = null;
+        List<JsonAdaptedEvent> eventsBeforePersons = new ArrayList<>();
+        boolean hasReadPersons = false;
+
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                JsonToken valueToken = parser.nextToken();
+                switch (fieldName) {
+                case "version":
+                    version = valueToken == JsonToken.VALUE_NULL ? null : parser.getIntValue();
+                    break;
+                case "persons":
+                    readArray(parser, JsonAdaptedPerson.class, personConverter::submit);
+                    hasReadPersons = true;
+                    break;
+                case "events":
+                    if (!hasReadPersons) {
+                        readArray(parser, JsonAdaptedEvent.class, eventsBeforePersons::add);
+                        break;
+                    }
+                    if (eventConverter == null) {
+                        persons = personConverter.join();
+                        eventConverter = createEventConverter(persons, strings);
+                    }
+                    readArray(parser, JsonAdaptedEvent.class, eventConverter::submit);
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+                }
+            }
+            expect(parser, parser.currentToken(), JsonToken.END_OBJECT);
+        }
+
+        if (eventConverter == null) {
+            persons = personConverter.join();
+            eventConverter = createEventConverter(persons, strings);
+        }
+        eventsBeforePersons.forEach(eventConverter::submit);
+        List<Event> events = eventConverter.join();
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(persons);
+        addressBook.setEvents(events);
+        return addressBook;
+    }
+
+    /**
+     * Returns true if the file read was in an older format than {@link JsonSerializableAddressBook#CURRENT_VERSION}.
+     * Only meaningful after {@link #read()}.
+     */
+    boolean isLegacyFormat() {
+        return version == null || version < JsonSerializableAddressBook.CURRENT_VERSION;
+    }
+
+    private static ParallelConverter<JsonAdaptedEvent, Event> createEventConverter(List<Person> persons,
+            Interner<String> strings) {
+        return new ParallelConverter<>(jsonAdaptedEvent -> jsonAdaptedEvent.toModelType(persons, strings),
+                EventIdentity::of, JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+    }
+
+    /**
+     * Binds each element of the array at the current token of {@code parser} to {@code elementClass} and passes
+     * it to {@code consumer}. A {@code null} in place of the array is read as an empty array.
+     */
+    private static <T> void readArray(JsonParser parser, Class<T> elementClass, ElementConsumer<T> consumer)
+            throws IOException, IllegalValueException {
+        if (parser.currentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, parser.currentToken(), JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            consumer.accept(parser.readValueAs(elementClass));
+        }
+    }
+
+    private static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    @FunctionalInterface
+    private interface ElementConsumer<T> {
+        void accept(T element) throws IllegalValueException;
+    }
+}
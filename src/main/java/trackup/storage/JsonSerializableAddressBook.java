@@ -3,7 +3,11 @@ package trackup.storage;
 import static trackup.logic.commands.AddEventCommand.MESSAGE_DUPLICATE_EVENT;
 
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
@@ -11,29 +15,38 @@ import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import trackup.commons.exceptions.IllegalValueException;
+import trackup.commons.util.Interner;
 import trackup.model.AddressBook;
 import trackup.model.ReadOnlyAddressBook;
 import trackup.model.event.Event;
+import trackup.model.event.EventIdentity;
 import trackup.model.person.Person;
+import trackup.model.person.PersonIdentity;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
+ * Events refer to their contacts by position in {@code persons}. Files without a {@code version}, written before
+ * this format was introduced, embed the contacts of each event instead and are still accepted.
  */
 @JsonRootName(value = "addressbook")
 class JsonSerializableAddressBook {
 
     public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
     public static final String MESSAGE_DUPLICATE_EVENT = "This event already exists in the calendar";
+    public static final int CURRENT_VERSION = 2;
 
+    private final Integer version;
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
 
     /**
-     * Constructs a {@code JsonSerializableAddressBook} with the given persons.
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons and events.
      */
     @JsonCreator
-    public JsonSerializableAddressBook(@JsonProperty("persons") List<JsonAdaptedPerson> persons,
+    public JsonSerializableAddressBook(@JsonProperty("version") Integer version,
+                                       @JsonProperty("persons") List<JsonAdaptedPerson> persons,
                                        @JsonProperty("events") List<JsonAdaptedEvent> events) {
+        this.version = version;
         this.persons.addAll(persons);
         this.events.addAll(events);
     }
@@ -44,34 +57,56 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
-        persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
-        events.addAll(source.getEventList().stream().map(JsonAdaptedEvent::new).collect(Collectors.toList()));
+        version = CURRENT_VERSION;
+        List<Person> sourcePersons = source.getPersonList();
+        persons.addAll(sourcePersons.stream().map(JsonAdaptedPerson::new).collect(Collectors.toList()));
+
+        Function<Person, Optional<Integer>> contactRefOf = toContactRefs(sourcePersons);
+        events.addAll(source.getEventList().stream()
+                .map(event -> new JsonAdaptedEvent(event, contactRefOf))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Returns true if this address book was read from a file in an older format than {@link #CURRENT_VERSION}.
+     */
+    public boolean isLegacyFormat() {
+        return version == null || version < CURRENT_VERSION;
     }
 
     /**
      * Converts this address book into the model's {@code AddressBook} object.
+     * The persons, then the events, are converted across the common fork-join pool, and each list is then added to
+     * the address book in one bulk operation.
      *
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
-
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
-            if (addressBook.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
-            }
-            addressBook.addEvent(event);
-        }
+        // Many persons share a name or an address, which are read as separate strings
+        Interner<String> strings = new Interner<>();
+        List<Person> modelPersons = ParallelConverter.convertAll(persons,
+                jsonAdaptedPerson -> jsonAdaptedPerson.toModelType(strings), PersonIdentity::of,
+                MESSAGE_DUPLICATE_PERSON);
+        List<Event> modelEvents = ParallelConverter.convertAll(events,
+                jsonAdaptedEvent -> jsonAdaptedEvent.toModelType(modelPersons, strings), EventIdentity::of,
+                MESSAGE_DUPLICATE_EVENT);
 
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(modelPersons);
+        addressBook.setEvents(modelEvents);
         return addressBook;
     }
 
+    /**
+     * Returns a function giving the position of a contact in {@code persons}, or an empty {@code Optional} if
+     * {@code persons} does not contain a person equal to the contact.
+     */
+    static Function<Person, Optional<Integer>> toContactRefs(List<Person> persons) {
+        Map<PersonIdentity, Integer> positions = new HashMap<>();
+        for (int i = 0; i < persons.size(); i++) {
+            positions.put(PersonIdentity.of(persons.get(i)), i);
+        }
+        return contact -> Optional.ofNullable(positions.get(PersonIdentity.of(contact)))
+                .filter(position -> persons.get(position).equals(contact));
+    }
 }
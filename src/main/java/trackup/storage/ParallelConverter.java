@@ -0,0 +1,155 @@
+package trackup.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+import trackup.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts the Jackson-friendly forms of persons or events into model objects across the common fork-join pool, as
+ * they are read. Each chunk of {@value #CHUNK_SIZE} sources is converted by one task, so that the sources can be
+ * read on one thread while the ones read before them are validated and converted on the others.
+ *
+ * Duplicates are detected as the objects are converted, with a concurrent set of their identities. The converted
+ * objects are returned in the order their sources were submitted, ready to be published to the model in one bulk
+ * operation. If some sources cannot be converted, the error of the first one in that order is thrown.
+ *
+ * @param <A> the type of the Jackson-friendly sources.
+ * @param <T> the type of the converted model objects.
+ */
+class ParallelConverter<A, T> {
+
+    /** The number of sources converted by one task. */
+    static final int CHUNK_SIZE = 1024;
+
+    private final Conversion<A, T> conversion;
+    private final Function<T, ?> identityOf;
+    private final String duplicateMessage;
+    private final Set<Object> identities = ConcurrentHashMap.newKeySet();
+    private final List<ChunkTask<A, T>> chunkTasks = new ArrayList<>();
+    private List<A> pendingChunk = new ArrayList<>(CHUNK_SIZE);
+    private int size;
+
+    /**
+     * Creates a {@code ParallelConverter} that converts each source with {@code conversion}, and fails with
+     * {@code duplicateMessage} if two converted objects have equal identities given by {@code identityOf}.
+     */
+    ParallelConverter(Conversion<A, T> conversion, Function<T, ?> identityOf, String duplicateMessage) {
+        requireNonNull(conversion);
+        requireNonNull(identityOf);
+        requireNonNull(duplicateMessage);
+        this.conversion = conversion;
+        this.identityOf = identityOf;
+        this.duplicateMessage = duplicateMessage;
+    }
+
+    /**
+     * Returns the objects converted from {@code sources} with {@code conversion}, in order.
+     *
+     * @throws IllegalValueException if a source cannot be converted, or two converted objects have equal identities
+     *     given by {@code identityOf}.
+     */
+    static <A, T> List<T> convertAll(List<A> sources, Conversion<A, T> conversion, Function<T, ?> identityOf,
+            String duplicateMessage) throws IllegalValueException {
+        ParallelConverter<A, T> converter = new ParallelConverter<>(conversion, identityOf, duplicateMessage);
+        sources.forEach(converter::submit);
+        return converter.join();
+    }
+
+    /**
+     * Adds {@code source} to be converted, starting the conversion of the current chunk once it is full.
+     */
+    void submit(A source) {
+        requireNonNull(source);
+        pendingChunk.add(source);
+        size++;
+        if (pendingChunk.size() == CHUNK_SIZE) {
+            forkPendingChunk();
+        }
+    }
+
+    /**
+     * Waits for every submitted source to be converted, and returns the converted objects in the order their
+     * sources were submitted. No more sources can be submitted afterwards.
+     *
+     * @throws IllegalValueException if a source cannot be converted, or two converted objects have equal identities.
+     */
+    List<T> join() throws IllegalValueException {
+        if (!pendingChunk.isEmpty()) {
+            forkPendingChunk();
+        }
+        pendingChunk = List.of();
+
+        List<T> converted = new ArrayList<>(size);
+        for (ChunkTask<A, T> chunkTask : chunkTasks) {
+            List<T> chunk = chunkTask.join();
+            if (chunkTask.error != null) {
+                throw chunkTask.error;
+            }
+            converted.addAll(chunk);
+        }
+        return converted;
+    }
+
+    private void forkPendingChunk() {
+        ChunkTask<A, T> chunkTask = new ChunkTask<>(this, pendingChunk);
+        chunkTasks.add(chunkTask);
+        chunkTask.fork();
+        pendingChunk = new ArrayList<>(CHUNK_SIZE);
+    }
+
+    /**
+     * Converts one source into a model object.
+     */
+    @FunctionalInterface
+    interface Conversion<A, T> {
+        /**
+         * Returns the model object for {@code source}.
+         *
+         * @throws IllegalValueException if {@code source} violates any data constraints.
+         */
+        T convert(A source) throws IllegalValueException;
+    }
+
+    /**
+     * Converts one chunk of sources, stopping at the first that cannot be converted.
+     */
+    private static class ChunkTask<A, T> extends RecursiveTask<List<T>> {
+        private final ParallelConverter<A, T> converter;
+        // Dropped once converted, so that the sources of a large file are not all held at once
+        private List<A> sources;
+        private IllegalValueException error;
+
+        ChunkTask(ParallelConverter<A, T> converter, List<A> sources) {
+            this.converter = converter;
+            this.sources = sources;
+        }
+
+        @Override
+        protected List<T> compute() {
+            List<T> converted = new ArrayList<>(sources.size());
+            try {
+                for (A source : sources) {
+                    T object = converter.conversion.convert(source);
+                    if (!converter.identities.add(converter.identityOf.apply(object))) {
+                        throw new IllegalValueException(converter.duplicateMessage);
+                    }
+                    converted.add(object);
+                }
+            } catch (IllegalValueException e) {
+                error = e;
+            } catch (RuntimeException e) {
+                // Reported like invalid data rather than escaping join() unchecked, so that loading fails cleanly
+                error = new IllegalValueException("Unexpected error while converting: " + e, e);
+            }
+            sources = null;
+            return converted;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package trackup.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import trackup.commons.exceptions.DataLoadingException;
 import trackup.model.ReadOnlyAddressBook;
@@ -29,4 +30,15 @@ public interface Storage extends AddressBookStorage, UserPrefsStorage {
     @Override
     void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException;
 
+    /**
+     * Sets the handler told about errors in saves of the address book that happen in the background, whether
+     * writing the file failed or the address book could not be serialized.
+     */
+    void setAddressBookSaveErrorHandler(Consumer<Exception> errorHandler);
+
+    /**
+     * Waits until every save of the address book requested so far has been written.
+     */
+    void flushAddressBook();
+
 }
@@ -3,16 +3,27 @@ package trackup.storage;
 import java.io.IOException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import trackup.commons.core.LogsCenter;
 import trackup.commons.exceptions.DataLoadingException;
+import trackup.commons.util.StringUtil;
+import trackup.model.PersistentAddressBook;
 import trackup.model.ReadOnlyAddressBook;
 import trackup.model.ReadOnlyUserPrefs;
 import trackup.model.UserPrefs;
 
 /**
  * Manages storage of AddressBook data in local storage.
+ *
+ * In write-behind mode, saves of the address book to its own file only take a snapshot of it and return; the
+ * snapshot is written by a background thread. Saves requested while an earlier one is waiting to be written replace
+ * it, so a burst of saves results in a single write of the latest address book.
  */
 public class StorageManager implements Storage {
 
@@ -20,12 +31,30 @@ public class StorageManager implements Storage {
     private AddressBookStorage addressBookStorage;
     private UserPrefsStorage userPrefsStorage;
 
+    private final ExecutorService addressBookWriter;
+    private final AtomicReference<ReadOnlyAddressBook> pendingAddressBook = new AtomicReference<>();
+    private volatile Consumer<Exception> addressBookSaveErrorHandler = StorageManager::logSaveError;
+
     /**
      * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage}.
      */
     public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage) {
+        this(addressBookStorage, userPrefsStorage, false);
+    }
+
+    /**
+     * Creates a {@code StorageManager} with the given {@code AddressBookStorage} and {@code UserPrefStorage},
+     * which writes the address book in the background if {@code isWriteBehind} is true.
+     */
+    public StorageManager(AddressBookStorage addressBookStorage, UserPrefsStorage userPrefsStorage,
+                          boolean isWriteBehind) {
         this.addressBookStorage = addressBookStorage;
         this.userPrefsStorage = userPrefsStorage;
+        this.addressBookWriter = isWriteBehind ? Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-writer");
+            thread.setDaemon(true);
+            return thread;
+        }) : null;
     }
 
     // ================ UserPrefs methods ==============================
@@ -64,9 +93,21 @@ public class StorageManager implements Storage {
         return addressBookStorage.readAddressBook(filePath);
     }
 
+    /**
+     * Saves {@code addressBook} to its file, in the background if this {@code StorageManager} is in write-behind
+     * mode. Errors in background saves are reported to the handler set by
+     * {@link #setAddressBookSaveErrorHandler(Consumer)} instead of being thrown.
+     */
     @Override
     public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
-        saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        if (addressBookWriter == null) {
+            saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+            return;
+        }
+
+        if (pendingAddressBook.getAndSet(PersistentAddressBook.of(addressBook)) == null) {
+            addressBookWriter.execute(this::writePendingAddressBook);
+        }
     }
 
     @Override
@@ -74,4 +115,47 @@ public class StorageManager implements Storage {
         logger.fine("Attempting to write to data file: " + filePath);
         addressBookStorage.saveAddressBook(addressBook, filePath);
     }
+
+    @Override
+    public void setAddressBookSaveErrorHandler(Consumer<Exception> errorHandler) {
+        addressBookSaveErrorHandler = errorHandler;
+    }
+
+    @Override
+    public void flushAddressBook() {
+        if (addressBookWriter == null) {
+            return;
+        }
+
+        try {
+            // The writer runs one task at a time, so this completes after every save requested before it
+            addressBookWriter.submit(() -> { }).get();
+        } catch (InterruptedException e) {
+            logger.warning("Interrupted while waiting for the address book to be saved");
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new AssertionError("Waiting for the address book writer should not fail.", e);
+        }
+    }
+
+    /**
+     * Writes the latest address book waiting to be saved, if it has not been written yet.
+     */
+    private void writePendingAddressBook() {
+        ReadOnlyAddressBook addressBook = pendingAddressBook.getAndSet(null);
+        if (addressBook == null) {
+            return;
+        }
+
+        try {
+            saveAddressBook(addressBook, addressBookStorage.getAddressBookFilePath());
+        } catch (IOException | RuntimeException e) {
+            // Nothing else sees errors thrown on the writer thread, so they must all reach the handler
+            addressBookSaveErrorHandler.accept(e);
+        }
+    }
+
+    private static void logSaveError(Exception e) {
+        logger.warning("Failed to save address book in the background: " + StringUtil.getDetails(e));
+    }
 }
@@ -2,8 +2,10 @@ package trackup.ui;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.collections.ObservableList;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
@@ -32,6 +34,9 @@ import trackup.model.event.Event;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    public static final String MESSAGE_LOADING = "Loading data... Commands entered now will run once it has loaded.";
+    public static final String MESSAGE_LOADED = "Data loaded.";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
@@ -43,6 +48,7 @@ public class MainWindow extends UiPart<Stage> {
     private PersonListPanel personListPanel;
     private EventListPanel eventListPanel;
     private ResultDisplay resultDisplay;
+    private StatusBarFooter statusBarFooter;
     private HelpWindow helpWindow;
     private WeeklyCalendarView calendarView;
 
@@ -203,9 +209,14 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveErrorHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
-        StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
+        statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        if (logic.isLoading()) {
+            statusBarFooter.setLoading(true);
+            resultDisplay.setFeedbackToUser(MESSAGE_LOADING);
+        }
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -225,6 +236,17 @@ public class MainWindow extends UiPart<Stage> {
         handleShowPersons();
     }
 
+    /**
+     * Hides the loading indicator, and shows the feedback of the commands that were queued while loading.
+     */
+    void showDataLoaded(List<String> queuedCommandFeedback) {
+        statusBarFooter.setLoading(false);
+        resultDisplay.setFeedbackToUser(queuedCommandFeedback.isEmpty()
+                ? MESSAGE_LOADED
+                : String.join("\n", queuedCommandFeedback));
+        updateMonthYearLabel(calendarView.getCurrentDate());
+    }
+
     private void updateMonthYearLabel(LocalDate date) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMMM yyyy");
         monthYearLabel.setText(date.format(formatter));
@@ -299,7 +321,6 @@ public class MainWindow extends UiPart<Stage> {
             resultDisplay.setFeedbackToUser(e.getMessage());
             throw e;
         } finally {
-            calendarView.populateCalendar();
             updateMonthYearLabel(calendarView.getCurrentDate());
         }
     }
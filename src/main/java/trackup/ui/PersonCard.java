@@ -97,7 +97,7 @@ public class PersonCard extends UiPart<Region> {
         }
         if (visibility.isShowNote()) {
             renderNotes();
-            person.getNotes().addListener((ListChangeListener<Note>) change -> renderNotes());
+            person.getObservableNotes().addListener((ListChangeListener<Note>) change -> renderNotes());
         }
     }
 
@@ -1,5 +1,7 @@
 package trackup.ui;
 
+import java.util.List;
+
 import javafx.stage.Stage;
 
 /**
@@ -10,4 +12,14 @@ public interface Ui {
     /** Starts the UI (and the App).  */
     void start(Stage primaryStage);
 
+    /**
+     * Shows that the address book has finished loading, with the feedback of the commands queued while it loaded.
+     */
+    void showDataLoaded(List<String> queuedCommandFeedback);
+
+    /**
+     * Shows that the address book could not be loaded because of {@code error}, then exits.
+     */
+    void showLoadingFailed(Throwable error);
+
 }
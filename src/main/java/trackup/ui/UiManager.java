@@ -1,5 +1,6 @@
 package trackup.ui;
 
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.application.Platform;
@@ -50,6 +51,17 @@ public class UiManager implements Ui {
         }
     }
 
+    @Override
+    public void showDataLoaded(List<String> queuedCommandFeedback) {
+        mainWindow.showDataLoaded(queuedCommandFeedback);
+    }
+
+    @Override
+    public void showLoadingFailed(Throwable error) {
+        // Exits rather than carrying on with an empty address book, which would be saved over the data file
+        showFatalErrorDialogAndShutdown("Fatal error while loading the data file", error);
+    }
+
     private Image getImage(String imagePath) {
         return new Image(MainApp.class.getResourceAsStream(imagePath));
     }
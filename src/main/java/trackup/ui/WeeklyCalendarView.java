@@ -1,82 +1,98 @@
 package trackup.ui;
 
-import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.geometry.HPos;
 import javafx.geometry.Pos;
-import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.GridPane;
 import javafx.scene.layout.VBox;
 import trackup.model.event.Event;
+import trackup.model.event.EventWeekIndex;
 
 /**
  * Represents a weekly calendar view displaying events from Monday to Sunday.
  * Events are displayed in a grid format where rows represent time slots
  * and columns represent days of the week.
+ * The cells of the grid are created once, and only the events of the shown week are placed in them, so moving
+ * between weeks or changing events takes time proportional to the events in the week.
  */
 public class WeeklyCalendarView {
     private static final double CELL_WIDTH = 100;
     private static final double CELL_HEIGHT = 50;
     private static final double DAY_HEIGHT = 60;
     private static final double TIME_WIDTH = 40;
+    private static final int COLUMNS = 8;
+    private static final int ROWS = 25;
+    private static final String CELL_STYLE = "-fx-border-color: derive(#1d1d1d, 10%); -fx-border-width: 1px";
+    private static final String TODAY_STYLE = "-fx-background-color: #ffcccb; " + CELL_STYLE;
+    private static final DateTimeFormatter DAY_FORMATTER = DateTimeFormatter.ofPattern("EEEE");
+    private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("d");
 
     private GridPane calendarGrid;
     private ObservableList<Event> eventList;
     private LocalDate currentWeekStart;
 
+    private final EventWeekIndex eventIndex = new EventWeekIndex();
+    private final VBox[] dayBoxes = new VBox[COLUMNS];
+    private final Label[] dateLabels = new Label[COLUMNS];
+    private final Label[] dayLabels = new Label[COLUMNS];
+    private final VBox[][] eventStacks = new VBox[COLUMNS][ROWS];
+    private final Map<Event, Label> eventLabels = new IdentityHashMap<>();
+
     /**
      * Constructs a {@code WeeklyCalendarView} with the given list of events.
+     * The view follows changes to {@code eventList} from then on.
      *
      * @param eventList The list of events to be displayed in the calendar.
      */
     public WeeklyCalendarView(ObservableList<Event> eventList) {
         this.eventList = eventList;
         this.calendarGrid = new GridPane();
-        this.currentWeekStart = LocalDate.now().with(DayOfWeek.MONDAY);
+        this.currentWeekStart = EventWeekIndex.getWeekStart(LocalDate.now());
+
+        addDayHeaders();
+        addTimeLabels();
+        eventIndex.setEvents(eventList);
+        eventList.addListener((ListChangeListener<Event>) this::handleEventListChange);
     }
 
     /**
-     * Populates the calendar grid with time labels and event labels.
-     * Time slots range from 8:00 AM to 6:00 PM, and events are placed in
+     * Populates the calendar grid with the dates of the current week and its events.
+     * Time slots range from 12 AM to 11 PM, and events are placed in
      * appropriate slots based on their start time.
      */
     public void populateCalendar() {
-        calendarGrid.getChildren().clear();
-        addDayHeaders();
-        addTimeLabels();
-        addEventLabels();
+        updateDayHeaders();
+        for (Label eventLabel : eventLabels.values()) {
+            ((VBox) eventLabel.getParent()).getChildren().remove(eventLabel);
+        }
+        eventLabels.clear();
+        eventIndex.getEvents(currentWeekStart).forEach(this::addEventLabel);
     }
 
     /**
-     * Adds the day headers (Monday to Sunday) with corresponding dates.
+     * Adds the day headers (Monday to Sunday). Their dates are filled in by {@link #updateDayHeaders()}.
      */
     private void addDayHeaders() {
-        DateTimeFormatter dayFormatter = DateTimeFormatter.ofPattern("EEEE");
-        DateTimeFormatter dateFormatter = DateTimeFormatter.ofPattern("d");
+        for (int i = 1; i < COLUMNS; i++) {
+            dateLabels[i] = new Label();
+            dateLabels[i].setStyle("-fx-font-size: 30px; -fx-font-weight: bold;");
 
-        for (int i = 1; i <= 7; i++) {
-            LocalDate dayDate = currentWeekStart.plusDays(i - 1);
+            dayLabels[i] = new Label();
+            dayLabels[i].setStyle("-fx-font-size: 14px; -fx-font-weight: bold;");
 
-            Label dateLabel = new Label(dayDate.format(dateFormatter));
-            dateLabel.setStyle("-fx-font-size: 30px; -fx-font-weight: bold;");
-
-            Label dayLabel = new Label(dayDate.format(dayFormatter));
-            dayLabel.setStyle("-fx-font-size: 14px; -fx-font-weight: bold;");
-
-            VBox dayBox = new VBox(5, dateLabel, dayLabel);
+            VBox dayBox = new VBox(5, dateLabels[i], dayLabels[i]);
             dayBox.setAlignment(Pos.CENTER_LEFT);
             dayBox.setMinSize(CELL_WIDTH, DAY_HEIGHT);
             dayBox.setMaxSize(CELL_WIDTH, DAY_HEIGHT);
-            dayBox.setStyle("-fx-border-color: derive(#1d1d1d, 10%); -fx-border-width: 1px");
-
-            if (dayDate.equals(LocalDate.now())) {
-                dayBox.setStyle("-fx-background-color: #ffcccb; "
-                        + "-fx-border-color: derive(#1d1d1d, 10%); -fx-border-width: 1px");
-            }
+            dayBoxes[i] = dayBox;
 
             GridPane.setHalignment(dayBox, HPos.CENTER);
             calendarGrid.add(dayBox, i, 0);
@@ -84,20 +100,34 @@ public class WeeklyCalendarView {
     }
 
     /**
-     * Adds the vertical time labels from 12 AM to 11 PM.
+     * Shows the dates of the current week in the day headers and highlights today.
+     */
+    private void updateDayHeaders() {
+        LocalDate today = LocalDate.now();
+        for (int i = 1; i < COLUMNS; i++) {
+            LocalDate dayDate = currentWeekStart.plusDays(i - 1);
+            dateLabels[i].setText(dayDate.format(DATE_FORMATTER));
+            dayLabels[i].setText(dayDate.format(DAY_FORMATTER));
+            dayBoxes[i].setStyle(dayDate.equals(today) ? TODAY_STYLE : CELL_STYLE);
+        }
+    }
+
+    /**
+     * Adds the cells holding the events of each hour, and the vertical time labels from 12 AM to 11 PM.
      */
     private void addTimeLabels() {
         for (int i = 0; i < 24; i++) {
+            for (int j = 0; j < COLUMNS; j++) {
+                eventStacks[j][i + 1] = createEventStack(j, i + 1);
+            }
+
             String timeText = (i == 0 ? "12 AM" : (i < 12 ? i + " AM" : (i == 12 ? "12 PM" : (i - 12) + " PM")));
 
             Label timeLabel = new Label(timeText);
             timeLabel.setStyle("-fx-font-size: 12px; -fx-font-weight: bold");
             timeLabel.setAlignment(Pos.CENTER);
-            for (int j = 0; j < 8; j++) {
-                timeLabel.setMinHeight(getEventStack(j, i + 1).getHeight());
-                timeLabel.setMinWidth(TIME_WIDTH);
-                timeLabel.setMaxWidth(TIME_WIDTH);
-            }
+            timeLabel.setMinWidth(TIME_WIDTH);
+            timeLabel.setMaxWidth(TIME_WIDTH);
 
             GridPane.setHalignment(timeLabel, HPos.CENTER);
             calendarGrid.add(timeLabel, 0, i + 1);
@@ -105,55 +135,59 @@ public class WeeklyCalendarView {
     }
 
     /**
-     * Adds event labels to the calendar grid.
+     * Updates the index of events and the events shown for the current week with a change to the list of events.
      */
-    private void addEventLabels() {
-        for (Event event : eventList) {
-            if (isEventInCurrentWeek(event)) {
-                int dayColumn = event.getStartDateTime().getDayOfWeek().getValue();
-                int startRow = event.getStartDateTime().getHour() + 1;
-
-                VBox eventStack = getEventStack(dayColumn, startRow);
-
-                // Create event label
-                Label eventLabel = new Label(event.getTitle());
-                eventLabel.setStyle("-fx-background-color: lightblue; -fx-padding: 5px;"
-                        + "-fx-border-color: black; -fx-border-width: 1px;"
-                        + "-fx-alignment: center; -fx-wrap-text: true;");
-                eventLabel.setMinSize(CELL_WIDTH - 2, CELL_HEIGHT - 2);
-                eventLabel.setMaxSize(CELL_WIDTH - 2, CELL_HEIGHT - 2);
-
-                // Add event label to stack
-                eventStack.getChildren().add(eventLabel);
+    private void handleEventListChange(ListChangeListener.Change<? extends Event> change) {
+        while (change.next()) {
+            for (Event event : change.getRemoved()) {
+                eventIndex.remove(event);
+                Label eventLabel = eventLabels.remove(event);
+                if (eventLabel != null) {
+                    getEventStack(event).getChildren().remove(eventLabel);
+                }
+            }
+            for (Event event : change.getAddedSubList()) {
+                eventIndex.add(event);
+                if (EventWeekIndex.getWeekStart(event).equals(currentWeekStart)) {
+                    addEventLabel(event);
+                }
             }
         }
     }
 
     /**
-     * Checks if an event falls within the current week.
+     * Adds a label for {@code event} to the slot it starts in.
      */
-    private boolean isEventInCurrentWeek(Event event) {
-        LocalDate eventStartDate = event.getStartDateTime().toLocalDate();
-        return !eventStartDate.isBefore(currentWeekStart)
-                && !eventStartDate.isAfter(currentWeekStart.plusDays(6));
+    private void addEventLabel(Event event) {
+        // Create event label
+        Label eventLabel = new Label(event.getTitle());
+        eventLabel.setStyle("-fx-background-color: lightblue; -fx-padding: 5px;"
+                + "-fx-border-color: black; -fx-border-width: 1px;"
+                + "-fx-alignment: center; -fx-wrap-text: true;");
+        eventLabel.setMinSize(CELL_WIDTH - 2, CELL_HEIGHT - 2);
+        eventLabel.setMaxSize(CELL_WIDTH - 2, CELL_HEIGHT - 2);
+
+        // Add event label to stack
+        getEventStack(event).getChildren().add(eventLabel);
+        eventLabels.put(event, eventLabel);
     }
 
     /**
-     * Gets or creates a VBox for events occurring at the same time and day.
+     * Returns the VBox for events starting at the same hour and day as {@code event}.
      */
-    private VBox getEventStack(int dayColumn, int row) {
-        for (Node node : calendarGrid.getChildren()) {
-            if (GridPane.getColumnIndex(node) == dayColumn && GridPane.getRowIndex(node) == row) {
-                if (node instanceof VBox) {
-                    return (VBox) node;
-                }
-            }
-        }
+    private VBox getEventStack(Event event) {
+        LocalDateTime start = event.getStartDateTime();
+        return eventStacks[start.getDayOfWeek().getValue()][start.getHour() + 1];
+    }
 
+    /**
+     * Creates a VBox for events occurring at the same time and day.
+     */
+    private VBox createEventStack(int dayColumn, int row) {
         VBox eventVBox = new VBox(2);
         eventVBox.setAlignment(Pos.TOP_LEFT);
         eventVBox.setMinHeight(CELL_HEIGHT);
-        eventVBox.setStyle("-fx-border-color: derive(#1d1d1d, 10%); -fx-border-width: 1px");
+        eventVBox.setStyle(CELL_STYLE);
 
         GridPane.setColumnIndex(eventVBox, dayColumn);
         GridPane.setRowIndex(eventVBox, row);
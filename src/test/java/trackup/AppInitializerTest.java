@@ -0,0 +1,60 @@
+package trackup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackup.model.AddressBook;
+import trackup.model.ReadOnlyAddressBook;
+import trackup.storage.JsonAddressBookStorage;
+import trackup.storage.JsonUserPrefsStorage;
+import trackup.storage.StorageManager;
+
+public class AppInitializerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void startLoadingAddressBook_readSucceeds_passesAddressBookToOnLoaded() throws Exception {
+        StorageManager storage = new StorageManager(new JsonAddressBookStorage(testFolder.resolve("ab")),
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+        storage.saveAddressBook(getTypicalAddressBook());
+        List<ReadOnlyAddressBook> loaded = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+
+        AppInitializer.startLoadingAddressBook(storage, loaded::add, failures::add).join();
+        assertEquals(1, loaded.size());
+        assertEquals(getTypicalAddressBook(), new AddressBook(loaded.get(0)));
+        assertTrue(failures.isEmpty());
+    }
+
+    @Test
+    public void startLoadingAddressBook_readThrowsUnexpectedly_passesErrorToOnFailed() throws Exception {
+        RuntimeException error = new IllegalStateException("Corrupted in memory");
+        JsonAddressBookStorage throwingStorage = new JsonAddressBookStorage(testFolder.resolve("ab")) {
+            @Override
+            public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) {
+                throw error;
+            }
+        };
+        StorageManager storage = new StorageManager(throwingStorage,
+                new JsonUserPrefsStorage(testFolder.resolve("prefs")));
+        List<ReadOnlyAddressBook> loaded = new ArrayList<>();
+        List<Throwable> failures = new ArrayList<>();
+
+        AppInitializer.startLoadingAddressBook(storage, loaded::add, failures::add).join();
+        assertTrue(loaded.isEmpty());
+        assertEquals(1, failures.size());
+        assertSame(error, failures.get(0));
+    }
+}
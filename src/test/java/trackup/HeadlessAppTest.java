@@ -0,0 +1,81 @@
+package trackup;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackup.logic.commands.ExitCommand;
+import trackup.logic.commands.ListCommand;
+import trackup.model.HeadlessModelManager;
+import trackup.model.Model;
+import trackup.model.person.Person;
+import trackup.storage.JsonAddressBookStorage;
+import trackup.storage.JsonUserPrefsStorage;
+import trackup.storage.StorageManager;
+import trackup.testutil.PersonBuilder;
+import trackup.testutil.PersonUtil;
+
+public class HeadlessAppTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Model model = new HeadlessModelManager();
+    private StorageManager storage;
+    private HeadlessApp app;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new StorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        app = new HeadlessApp(model, storage);
+    }
+
+    @Test
+    public void run_commands_printsResultOfEach() throws Exception {
+        Person person = new PersonBuilder().build();
+        String output = run("list\n\n" + "unknownCommand\n" + PersonUtil.getAddCommand(person) + "\n");
+
+        String[] lines = output.split(System.lineSeparator());
+        assertEquals(ListCommand.MESSAGE_SUCCESS, lines[0]);
+        assertEquals(MESSAGE_UNKNOWN_COMMAND, lines[1]);
+        assertEquals(3, lines.length);
+        assertTrue(model.hasPerson(person));
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+    }
+
+    @Test
+    public void run_exitCommand_stopsReading() throws Exception {
+        Person person = new PersonBuilder().build();
+        String output = run("exit\n" + PersonUtil.getAddCommand(person) + "\n");
+
+        assertEquals(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT + System.lineSeparator(), output);
+        assertEquals(0, model.getFilteredPersonList().size());
+    }
+
+    @Test
+    public void stop_savesUserPrefs() throws Exception {
+        app.stop();
+        assertEquals(model.getGuiSettings(), storage.readUserPrefs().get().getGuiSettings());
+    }
+
+    /**
+     * Runs {@code input} through the app and returns what it printed.
+     */
+    private String run(String input) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        app.run(new BufferedReader(new StringReader(input)), new PrintStream(output, true, StandardCharsets.UTF_8));
+        return output.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,36 @@
+package trackup.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static trackup.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class InternerTest {
+
+    private final Interner<String> interner = new Interner<>();
+
+    @Test
+    public void intern_equalValues_returnsFirstValue() {
+        String value = new String("Blk 30 Geylang Street 29");
+        String equalValue = new String(value);
+        assertNotSame(value, equalValue);
+
+        assertSame(value, interner.intern(value));
+        assertSame(value, interner.intern(equalValue));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_differentValues_keepsEach() {
+        assertSame("Alex Yeoh", interner.intern("Alex Yeoh"));
+        assertSame("Bernice Yu", interner.intern("Bernice Yu"));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+}
@@ -0,0 +1,261 @@
+package trackup.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty_noElements() {
+        PersistentList<String> list = PersistentList.empty();
+        assertTrue(list.isEmpty());
+        assertEquals(0, list.size());
+        assertEquals(List.of(), list.asList());
+        assertSame(list, PersistentList.copyOf(List.of()));
+    }
+
+    @Test
+    public void copyOf_elements_sameOrder() {
+        List<Integer> elements = List.of(3, 1, 4, 1, 5, 9, 2, 6);
+        PersistentList<Integer> list = PersistentList.copyOf(elements);
+        assertEquals(elements, list.asList());
+        assertEquals(elements.size(), list.size());
+        assertEquals(5, (int) list.get(4));
+    }
+
+    @Test
+    public void add_remove_set_oldVersionsUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+        PersistentList<String> added = original.add(1, "x");
+        PersistentList<String> removed = added.remove(0);
+        PersistentList<String> replaced = removed.set(2, "y");
+        PersistentList<String> appended = replaced.add("z");
+
+        assertEquals(List.of("a", "b", "c"), original.asList());
+        assertEquals(List.of("a", "x", "b", "c"), added.asList());
+        assertEquals(List.of("x", "b", "c"), removed.asList());
+        assertEquals(List.of("x", "b", "y"), replaced.asList());
+        assertEquals(List.of("x", "b", "y", "z"), appended.asList());
+    }
+
+    @Test
+    public void randomChanges_sameAsArrayList() {
+        Random random = new Random(7);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> list = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation <= 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                list = list.add(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                list = list.remove(index);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.set(index, -i);
+                list = list.set(index, -i);
+            }
+
+            if (i % 500 == 0) {
+                versions.add(list);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, list.asList());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), list.get(i));
+        }
+        for (int i = 0; i < versions.size(); i++) {
+            assertEquals(expectedVersions.get(i), versions.get(i).asList());
+        }
+    }
+
+    @Test
+    public void invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.set(2, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.remove(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.add(3, "c"));
+        assertThrows(IndexOutOfBoundsException.class, () -> PersistentList.empty().remove(0));
+    }
+
+    @Test
+    public void nullElement_throwsNullPointerException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+        assertThrows(NullPointerException.class, () -> list.add(null));
+        assertThrows(NullPointerException.class, () -> list.set(0, null));
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(null));
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(Arrays.asList("a", null)));
+    }
+
+    @Test
+    public void asList_modify_throwsUnsupportedOperationException() {
+        List<String> view = PersistentList.copyOf(List.of("a")).asList();
+        assertThrows(UnsupportedOperationException.class, () -> view.add("b"));
+        assertThrows(UnsupportedOperationException.class, () -> view.remove(0));
+    }
+
+    @Test
+    public void equals() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b"));
+        assertEquals(list, list);
+        assertEquals(list, PersistentList.<String>empty().add("a").add("b"));
+        assertEquals(list.hashCode(), PersistentList.<String>empty().add("a").add("b").hashCode());
+        assertNotEquals(list, list.add("c"));
+        assertNotEquals(list, null);
+        assertNotEquals(list, List.of("a", "b"));
+    }
+
+    @Test
+    public void diff_sameVersion_reportsNothing() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b"));
+        RecordingDiffHandler handler = new RecordingDiffHandler();
+        assertTrue(list.diff(list, handler));
+        assertEquals(List.of(), handler.changes);
+        assertEquals(List.of(), handler.kept);
+    }
+
+    @Test
+    public void diff_changes_reportsRemovedAndAddedInOrder() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c", "d", "e", "f", "g"));
+        PersistentList<String> changed = original.remove(5).remove(1).add(0, "x").add("y").set(2, "c");
+
+        RecordingDiffHandler handler = new RecordingDiffHandler();
+        assertTrue(original.diff(changed, handler));
+        assertEquals(List.of("removed 1 b", "removed 5 f", "added 0 x", "added 6 y"), handler.changes);
+        assertTrue(handler.kept.contains("kept 2 c"));
+        assertFromVersion(changed, handler.kept);
+    }
+
+    @Test
+    public void diff_fromAndToEmpty_reportsAllElements() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b"));
+        RecordingDiffHandler handler = new RecordingDiffHandler();
+        assertTrue(PersistentList.<String>empty().diff(list, handler));
+        assertEquals(List.of("added 0 a", "added 1 b"), handler.changes);
+
+        handler = new RecordingDiffHandler();
+        assertTrue(list.diff(PersistentList.empty(), handler));
+        assertEquals(List.of("removed 0 a", "removed 1 b"), handler.changes);
+    }
+
+    @Test
+    public void diff_reorderedElements_returnsFalse() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c", "d"));
+        RecordingDiffHandler handler = new RecordingDiffHandler();
+        assertFalse(original.diff(original.set(1, "c").set(2, "b"), handler));
+        assertFalse(original.diff(original.remove(0).add("a"), handler));
+        assertFalse(original.diff(PersistentList.copyOf(List.of("d", "c", "b", "a")), handler));
+        assertEquals(List.of(), handler.changes);
+    }
+
+    @Test
+    public void diff_rebuiltList_reportsOnlyChanges() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+        RecordingDiffHandler handler = new RecordingDiffHandler();
+        assertTrue(original.diff(PersistentList.copyOf(List.of("a", "c", "d")), handler));
+        assertEquals(List.of("removed 1 b", "added 2 d"), handler.changes);
+    }
+
+    @Test
+    public void diff_fewChangesToLargeList_visitsFewNodes() {
+        List<String> elements = IntStream.range(0, 100_000).mapToObj(String::valueOf).toList();
+        PersistentList<String> original = PersistentList.copyOf(elements);
+        PersistentList<String> changed = original.remove(70_000).set(40_000, elements.get(40_000)).add(10, "x");
+
+        RecordingDiffHandler handler = new RecordingDiffHandler();
+        assertTrue(original.diff(changed, handler));
+        assertEquals(List.of("removed 70000 70000", "added 10 x"), handler.changes);
+        assertTrue(handler.kept.contains("kept 40001 40000"));
+        assertTrue(handler.kept.size() < 100);
+    }
+
+    @Test
+    public void diff_randomChanges_replaysToNewerVersion() {
+        Random random = new Random(11);
+        List<String> elements = IntStream.range(0, 2000).mapToObj(String::valueOf).toList();
+        PersistentList<String> original = PersistentList.copyOf(elements);
+        PersistentList<String> changed = original;
+        for (int i = 0; i < 50; i++) {
+            if (random.nextBoolean() && !changed.isEmpty()) {
+                changed = changed.remove(random.nextInt(changed.size()));
+            } else {
+                changed = changed.add(random.nextInt(changed.size() + 1), "new" + i);
+            }
+        }
+
+        List<String> replayed = new ArrayList<>(original.asList());
+        List<Integer> removedIndices = new ArrayList<>();
+        PersistentList<String> newer = changed;
+        assertTrue(original.diff(changed, new PersistentList.DiffHandler<>() {
+            @Override
+            public void removed(int index, String element) {
+                assertSame(original.get(index), element);
+                removedIndices.add(0, index);
+            }
+
+            @Override
+            public void added(int index, String element) {
+                if (!removedIndices.isEmpty()) {
+                    removedIndices.forEach(removedIndex -> replayed.remove((int) removedIndex));
+                    removedIndices.clear();
+                }
+                assertSame(newer.get(index), element);
+                replayed.add(index, element);
+            }
+        }));
+        removedIndices.forEach(removedIndex -> replayed.remove((int) removedIndex));
+        assertEquals(changed.asList(), replayed);
+    }
+
+    private static void assertFromVersion(PersistentList<String> version, List<String> reports) {
+        for (String report : reports) {
+            String[] parts = report.split(" ");
+            assertEquals(parts[2], version.get(Integer.parseInt(parts[1])));
+        }
+    }
+
+    /**
+     * Records the differences it receives as strings.
+     */
+    private static class RecordingDiffHandler implements PersistentList.DiffHandler<String> {
+        private final List<String> changes = new ArrayList<>();
+        private final List<String> kept = new ArrayList<>();
+
+        @Override
+        public void removed(int index, String element) {
+            changes.add("removed " + index + " " + element);
+        }
+
+        @Override
+        public void added(int index, String element) {
+            changes.add("added " + index + " " + element);
+        }
+
+        @Override
+        public void kept(int index, String element) {
+            kept.add("kept " + index + " " + element);
+        }
+    }
+}
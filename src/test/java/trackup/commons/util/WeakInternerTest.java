@@ -0,0 +1,39 @@
+package trackup.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static trackup.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    private final WeakInterner<String> interner = new WeakInterner<>();
+
+    @Test
+    public void intern_equalValues_returnsFirstValue() {
+        String value = new String("friends");
+        String equalValue = new String(value);
+        assertNotSame(value, equalValue);
+
+        assertSame(value, interner.intern(value));
+        assertSame(value, interner.intern(equalValue));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    public void intern_unusedValue_dropped() throws InterruptedException {
+        interner.intern(new String("colleagues"));
+        for (int i = 0; i < 10 && interner.size() > 0; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+}
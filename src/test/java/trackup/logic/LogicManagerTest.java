@@ -1,6 +1,9 @@
 package trackup.logic;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.logic.Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX;
 import static trackup.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
 import static trackup.logic.commands.CommandTestUtil.ADDRESS_DESC_AMY;
@@ -10,10 +13,14 @@ import static trackup.logic.commands.CommandTestUtil.NAME_DESC_AMY;
 import static trackup.logic.commands.CommandTestUtil.PHONE_DESC_AMY;
 import static trackup.testutil.Assert.assertThrows;
 import static trackup.testutil.TypicalPersons.AMY;
+import static trackup.testutil.TypicalPersons.BOB;
 
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -21,7 +28,12 @@ import org.junit.jupiter.api.io.TempDir;
 
 import trackup.logic.commands.AddCommand;
 import trackup.logic.commands.CommandResult;
+import trackup.logic.commands.ExitCommand;
+import trackup.logic.commands.HelpCommand;
 import trackup.logic.commands.ListCommand;
+import trackup.logic.commands.RedoCommand;
+import trackup.logic.commands.RunCommand;
+import trackup.logic.commands.UndoCommand;
 import trackup.logic.commands.exceptions.CommandException;
 import trackup.logic.parser.exceptions.ParseException;
 import trackup.model.Model;
@@ -32,7 +44,9 @@ import trackup.model.person.Person;
 import trackup.storage.JsonAddressBookStorage;
 import trackup.storage.JsonUserPrefsStorage;
 import trackup.storage.StorageManager;
+import trackup.testutil.AddressBookBuilder;
 import trackup.testutil.PersonBuilder;
+import trackup.testutil.PersonUtil;
 
 public class LogicManagerTest {
     private static final IOException DUMMY_IO_EXCEPTION = new IOException("dummy IO exception");
@@ -43,13 +57,14 @@ public class LogicManagerTest {
 
     private Model model = new ModelManager();
     private Logic logic;
+    private StorageManager storage;
 
     @BeforeEach
     public void setUp() {
         JsonAddressBookStorage addressBookStorage =
                 new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"));
         JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
-        StorageManager storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
         logic = new LogicManager(model, storage);
     }
 
@@ -71,6 +86,116 @@ public class LogicManagerTest {
         assertCommandSuccess(listCommand, ListCommand.MESSAGE_SUCCESS, model);
     }
 
+    @Test
+    public void execute_commandsWithoutChanges_savesOnlyOnce() throws Exception {
+        assertTrue(logic.execute(ListCommand.COMMAND_WORD).isSaved());
+        assertFalse(logic.execute(ListCommand.COMMAND_WORD).isSaved());
+
+        String addCommand = AddCommand.COMMAND_WORD + NAME_DESC_AMY + PHONE_DESC_AMY
+                + EMAIL_DESC_AMY + ADDRESS_DESC_AMY + CATEGORY_DESC_CLIENT;
+        assertTrue(logic.execute(addCommand).isSaved());
+        assertFalse(logic.execute(ListCommand.COMMAND_WORD).isSaved());
+    }
+
+    @Test
+    public void execute_runScript_savesOnceAfterScript() throws Exception {
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")) {
+                    @Override
+                    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                        saveCount.incrementAndGet();
+                        super.saveAddressBook(addressBook, filePath);
+                    }
+                };
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        logic = new LogicManager(model, new StorageManager(addressBookStorage, userPrefsStorage));
+
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, List.of(PersonUtil.getAddCommand(AMY), PersonUtil.getAddCommand(BOB)));
+        assertTrue(logic.execute(RunCommand.COMMAND_WORD + " " + scriptPath).isSaved());
+        assertEquals(1, saveCount.get());
+        assertEquals(model.getAddressBook(), addressBookStorage.readAddressBook().get());
+    }
+
+    @Test
+    public void execute_whileLoading_queuesCommandsUntilLoaded() throws Exception {
+        logic.startLoading();
+        assertTrue(logic.isLoading());
+
+        CommandResult result = logic.execute(PersonUtil.getAddCommand(AMY));
+        assertEquals(LogicManager.MESSAGE_COMMAND_QUEUED, result.getFeedbackToUser());
+        assertFalse(result.isSaved());
+        assertEquals(LogicManager.MESSAGE_COMMAND_QUEUED, logic.execute("delete 9").getFeedbackToUser());
+        assertTrue(model.getFilteredPersonList().isEmpty());
+
+        // commands that do not use the data run at once, and parse errors are reported at once
+        assertTrue(logic.execute(ExitCommand.COMMAND_WORD).isExit());
+        assertParseException("uicfhmowqewca", MESSAGE_UNKNOWN_COMMAND);
+
+        ReadOnlyAddressBook loadedAddressBook = new AddressBookBuilder().withPerson(BOB).build();
+        List<String> feedback = logic.finishLoading(loadedAddressBook);
+        assertFalse(logic.isLoading());
+        assertEquals(List.of(String.format(AddCommand.MESSAGE_SUCCESS, Messages.format(AMY)),
+                MESSAGE_INVALID_PERSON_DISPLAYED_INDEX), feedback);
+        assertEquals(List.of(BOB, AMY), model.getFilteredPersonList());
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().get());
+
+        // commands run as usual once loaded
+        assertCommandSuccess(ListCommand.COMMAND_WORD, ListCommand.MESSAGE_SUCCESS, model);
+    }
+
+    @Test
+    public void execute_exitWhileLoading_dataFileUnchanged() throws Exception {
+        Path dataFile = temporaryFolder.resolve("addressBook.json");
+        new JsonAddressBookStorage(dataFile).saveAddressBook(new AddressBookBuilder().withPerson(BOB).build());
+        byte[] data = Files.readAllBytes(dataFile);
+
+        logic.startLoading();
+        assertFalse(logic.execute(HelpCommand.COMMAND_WORD).isSaved());
+        CommandResult result = logic.execute(ExitCommand.COMMAND_WORD);
+        assertTrue(result.isExit());
+        assertFalse(result.isSaved());
+        storage.flushAddressBook();
+
+        assertArrayEquals(data, Files.readAllBytes(dataFile));
+    }
+
+    @Test
+    public void finishLoading_noQueuedCommands_doesNotSave() throws Exception {
+        logic.startLoading();
+        assertEquals(List.of(), logic.finishLoading(new AddressBookBuilder().withPerson(BOB).build()));
+        assertEquals(List.of(BOB), model.getFilteredPersonList());
+        assertFalse(Files.exists(temporaryFolder.resolve("addressBook.json")));
+    }
+
+    @Test
+    public void finishLoading_afterLoad_cannotUndoLoad() throws Exception {
+        logic.startLoading();
+        logic.execute(PersonUtil.getAddCommand(AMY));
+        logic.finishLoading(new AddressBookBuilder().withPerson(BOB).build());
+
+        assertEquals(UndoCommand.MESSAGE_SUCCESS, logic.execute(UndoCommand.COMMAND_WORD).getFeedbackToUser());
+        assertEquals(List.of(BOB), model.getFilteredPersonList());
+        assertCommandException(UndoCommand.COMMAND_WORD, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_undoRedo_revertsEachCommandAndSaves() throws Exception {
+        logic.execute(PersonUtil.getAddCommand(AMY));
+        logic.execute(PersonUtil.getAddCommand(BOB));
+
+        assertTrue(logic.execute(UndoCommand.COMMAND_WORD).isSaved());
+        assertEquals(List.of(AMY), model.getFilteredPersonList());
+        assertEquals(model.getAddressBook(), new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json"))
+                .readAddressBook().get());
+
+        assertTrue(logic.execute(RedoCommand.COMMAND_WORD).isSaved());
+        assertEquals(List.of(AMY, BOB), model.getFilteredPersonList());
+        assertCommandException(RedoCommand.COMMAND_WORD, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
     @Test
     public void execute_storageThrowsIoException_throwsCommandException() {
         assertCommandFailureForExceptionFromStorage(DUMMY_IO_EXCEPTION, String.format(
@@ -196,9 +196,9 @@ public class DeleteByCommandTest {
                 Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
         Predicate<Person> predicate = command.getPredicate();
         Person matchingPerson = new Person(testName, new Phone("12345678"), new Email("john@example.com"),
-                new Address("Street 1"), Set.of(new Tag("Friend")), Optional.empty());
+                new Address("Street 1"), Set.of(Tag.of("Friend")), Optional.empty());
         Person nonMatchingPerson = new Person(new Name("Jane Doe"), new Phone("87654321"),
-                new Email("jane@example.com"), new Address("Street 2"), Set.of(new Tag("Friend")),
+                new Email("jane@example.com"), new Address("Street 2"), Set.of(Tag.of("Friend")),
                 Optional.empty());
 
         assertTrue(predicate.test(matchingPerson));
@@ -212,9 +212,9 @@ public class DeleteByCommandTest {
                 Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
         Predicate<Person> predicate = command.getPredicate();
         Person matchingPerson = new Person(new Name("John Doe"), testPhone, new Email("john@example.com"),
-                new Address("Street 1"), Set.of(new Tag("Friend")), Optional.empty());
+                new Address("Street 1"), Set.of(Tag.of("Friend")), Optional.empty());
         Person nonMatchingPerson = new Person(new Name("Jane Doe"), new Phone("87654321"),
-                new Email("jane@example.com"), new Address("Street 2"), Set.of(new Tag("Friend")),
+                new Email("jane@example.com"), new Address("Street 2"), Set.of(Tag.of("Friend")),
                 Optional.empty());
 
         assertTrue(predicate.test(matchingPerson));
@@ -228,9 +228,9 @@ public class DeleteByCommandTest {
                 Optional.empty(), Optional.of(testAddress), Optional.empty(), Optional.empty());
         Predicate<Person> predicate = command.getPredicate();
         Person matchingPerson = new Person(new Name("John Doe"), new Phone("12345678"), new Email("john@example.com"),
-                testAddress, Set.of(new Tag("Friend")), Optional.empty());
+                testAddress, Set.of(Tag.of("Friend")), Optional.empty());
         Person nonMatchingPerson = new Person(new Name("Jane Doe"), new Phone("87654321"),
-                new Email("jane@example.com"), new Address("Street 2"), Set.of(new Tag("Friend")),
+                new Email("jane@example.com"), new Address("Street 2"), Set.of(Tag.of("Friend")),
                 Optional.empty());
 
         assertTrue(predicate.test(matchingPerson));
@@ -244,9 +244,9 @@ public class DeleteByCommandTest {
                 Optional.of(testEmail), Optional.empty(), Optional.empty(), Optional.empty());
         Predicate<Person> predicate = command.getPredicate();
         Person matchingPerson = new Person(new Name("John Doe"), new Phone("12345678"), testEmail,
-                new Address("Street 1"), Set.of(new Tag("Friend")), Optional.empty());
+                new Address("Street 1"), Set.of(Tag.of("Friend")), Optional.empty());
         Person nonMatchingPerson = new Person(new Name("Jane Doe"), new Phone("87654321"),
-                new Email("jane@example.com"), new Address("Street 2"), Set.of(new Tag("Friend")),
+                new Email("jane@example.com"), new Address("Street 2"), Set.of(Tag.of("Friend")),
                 Optional.empty());
 
         assertTrue(predicate.test(matchingPerson));
@@ -255,14 +255,14 @@ public class DeleteByCommandTest {
 
     @Test
     public void getPredicate_matchesByTag() {
-        Tag testTag = new Tag("Friend");
+        Tag testTag = Tag.of("Friend");
         DeleteByCommand command = new DeleteByCommand(Optional.empty(), Optional.empty(),
                 Optional.empty(), Optional.empty(), Optional.of(testTag), Optional.empty());
         Predicate<Person> predicate = command.getPredicate();
         Person matchingPerson = new Person(new Name("John Doe"), new Phone("12345678"), new Email("john@example.com"),
                 new Address("Street 1"), Set.of(testTag), Optional.empty());
         Person nonMatchingPerson = new Person(new Name("Jane Doe"), new Phone("87654321"),
-                new Email("jane@example.com"), new Address("Street 2"), Set.of(new Tag("Colleague")),
+                new Email("jane@example.com"), new Address("Street 2"), Set.of(Tag.of("Colleague")),
                 Optional.empty());
 
         assertTrue(predicate.test(matchingPerson));
@@ -277,11 +277,11 @@ public class DeleteByCommandTest {
         DeleteByCommand command = new DeleteByCommand(Optional.of(testName), Optional.of(testPhone),
                 Optional.of(testEmail), Optional.empty(), Optional.empty(), Optional.empty());
         Predicate<Person> predicate = command.getPredicate();
-        Set<Tag> testTags = Set.of(new Tag("Friend"));
+        Set<Tag> testTags = Set.of(Tag.of("Friend"));
         Person matchingPerson = new Person(testName, testPhone, testEmail, new Address("Street 1"),
-                Set.of(new Tag("Friend")), Optional.empty());
+                Set.of(Tag.of("Friend")), Optional.empty());
         Person nonMatchingPerson = new Person(new Name("John Doe"), testPhone, new Email("wrong@example.com"),
-                new Address("Street 1"), Set.of(new Tag("Friend")), Optional.empty());
+                new Address("Street 1"), Set.of(Tag.of("Friend")), Optional.empty());
 
         assertTrue(predicate.test(matchingPerson));
         assertFalse(predicate.test(nonMatchingPerson));
@@ -293,7 +293,7 @@ public class DeleteByCommandTest {
                 Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty());
         Predicate<Person> predicate = command.getPredicate();
         Person person = new Person(new Name("John Doe"), new Phone("12345678"), new Email("john@example.com"),
-                new Address("Street 1"), Set.of(new Tag("Friend")), Optional.empty());
+                new Address("Street 1"), Set.of(Tag.of("Friend")), Optional.empty());
 
         assertTrue(predicate.test(person));
     }
@@ -304,7 +304,7 @@ public class DeleteByCommandTest {
         Phone testPhone = new Phone("12345678");
         Email testEmail = new Email("john@example.com");
         Address testAddress = new Address("Street 1");
-        Tag testTag = new Tag("Friend");
+        Tag testTag = Tag.of("Friend");
         DeleteByCommand command = new DeleteByCommand(Optional.of(testName), Optional.of(testPhone),
                 Optional.of(testEmail), Optional.of(testAddress), Optional.of(testTag), Optional.empty());
 
@@ -351,7 +351,7 @@ public class DeleteByCommandTest {
                 Optional.of(new Address("123 Street")), Optional.empty(), Optional.empty());
         DeleteByCommand deleteByTag = new DeleteByCommand(
                 Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
-                Optional.of(new Tag("Friend")), Optional.empty());
+                Optional.of(Tag.of("Friend")), Optional.empty());
         DeleteByCommand deleteByEmpty = new DeleteByCommand(
                 Optional.empty(), Optional.empty(), Optional.empty(), Optional.empty(),
                 Optional.empty(), Optional.empty());
@@ -44,7 +44,7 @@ public class ListCommandTest {
 
     @Test
     public void execute_withCategory_filtersList() {
-        Category clientCategory = new Category("Client");
+        Category clientCategory = Category.of("Client");
         model.updateFilteredPersonList(person -> person.hasCategory(clientCategory));
         expectedModel.updateFilteredPersonList(person -> person.hasCategory(clientCategory));
         assertCommandSuccess(new ListCommand(Optional.of(clientCategory)), model,
@@ -53,8 +53,8 @@ public class ListCommandTest {
 
     @Test
     public void equals() {
-        Category clientCategory = new Category("Client");
-        Category investorCategory = new Category("Investor");
+        Category clientCategory = Category.of("Client");
+        Category investorCategory = Category.of("Investor");
 
         ListCommand listAllCommand = new ListCommand(Optional.empty());
         ListCommand listClientCommand = new ListCommand(Optional.of(clientCategory));
@@ -0,0 +1,52 @@
+package trackup.logic.commands;
+
+import static trackup.logic.commands.CommandTestUtil.assertCommandFailure;
+import static trackup.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static trackup.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
+import static trackup.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+
+import org.junit.jupiter.api.Test;
+
+import trackup.model.Model;
+import trackup.model.ModelManager;
+import trackup.model.UserPrefs;
+import trackup.testutil.PersonBuilder;
+
+public class RedoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBookWithEvents(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBookWithEvents(), new UserPrefs());
+
+    @Test
+    public void execute_nothingUndone_throwsCommandException() throws Exception {
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+
+        new DeleteCommand(INDEX_FIRST_PERSON).execute(model);
+        model.commitAddressBook();
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+
+    @Test
+    public void execute_afterUndo_reappliesChanges() throws Exception {
+        new DeleteCommand(INDEX_FIRST_PERSON).execute(model);
+        model.commitAddressBook();
+        new DeleteCommand(INDEX_FIRST_PERSON).execute(expectedModel);
+        new UndoCommand().execute(model);
+
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+
+        // the redone changes can be undone again
+        new UndoCommand().execute(model);
+        assertCommandSuccess(new RedoCommand(), model, RedoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_changedAfterUndo_throwsCommandException() throws Exception {
+        new DeleteCommand(INDEX_FIRST_PERSON).execute(model);
+        model.commitAddressBook();
+        new UndoCommand().execute(model);
+        new AddCommand(new PersonBuilder().build()).execute(model);
+
+        assertCommandFailure(new RedoCommand(), model, RedoCommand.MESSAGE_NOTHING_TO_REDO);
+    }
+}
@@ -0,0 +1,151 @@
+package trackup.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static trackup.logic.commands.CommandTestUtil.assertCommandFailure;
+import static trackup.testutil.TypicalPersons.AMY;
+import static trackup.testutil.TypicalPersons.BOB;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackup.model.Model;
+import trackup.model.ModelManager;
+import trackup.model.person.Person;
+import trackup.testutil.PersonUtil;
+
+public class RunCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+
+    @Test
+    public void execute_validScript_runsEveryCommand() throws Exception {
+        Path scriptPath = writeScript(List.of("# comment", PersonUtil.getAddCommand(AMY), "",
+                "   " + PersonUtil.getAddCommand(BOB)));
+
+        CommandResult result = new RunCommand(scriptPath).execute(model);
+        assertTrue(result.getFeedbackToUser().startsWith("Ran 2 command(s) from " + scriptPath));
+        assertTrue(result.getFeedbackToUser().endsWith("0 failed."));
+        assertEquals(List.of(AMY, BOB), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_failingLines_reportsErrorsAndRunsRest() throws Exception {
+        Path scriptPath = writeScript(List.of("unknowncommand", PersonUtil.getAddCommand(AMY),
+                PersonUtil.getAddCommand(AMY), RunCommand.COMMAND_WORD + " other.txt",
+                PersonUtil.getAddCommand(BOB)));
+
+        String feedback = new RunCommand(scriptPath).execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains("3 failed."));
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_LINE_ERROR, 1, MESSAGE_UNKNOWN_COMMAND)));
+        assertTrue(feedback.contains(
+                String.format(RunCommand.MESSAGE_LINE_ERROR, 3, AddCommand.MESSAGE_DUPLICATE_PERSON)));
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_LINE_ERROR, 4, RunCommand.MESSAGE_NESTED_RUN)));
+        assertEquals(List.of(AMY, BOB), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_undoAndRedo_rejectedAndWholeScriptUndoneAfterwards() throws Exception {
+        Path scriptPath = writeScript(List.of(PersonUtil.getAddCommand(AMY), UndoCommand.COMMAND_WORD,
+                PersonUtil.getAddCommand(BOB), RedoCommand.COMMAND_WORD));
+
+        String feedback = new RunCommand(scriptPath).execute(model).getFeedbackToUser();
+        assertTrue(feedback.contains("2 failed."));
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_LINE_ERROR, 2,
+                RunCommand.MESSAGE_UNDO_IN_SCRIPT)));
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_LINE_ERROR, 4,
+                RunCommand.MESSAGE_UNDO_IN_SCRIPT)));
+        assertEquals(List.of(AMY, BOB), model.getFilteredPersonList());
+
+        new UndoCommand().execute(model);
+        assertEquals(List.of(), model.getFilteredPersonList());
+        assertFalse(model.canUndoAddressBook());
+    }
+
+    @Test
+    public void execute_unexpectedError_reportsLineAndRunsRest() throws Exception {
+        IllegalArgumentException guardError = new IllegalArgumentException("Guard failed");
+        Model guardedModel = new ModelManager() {
+            @Override
+            public void addPerson(Person person) {
+                if (person.isSamePerson(AMY)) {
+                    throw guardError;
+                }
+                super.addPerson(person);
+            }
+        };
+        Path scriptPath = writeScript(List.of(PersonUtil.getAddCommand(AMY), PersonUtil.getAddCommand(BOB)));
+
+        String feedback = new RunCommand(scriptPath).execute(guardedModel).getFeedbackToUser();
+        assertTrue(feedback.contains("Ran 2 command(s)"));
+        assertTrue(feedback.contains("1 failed."));
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_LINE_ERROR, 1,
+                String.format(RunCommand.MESSAGE_UNEXPECTED_ERROR, guardError))));
+        assertEquals(List.of(BOB), guardedModel.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_manyErrors_reportsOnlyFirstErrors() throws Exception {
+        List<String> lines = new ArrayList<>();
+        for (int i = 0; i < RunCommand.MAX_REPORTED_ERRORS + 5; i++) {
+            lines.add("unknowncommand");
+        }
+        String feedback = new RunCommand(writeScript(lines)).execute(model).getFeedbackToUser();
+
+        assertTrue(feedback.contains(String.format(RunCommand.MESSAGE_LINE_ERROR, RunCommand.MAX_REPORTED_ERRORS,
+                MESSAGE_UNKNOWN_COMMAND)));
+        assertFalse(feedback.contains(String.format(RunCommand.MESSAGE_LINE_ERROR, RunCommand.MAX_REPORTED_ERRORS + 1,
+                MESSAGE_UNKNOWN_COMMAND)));
+        assertTrue(feedback.endsWith(String.format(RunCommand.MESSAGE_MORE_ERRORS, 5)));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        Path missingPath = temporaryFolder.resolve("missing.txt");
+        assertCommandFailure(new RunCommand(missingPath), model,
+                String.format(RunCommand.MESSAGE_READ_ERROR, missingPath, missingPath));
+    }
+
+    @Test
+    public void equals() {
+        RunCommand runFirstCommand = new RunCommand(Path.of("first.txt"));
+        RunCommand runSecondCommand = new RunCommand(Path.of("second.txt"));
+
+        // same object -> returns true
+        assertTrue(runFirstCommand.equals(runFirstCommand));
+
+        // same values -> returns true
+        assertTrue(runFirstCommand.equals(new RunCommand(Path.of("first.txt"))));
+
+        // different types -> returns false
+        assertFalse(runFirstCommand.equals(1));
+
+        // null -> returns false
+        assertFalse(runFirstCommand.equals(null));
+
+        // different file -> returns false
+        assertFalse(runFirstCommand.equals(runSecondCommand));
+    }
+
+    @Test
+    public void toStringMethod() {
+        RunCommand runCommand = new RunCommand(Path.of("first.txt"));
+        assertEquals(RunCommand.class.getCanonicalName() + "{filePath=first.txt}", runCommand.toString());
+    }
+
+    private Path writeScript(List<String> lines) throws Exception {
+        Path scriptPath = temporaryFolder.resolve("script.txt");
+        Files.write(scriptPath, lines);
+        return scriptPath;
+    }
+}
@@ -1,17 +1,25 @@
 package trackup.logic.commands;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.logic.commands.CommandTestUtil.assertCommandSuccess;
 import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BENSON;
+import static trackup.testutil.TypicalPersons.DANIEL;
+import static trackup.testutil.TypicalPersons.ELLE;
 import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.util.Comparator;
+import java.util.List;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import trackup.model.Model;
 import trackup.model.ModelManager;
 import trackup.model.UserPrefs;
+import trackup.model.person.Person;
 
 /**
  * Contains integration tests (interaction with the Model) and unit tests for SearchCommand.
@@ -105,6 +113,30 @@ public class SearchCommandTest {
                 String.format(SearchCommand.MESSAGE_NO_MATCH, "Nonexistent Keyword"), expectedModel);
     }
 
+    @Test
+    public void execute_fuzzySearch_personsRankedBySimilarity() {
+        // "Meyer" is found exactly, and "Meier" with one edit
+        SearchCommand searchCommand = new SearchCommand("meyer", true);
+        List<Person> rankedPersons = List.of(ELLE, BENSON, DANIEL);
+
+        expectedModel.updateFilteredPersonList(rankedPersons::contains,
+                Comparator.comparingInt(rankedPersons::indexOf));
+
+        assertCommandSuccess(searchCommand, model,
+                String.format(SearchCommand.MESSAGE_FUZZY_SUCCESS, "meyer"), expectedModel);
+        assertEquals(rankedPersons, model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_fuzzySearchPersonNotFound() {
+        SearchCommand searchCommand = new SearchCommand("zzzzz", true);
+
+        expectedModel.updateFilteredPersonList(p -> false);
+
+        assertCommandSuccess(searchCommand, model,
+                String.format(SearchCommand.MESSAGE_NO_MATCH, "zzzzz"), expectedModel);
+    }
+
     @Test
     public void equals() {
         SearchCommand searchAliceCommand = new SearchCommand("Alice");
@@ -120,6 +152,10 @@ public class SearchCommandTest {
         // Different keyword -> returns false
         assertFalse(searchAliceCommand.equals(searchBobCommand));
 
+        // Different mode -> returns false
+        assertFalse(searchAliceCommand.equals(new SearchCommand("Alice", true)));
+        assertTrue(new SearchCommand("Alice", true).equals(new SearchCommand("Alice", true)));
+
         // Different types -> returns false
         assertFalse(searchAliceCommand.equals(1));
 
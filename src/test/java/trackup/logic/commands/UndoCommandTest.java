@@ -0,0 +1,109 @@
+package trackup.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.logic.commands.CommandTestUtil.assertCommandFailure;
+import static trackup.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static trackup.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
+import static trackup.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static trackup.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import trackup.commons.core.index.Index;
+import trackup.model.AddressBook;
+import trackup.model.Model;
+import trackup.model.ModelManager;
+import trackup.model.UserPrefs;
+import trackup.model.note.Note;
+import trackup.model.person.Person;
+import trackup.testutil.EditPersonDescriptorBuilder;
+import trackup.testutil.PersonBuilder;
+
+public class UndoCommandTest {
+
+    private final Model model = new ModelManager(getTypicalAddressBookWithEvents(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBookWithEvents(), new UserPrefs());
+
+    @Test
+    public void execute_noChanges_throwsCommandException() {
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_deletePersonLinkedToEvent_restoresPersonAndEvents() throws Exception {
+        new DeleteCommand(INDEX_FIRST_PERSON).execute(model);
+        model.commitAddressBook();
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertFalse(model.canUndoAddressBook());
+        assertTrue(model.canRedoAddressBook());
+    }
+
+    @Test
+    public void execute_editPersonLinkedToEvent_restoresPersonAndEvents() throws Exception {
+        new EditCommand(INDEX_FIRST_PERSON, new EditPersonDescriptorBuilder().withName("Alicia").build())
+                .execute(model);
+        model.commitAddressBook();
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_uncommittedChanges_undoesThem() throws Exception {
+        new DeleteCommand(INDEX_SECOND_PERSON).execute(model);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+    }
+
+    @Test
+    public void execute_severalCommands_undoesLatestFirst() throws Exception {
+        Model afterClear = new ModelManager(new AddressBook(), new UserPrefs());
+        new ClearCommand().execute(model);
+        model.commitAddressBook();
+        new AddCommand(new PersonBuilder().build()).execute(model);
+        model.commitAddressBook();
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, afterClear);
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS, expectedModel);
+        assertCommandFailure(new UndoCommand(), model, UndoCommand.MESSAGE_NOTHING_TO_UNDO);
+    }
+
+    @Test
+    public void execute_notesChanged_restoresNotes() throws Exception {
+        Person person = new PersonBuilder().build();
+        Model model = new ModelManager(new AddressBook(), new UserPrefs());
+        model.addPerson(person);
+        model.commitAddressBook();
+        Index index = Index.fromOneBased(1);
+
+        new AddNoteCommand(index, "first").execute(model);
+        model.commitAddressBook();
+        new AddNoteCommand(index, "second").execute(model);
+        model.commitAddressBook();
+        new DeleteNoteCommand(index, index).execute(model);
+        model.commitAddressBook();
+        assertEquals(List.of(new Note("second")), person.getNotes());
+
+        new UndoCommand().execute(model);
+        assertEquals(List.of(new Note("first"), new Note("second")), person.getNotes());
+        new UndoCommand().execute(model);
+        new UndoCommand().execute(model);
+        assertTrue(person.getNotes().isEmpty());
+    }
+
+    @Test
+    public void execute_filteredList_showsAllPersons() throws Exception {
+        Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        new DeleteCommand(INDEX_FIRST_PERSON).execute(model);
+        model.commitAddressBook();
+        model.updateFilteredPersonList(unused -> false);
+
+        assertCommandSuccess(new UndoCommand(), model, UndoCommand.MESSAGE_SUCCESS,
+                new ModelManager(getTypicalAddressBook(), new UserPrefs()));
+    }
+}
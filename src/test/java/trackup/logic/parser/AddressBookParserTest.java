@@ -10,6 +10,7 @@ import static trackup.testutil.Assert.assertThrows;
 import static trackup.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static trackup.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 
+import java.nio.file.Paths;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -35,8 +36,11 @@ import trackup.logic.commands.ExitCommand;
 import trackup.logic.commands.FindCommand;
 import trackup.logic.commands.HelpCommand;
 import trackup.logic.commands.ListCommand;
+import trackup.logic.commands.RedoCommand;
+import trackup.logic.commands.RunCommand;
 import trackup.logic.commands.SearchCommand;
 import trackup.logic.commands.ToggleCommand;
+import trackup.logic.commands.UndoCommand;
 import trackup.logic.parser.exceptions.ParseException;
 import trackup.model.event.Event;
 import trackup.model.person.Name;
@@ -65,6 +69,12 @@ public class AddressBookParserTest {
         assertTrue(parser.parseCommand(ClearCommand.COMMAND_WORD + " 3") instanceof ClearCommand);
     }
 
+    @Test
+    public void parseCommand_run() throws Exception {
+        RunCommand command = (RunCommand) parser.parseCommand(RunCommand.COMMAND_WORD + " data/commands.txt");
+        assertEquals(new RunCommand(Paths.get("data/commands.txt")), command);
+    }
+
     @Test
     public void parseCommand_delete() throws Exception {
         DeleteCommand command = (DeleteCommand) parser.parseCommand(
@@ -90,6 +100,18 @@ public class AddressBookParserTest {
         assertEquals(new EditCommand(INDEX_FIRST_PERSON, descriptor), command);
     }
 
+    @Test
+    public void parseCommand_undo() throws Exception {
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD) instanceof UndoCommand);
+        assertTrue(parser.parseCommand(UndoCommand.COMMAND_WORD + " 3") instanceof UndoCommand);
+    }
+
+    @Test
+    public void parseCommand_redo() throws Exception {
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD) instanceof RedoCommand);
+        assertTrue(parser.parseCommand(RedoCommand.COMMAND_WORD + " 3") instanceof RedoCommand);
+    }
+
     @Test
     public void parseCommand_exit() throws Exception {
         assertTrue(parser.parseCommand(ExitCommand.COMMAND_WORD) instanceof ExitCommand);
@@ -120,6 +142,7 @@ public class AddressBookParserTest {
         assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT,
             SearchCommand.MESSAGE_USAGE), () -> parser.parseCommand(SearchCommand.COMMAND_WORD));
         assertTrue(parser.parseCommand(SearchCommand.COMMAND_WORD + " alice") instanceof SearchCommand);
+        assertEquals(new SearchCommand("alcie", true), parser.parseCommand(SearchCommand.COMMAND_WORD + " -f alcie"));
     }
 
     @Test
@@ -187,6 +210,18 @@ public class AddressBookParserTest {
             -> parser.parseCommand(""));
     }
 
+    @Test
+    public void parseCommand_commandWordFollowedByTab_success() throws Exception {
+        assertEquals(new DeleteCommand(INDEX_FIRST_PERSON),
+                parser.parseCommand(DeleteCommand.COMMAND_WORD + "\t" + INDEX_FIRST_PERSON.getOneBased()));
+    }
+
+    @Test
+    public void parseCommand_argumentsOnNextLine_throwsParseException() {
+        assertThrows(ParseException.class, String.format(MESSAGE_INVALID_COMMAND_FORMAT, HelpCommand.MESSAGE_USAGE), ()
+            -> parser.parseCommand(DeleteCommand.COMMAND_WORD + "\n1"));
+    }
+
     @Test
     public void parseCommand_unknownCommand_throwsParseException() {
         assertThrows(ParseException.class, MESSAGE_UNKNOWN_COMMAND, () -> parser.parseCommand("unknownCommand"));
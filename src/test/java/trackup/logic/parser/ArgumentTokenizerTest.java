@@ -136,6 +136,15 @@ public class ArgumentTokenizerTest {
         assertArgumentAbsent(argMultimap, hatQ);
     }
 
+    @Test
+    public void tokenize_prefixAfterTabOrAtStart_notRecognised() {
+        // Only a space before a prefix makes it valid, and the first character has nothing before it
+        String argsString = "-t preamble\t-t tabbed -t\tvalue\t";
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(argsString, dashT);
+        assertPreamblePresent(argMultimap, "-t preamble\t-t tabbed");
+        assertArgumentPresent(argMultimap, dashT, "value");
+    }
+
     @Test
     public void equalsMethod() {
         Prefix aaa = new Prefix("aaa");
@@ -50,8 +50,8 @@ public class DeleteByCommandParserTest {
                 Optional.of(new Phone(VALID_PHONE_AMY)),
                 Optional.of(new Email(VALID_EMAIL_AMY)),
                 Optional.of(new Address(VALID_ADDRESS_AMY)),
-                Optional.of(new Tag(VALID_TAG_FRIEND)),
-                Optional.of(new Category(VALID_CATEGORY_CLIENT))
+                Optional.of(Tag.of(VALID_TAG_FRIEND)),
+                Optional.of(Category.of(VALID_CATEGORY_CLIENT))
         );
 
         assertParseSuccess(parser, NAME_DESC_AMY + PHONE_DESC_AMY + EMAIL_DESC_AMY + ADDRESS_DESC_AMY
@@ -65,7 +65,7 @@ public class DeleteByCommandParserTest {
                 Optional.empty(),
                 Optional.of(new Email(VALID_EMAIL_AMY)),
                 Optional.empty(),
-                Optional.of(new Tag(VALID_TAG_FRIEND)),
+                Optional.of(Tag.of(VALID_TAG_FRIEND)),
                 Optional.empty()
         );
 
@@ -19,9 +19,11 @@ import trackup.logic.commands.ExitCommand;
 import trackup.logic.commands.FindCommand;
 import trackup.logic.commands.HelpCommand;
 import trackup.logic.commands.ListCommand;
+import trackup.logic.commands.RedoCommand;
 import trackup.logic.commands.SearchCommand;
 import trackup.logic.commands.SortCommand;
 import trackup.logic.commands.ToggleCommand;
+import trackup.logic.commands.UndoCommand;
 import trackup.logic.parser.exceptions.ParseException;
 
 public class HelpCommandParserTest {
@@ -75,6 +77,18 @@ public class HelpCommandParserTest {
         assertEquals(expected, parser.parse(EditCommand.COMMAND_WORD));
     }
 
+    @Test
+    public void parse_undoCommand_returnsCorrectHelpCommand() throws ParseException {
+        HelpCommand expected = new HelpCommand(UndoCommand.MESSAGE_USAGE);
+        assertEquals(expected, parser.parse(UndoCommand.COMMAND_WORD));
+    }
+
+    @Test
+    public void parse_redoCommand_returnsCorrectHelpCommand() throws ParseException {
+        HelpCommand expected = new HelpCommand(RedoCommand.MESSAGE_USAGE);
+        assertEquals(expected, parser.parse(RedoCommand.COMMAND_WORD));
+    }
+
     @Test
     public void parse_exitCommand_returnsCorrectHelpCommand() throws ParseException {
         HelpCommand expected = new HelpCommand(ExitCommand.MESSAGE_USAGE);
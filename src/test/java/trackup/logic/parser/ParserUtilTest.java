@@ -167,14 +167,14 @@ public class ParserUtilTest {
 
     @Test
     public void parseTag_validValueWithoutWhitespace_returnsTag() throws Exception {
-        Tag expectedTag = new Tag(VALID_TAG_1);
+        Tag expectedTag = Tag.of(VALID_TAG_1);
         assertEquals(expectedTag, ParserUtil.parseTag(VALID_TAG_1));
     }
 
     @Test
     public void parseTag_validValueWithWhitespace_returnsTrimmedTag() throws Exception {
         String tagWithWhitespace = WHITESPACE + VALID_TAG_1 + WHITESPACE;
-        Tag expectedTag = new Tag(VALID_TAG_1);
+        Tag expectedTag = Tag.of(VALID_TAG_1);
         assertEquals(expectedTag, ParserUtil.parseTag(tagWithWhitespace));
     }
 
@@ -196,7 +196,7 @@ public class ParserUtilTest {
     @Test
     public void parseTags_collectionWithValidTags_returnsTagSet() throws Exception {
         Set<Tag> actualTagSet = ParserUtil.parseTags(Arrays.asList(VALID_TAG_1, VALID_TAG_2));
-        Set<Tag> expectedTagSet = new HashSet<Tag>(Arrays.asList(new Tag(VALID_TAG_1), new Tag(VALID_TAG_2)));
+        Set<Tag> expectedTagSet = new HashSet<Tag>(Arrays.asList(Tag.of(VALID_TAG_1), Tag.of(VALID_TAG_2)));
 
         assertEquals(expectedTagSet, actualTagSet);
     }
@@ -205,13 +205,13 @@ public class ParserUtilTest {
     public void parseTags_validTags_assertNotNullHit() throws Exception {
         // Directly hits the path with valid tags
         Set<Tag> tags = ParserUtil.parseTags(Arrays.asList("tech", "biz"));
-        assertTrue(tags.contains(new Tag("tech")));
-        assertTrue(tags.contains(new Tag("biz")));
+        assertTrue(tags.contains(Tag.of("tech")));
+        assertTrue(tags.contains(Tag.of("biz")));
     }
 
     @Test
     public void parseCategory_validCategory_success() throws Exception {
-        assertEquals(new Category("Investor"), ParserUtil.parseCategory("investor"));
+        assertEquals(Category.of("Investor"), ParserUtil.parseCategory("investor"));
     }
 
     @Test
@@ -269,7 +269,7 @@ public class ParserUtilTest {
 
     @Test
     public void parseCategory_valid_returnsCategory() throws Exception {
-        Category expected = new Category("Client");
+        Category expected = Category.of("Client");
         assertEquals(expected, ParserUtil.parseCategory("client"));
         assertEquals(expected, ParserUtil.parseCategory("Client"));
         assertEquals(expected, ParserUtil.parseCategory("CLIENT"));
@@ -0,0 +1,36 @@
+package trackup.logic.parser;
+
+import static trackup.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static trackup.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static trackup.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+import trackup.logic.commands.RunCommand;
+
+public class RunCommandParserTest {
+
+    private RunCommandParser parser = new RunCommandParser();
+
+    @Test
+    public void parse_emptyArg_throwsParseException() {
+        assertParseFailure(parser, "     ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, "script\0.txt",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, RunCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_validArgs_returnsRunCommand() {
+        RunCommand expectedRunCommand = new RunCommand(Paths.get("data", "my commands.txt"));
+        assertParseSuccess(parser, "data/my commands.txt", expectedRunCommand);
+
+        // leading and trailing whitespaces
+        assertParseSuccess(parser, " \t data/my commands.txt  ", expectedRunCommand);
+    }
+}
@@ -26,4 +26,19 @@ public class SearchCommandParserTest {
         // multiple whitespaces between keywords
         assertParseSuccess(parser, " \n Alice \n \t", expectedSearchCommand);
     }
+
+    @Test
+    public void parse_fuzzyPrefix_returnsFuzzySearchCommand() {
+        assertParseSuccess(parser, " -f Alcie Pualine ", new SearchCommand("Alcie Pualine", true));
+    }
+
+    @Test
+    public void parse_fuzzyPrefixWithoutKeyword_throwsParseException() {
+        assertParseFailure(parser, " -f  ", String.format(MESSAGE_INVALID_COMMAND_FORMAT, SearchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_fuzzyPrefixAfterKeyword_returnsSubstringSearchCommand() {
+        assertParseSuccess(parser, " Alice -f Bob ", new SearchCommand("Alice -f Bob"));
+    }
 }
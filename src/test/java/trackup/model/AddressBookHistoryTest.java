@@ -0,0 +1,104 @@
+package trackup.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BENSON;
+import static trackup.testutil.TypicalPersons.CARL;
+import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class AddressBookHistoryTest {
+
+    private final AddressBook addressBook = new AddressBook();
+
+    @BeforeEach
+    public void setUp() {
+        addressBook.startRecording();
+    }
+
+    @Test
+    public void constructor_nonPositiveMaxBytes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new AddressBookHistory(0));
+    }
+
+    @Test
+    public void add_emptyDelta_ignored() {
+        AddressBookHistory history = new AddressBookHistory();
+        history.add(addressBook.takeRecordedChanges());
+        assertFalse(history.canUndo());
+        assertEquals(0, history.getEstimatedSize());
+    }
+
+    @Test
+    public void undoRedo_severalDeltas_revertsInOrder() {
+        AddressBookHistory history = new AddressBookHistory();
+        addressBook.addPerson(ALICE);
+        history.add(addressBook.takeRecordedChanges());
+        addressBook.addPerson(BENSON);
+        addressBook.removePerson(ALICE);
+        history.add(addressBook.takeRecordedChanges());
+
+        history.undo(addressBook);
+        assertEquals(List.of(ALICE), addressBook.getPersonList());
+        history.undo(addressBook);
+        assertTrue(addressBook.getPersonList().isEmpty());
+        assertFalse(history.canUndo());
+
+        history.redo(addressBook);
+        history.redo(addressBook);
+        assertEquals(List.of(BENSON), addressBook.getPersonList());
+        assertFalse(history.canRedo());
+        assertThrows(IllegalStateException.class, () -> history.redo(addressBook));
+    }
+
+    @Test
+    public void add_afterUndo_clearsRedo() {
+        AddressBookHistory history = new AddressBookHistory();
+        addressBook.addPerson(ALICE);
+        history.add(addressBook.takeRecordedChanges());
+        history.undo(addressBook);
+        assertTrue(history.canRedo());
+
+        addressBook.addPerson(BENSON);
+        history.add(addressBook.takeRecordedChanges());
+        assertFalse(history.canRedo());
+    }
+
+    @Test
+    public void add_overMaxBytes_dropsOldestDeltas() {
+        addressBook.addPerson(ALICE);
+        AddressBookDelta smallDelta = addressBook.takeRecordedChanges();
+        AddressBookHistory history = new AddressBookHistory(2 * smallDelta.getEstimatedSize());
+        history.add(smallDelta);
+        addressBook.addPerson(BENSON);
+        history.add(addressBook.takeRecordedChanges());
+        addressBook.addPerson(CARL);
+        history.add(addressBook.takeRecordedChanges());
+        assertEquals(2 * smallDelta.getEstimatedSize(), history.getEstimatedSize());
+    }
+
+    @Test
+    public void add_deltaOverMaxBytes_clearsHistory() {
+        addressBook.addPerson(ALICE);
+        AddressBookDelta smallDelta = addressBook.takeRecordedChanges();
+        AddressBookHistory history = new AddressBookHistory(2 * smallDelta.getEstimatedSize());
+        history.add(smallDelta);
+
+        // clearing keeps every removed person in the delta
+        addressBook.resetData(getTypicalAddressBook());
+        addressBook.resetData(new AddressBook());
+        AddressBookDelta largeDelta = addressBook.takeRecordedChanges();
+        assertTrue(largeDelta.getEstimatedSize() > 2 * smallDelta.getEstimatedSize());
+        history.add(largeDelta);
+
+        assertFalse(history.canUndo());
+        assertEquals(0, history.getEstimatedSize());
+    }
+}
@@ -3,19 +3,26 @@ package trackup.model;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static trackup.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static trackup.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static trackup.testutil.Assert.assertThrows;
 import static trackup.testutil.TypicalEvents.DUPLICATE_MEETING;
+import static trackup.testutil.TypicalEvents.LUNCH_EVENT;
 import static trackup.testutil.TypicalEvents.MEETING_EVENT;
+import static trackup.testutil.TypicalEvents.SOLO_EVENT;
+import static trackup.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
 import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BOB;
 import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -25,6 +32,7 @@ import trackup.model.event.Event;
 import trackup.model.event.exceptions.DuplicateEventException;
 import trackup.model.person.Person;
 import trackup.model.person.exceptions.DuplicatePersonException;
+import trackup.testutil.EventBuilder;
 import trackup.testutil.PersonBuilder;
 
 public class AddressBookTest {
@@ -83,6 +91,54 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void searchPersons_afterPersonEdited_matchesEditedPerson() {
+        addressBook.addPerson(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        assertEquals(Set.of(editedAlice), addressBook.searchPersons("bobby"));
+        assertTrue(addressBook.searchPersons("jurong").isEmpty());
+
+        addressBook.removePerson(editedAlice);
+        assertTrue(addressBook.searchPersons("alice").isEmpty());
+    }
+
+    @Test
+    public void removeContactFromEvents_linkedEvents_removesContactOnlyFromLinkedEvents() {
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        addressBook.removeContactFromEvents(ALICE);
+
+        Event meetingWithoutAlice = new EventBuilder(MEETING_EVENT).withContacts(Set.of()).build();
+        assertEquals(List.of(meetingWithoutAlice, LUNCH_EVENT, SOLO_EVENT), addressBook.getEventList());
+        assertSame(LUNCH_EVENT, addressBook.getEventList().get(1));
+
+        // contact no longer linked -> no change
+        addressBook.removeContactFromEvents(ALICE);
+        assertEquals(List.of(meetingWithoutAlice, LUNCH_EVENT, SOLO_EVENT), addressBook.getEventList());
+    }
+
+    @Test
+    public void replaceContactInEvents_linkedEvents_replacesContact() {
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        Person editedAlice = new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build();
+        addressBook.replaceContactInEvents(ALICE, editedAlice);
+
+        Event meetingWithEditedAlice = new EventBuilder(MEETING_EVENT).withContacts(Set.of(editedAlice)).build();
+        assertEquals(List.of(meetingWithEditedAlice, LUNCH_EVENT, SOLO_EVENT), addressBook.getEventList());
+
+        // index follows the replacement
+        addressBook.removeContactFromEvents(editedAlice);
+        assertTrue(addressBook.getEventList().get(0).getContacts().isEmpty());
+    }
+
+    @Test
+    public void removeContactFromEvents_personWithSameIdentityButDifferentFields_noChange() {
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.removeContactFromEvents(editedAlice);
+        assertEquals(getTypicalAddressBookWithEvents(), addressBook);
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getPersonList().remove(0));
@@ -149,6 +205,99 @@ public class AddressBookTest {
     }
 
 
+    @Test
+    public void getVersion_afterChanges_increases() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.addPerson(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertTrue(versionAfterAdd > initialVersion);
+
+        addressBook.hasPerson(ALICE);
+        addressBook.searchPersons("alice");
+        assertEquals(versionAfterAdd, addressBook.getVersion());
+
+        addressBook.markNotesChanged(ALICE, ALICE.getNotes());
+        assertTrue(addressBook.getVersion() > versionAfterAdd);
+    }
+
+    @Test
+    public void getSnapshot_afterChanges_earlierSnapshotsUnchanged() {
+        addressBook.resetData(getTypicalAddressBookWithEvents());
+        PersistentAddressBook initialSnapshot = addressBook.getSnapshot();
+        List<Person> initialPersons = List.copyOf(addressBook.getPersonList());
+        List<Event> initialEvents = List.copyOf(addressBook.getEventList());
+        assertEquals(initialPersons, initialSnapshot.getPersonList());
+        assertEquals(initialEvents, initialSnapshot.getEventList());
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.replaceContactInEvents(ALICE, editedAlice);
+        addressBook.deleteEvent(SOLO_EVENT);
+        PersistentAddressBook editedSnapshot = addressBook.getSnapshot();
+
+        assertEquals(initialPersons, initialSnapshot.getPersonList());
+        assertEquals(initialEvents, initialSnapshot.getEventList());
+        assertEquals(addressBook.getPersonList(), editedSnapshot.getPersonList());
+        assertEquals(addressBook.getEventList(), editedSnapshot.getEventList());
+        assertSame(editedAlice, editedSnapshot.getPersonList().get(0));
+
+        addressBook.setPersons(List.of());
+        assertEquals(addressBook.getPersonList(), addressBook.getSnapshot().getPersonList());
+        assertEquals(addressBook.getEventList(), editedSnapshot.getEventList());
+    }
+
+    @Test
+    public void revert_recordedChanges_restoresPositionsAndEvents() {
+        addressBook.resetData(getTypicalAddressBookWithEvents());
+        AddressBook original = new AddressBook(addressBook);
+        addressBook.startRecording();
+
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.replaceContactInEvents(ALICE, editedAlice);
+        addressBook.deleteEvent(LUNCH_EVENT);
+        addressBook.removeContactFromEvents(editedAlice);
+        addressBook.removePerson(editedAlice);
+        AddressBook edited = new AddressBook(addressBook);
+        AddressBookDelta delta = addressBook.takeRecordedChanges();
+        assertEquals(5, delta.size());
+
+        AddressBookDelta redoDelta = addressBook.revert(delta);
+        assertEquals(original, addressBook);
+        assertTrue(addressBook.takeRecordedChanges().isEmpty());
+
+        addressBook.revert(redoDelta);
+        assertEquals(edited, addressBook);
+    }
+
+    @Test
+    public void revert_resetWithoutSnapshot_restoresPreviousData() {
+        addressBook.resetData(getTypicalAddressBookWithEvents());
+        AddressBook original = new AddressBook(addressBook);
+        addressBook.startRecording();
+
+        addressBook.resetData(new AddressBook());
+        addressBook.revert(addressBook.takeRecordedChanges());
+        assertEquals(original, addressBook);
+    }
+
+    @Test
+    public void revert_changesNotTaken_throwsIllegalStateException() {
+        addressBook.startRecording();
+        addressBook.addPerson(ALICE);
+        AddressBookDelta delta = addressBook.takeRecordedChanges();
+        addressBook.addPerson(BOB);
+
+        assertThrows(IllegalStateException.class, () -> addressBook.revert(delta));
+        assertEquals(Arrays.asList(ALICE, BOB), addressBook.getPersonList());
+    }
+
+    @Test
+    public void takeRecordedChanges_notRecording_returnsEmptyDelta() {
+        addressBook.addPerson(ALICE);
+        assertTrue(addressBook.takeRecordedChanges().isEmpty());
+    }
+
     @Test
     public void equals() {
         AddressBook newData1 = getTypicalAddressBook();
@@ -0,0 +1,142 @@
+package trackup.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BENSON;
+import static trackup.testutil.TypicalPersons.DANIEL;
+import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import trackup.model.person.Comparators;
+import trackup.model.person.NameContainsKeywordsPredicate;
+import trackup.model.person.Person;
+import trackup.testutil.AddressBookBuilder;
+import trackup.testutil.PersonBuilder;
+
+public class HeadlessModelManagerTest {
+
+    private static final Predicate<Person> NAME_HAS_MEIER =
+            new NameContainsKeywordsPredicate(List.of("Meier"));
+    private static final Comparator<Person> NAME_DESCENDING = Comparators.NAME_COMPARATOR.reversed();
+
+    private HeadlessModelManager headlessModel;
+    private ModelManager modelManager;
+
+    @BeforeEach
+    public void setUp() {
+        headlessModel = new HeadlessModelManager(getTypicalAddressBook(), new UserPrefs());
+        modelManager = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    }
+
+    @Test
+    public void getFilteredPersonList_filterAndSort_sameAsModelManager() {
+        assertEquals(modelManager.getFilteredPersonList(), headlessModel.getFilteredPersonList());
+
+        headlessModel.updateFilteredPersonList(NAME_HAS_MEIER);
+        modelManager.updateFilteredPersonList(NAME_HAS_MEIER);
+        assertEquals(modelManager.getFilteredPersonList(), headlessModel.getFilteredPersonList());
+
+        headlessModel.sortFilteredPersonList(NAME_DESCENDING);
+        modelManager.sortFilteredPersonList(NAME_DESCENDING);
+        assertEquals(modelManager.getFilteredPersonList(), headlessModel.getFilteredPersonList());
+
+        headlessModel.sortFilteredPersonList(null);
+        modelManager.sortFilteredPersonList(null);
+        assertEquals(modelManager.getFilteredPersonList(), headlessModel.getFilteredPersonList());
+    }
+
+    @Test
+    public void getFilteredPersonList_rankedUntilFilterOrSortUpdated_sameAsModelManager() {
+        headlessModel.sortFilteredPersonList(NAME_DESCENDING);
+        modelManager.sortFilteredPersonList(NAME_DESCENDING);
+
+        headlessModel.updateFilteredPersonList(NAME_HAS_MEIER, Comparators.NAME_COMPARATOR);
+        modelManager.updateFilteredPersonList(NAME_HAS_MEIER, Comparators.NAME_COMPARATOR);
+        assertEquals(List.of(BENSON, DANIEL), headlessModel.getFilteredPersonList());
+        assertEquals(modelManager.getFilteredPersonList(), headlessModel.getFilteredPersonList());
+
+        // updating the filter restores the sort order
+        headlessModel.updateFilteredPersonList(NAME_HAS_MEIER);
+        modelManager.updateFilteredPersonList(NAME_HAS_MEIER);
+        assertEquals(List.of(DANIEL, BENSON), headlessModel.getFilteredPersonList());
+        assertEquals(modelManager.getFilteredPersonList(), headlessModel.getFilteredPersonList());
+
+        // updating the sort order replaces the ranking
+        headlessModel.updateFilteredPersonList(NAME_HAS_MEIER, Comparators.NAME_COMPARATOR);
+        modelManager.updateFilteredPersonList(NAME_HAS_MEIER, Comparators.NAME_COMPARATOR);
+        headlessModel.sortFilteredPersonList(NAME_DESCENDING);
+        modelManager.sortFilteredPersonList(NAME_DESCENDING);
+        assertEquals(List.of(DANIEL, BENSON), headlessModel.getFilteredPersonList());
+        assertEquals(modelManager.getFilteredPersonList(), headlessModel.getFilteredPersonList());
+    }
+
+    @Test
+    public void getFilteredPersonList_unchangedAddressBook_returnsSameList() {
+        assertSame(headlessModel.getFilteredPersonList(), headlessModel.getFilteredPersonList());
+    }
+
+    @Test
+    public void getFilteredPersonList_afterChange_reflectsChange() {
+        headlessModel.sortFilteredPersonList(NAME_DESCENDING);
+        modelManager.sortFilteredPersonList(NAME_DESCENDING);
+        List<Person> oldList = headlessModel.getFilteredPersonList();
+
+        Person person = new PersonBuilder().withName("Zed Meier").build();
+        headlessModel.addPerson(person);
+        modelManager.addPerson(person);
+        assertNotSame(oldList, headlessModel.getFilteredPersonList());
+        assertEquals(person, headlessModel.getFilteredPersonList().get(0));
+        assertEquals(modelManager.getFilteredPersonList(), headlessModel.getFilteredPersonList());
+
+        headlessModel.deletePerson(BENSON);
+        modelManager.deletePerson(BENSON);
+        assertEquals(modelManager.getFilteredPersonList(), headlessModel.getFilteredPersonList());
+    }
+
+    @Test
+    public void getFilteredPersonList_modifyList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> headlessModel.getFilteredPersonList().remove(0));
+    }
+
+    @Test
+    public void updateFilteredPersonList_nullPredicate_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> headlessModel.updateFilteredPersonList(null));
+    }
+
+    @Test
+    public void equals() {
+        AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
+        UserPrefs userPrefs = new UserPrefs();
+        headlessModel = new HeadlessModelManager(addressBook, userPrefs);
+
+        // same values -> returns true
+        assertTrue(headlessModel.equals(new HeadlessModelManager(addressBook, userPrefs)));
+        assertTrue(headlessModel.equals(new ModelManager(addressBook, userPrefs)));
+
+        // same object -> returns true
+        assertTrue(headlessModel.equals(headlessModel));
+
+        // null -> returns false
+        assertFalse(headlessModel.equals(null));
+
+        // different addressBook -> returns false
+        assertFalse(headlessModel.equals(new HeadlessModelManager(new AddressBook(), userPrefs)));
+
+        // different filteredList -> returns false
+        String[] keywords = ALICE.getName().fullName.split("\\s+");
+        headlessModel.updateFilteredPersonList(new NameContainsKeywordsPredicate(Arrays.asList(keywords)));
+        assertFalse(headlessModel.equals(new HeadlessModelManager(addressBook, userPrefs)));
+    }
+}
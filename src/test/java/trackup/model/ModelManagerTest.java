@@ -34,6 +34,23 @@ public class ModelManagerTest {
         assertEquals(new AddressBook(), new AddressBook(modelManager.getAddressBook()));
     }
 
+    @Test
+    public void undoAddressBook_uncommittedChanges_undoneAsLatestStep() {
+        modelManager.addPerson(ALICE);
+        modelManager.commitAddressBook();
+        modelManager.addPerson(BENSON);
+
+        modelManager.undoAddressBook();
+        assertEquals(List.of(ALICE), modelManager.getAddressBook().getPersonList());
+        modelManager.undoAddressBook();
+        assertEquals(List.of(), modelManager.getAddressBook().getPersonList());
+
+        modelManager.redoAddressBook();
+        modelManager.addPerson(BENSON);
+        assertThrows(IllegalStateException.class, () -> modelManager.redoAddressBook());
+        assertEquals(List.of(ALICE, BENSON), modelManager.getAddressBook().getPersonList());
+    }
+
     @Test
     public void setUserPrefs_nullUserPrefs_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.setUserPrefs(null));
@@ -0,0 +1,76 @@
+package trackup.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalEvents.LUNCH_EVENT;
+import static trackup.testutil.TypicalEvents.MEETING_EVENT;
+import static trackup.testutil.TypicalEvents.SOLO_EVENT;
+import static trackup.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BOB;
+import static trackup.testutil.TypicalPersons.CARL;
+import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import trackup.commons.util.PersistentList;
+
+public class PersistentAddressBookTest {
+
+    @Test
+    public void empty_noPersonsOrEvents() {
+        assertTrue(PersistentAddressBook.empty().getPersonList().isEmpty());
+        assertTrue(PersistentAddressBook.empty().getEventList().isEmpty());
+    }
+
+    @Test
+    public void of_persistentAddressBook_returnsSameVersion() {
+        PersistentAddressBook snapshot = getTypicalAddressBook().getSnapshot();
+        assertSame(snapshot, PersistentAddressBook.of(snapshot));
+    }
+
+    @Test
+    public void of_otherAddressBook_copiesPersonsAndEvents() {
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        PersistentAddressBook copy = PersistentAddressBook.of(new PersistentAddressBook(
+                PersistentList.copyOf(addressBook.getPersonList()), PersistentList.copyOf(addressBook.getEventList())));
+        assertEquals(addressBook.getPersonList(), copy.getPersonList());
+        assertEquals(addressBook.getEventList(), copy.getEventList());
+        assertEquals(addressBook.getSnapshot(), PersistentAddressBook.of(addressBook));
+    }
+
+    @Test
+    public void withPersons_withEvents_earlierVersionUnchanged() {
+        PersistentAddressBook original = getTypicalAddressBookWithEvents().getSnapshot();
+        PersistentAddressBook withCarl = original.withPersons(original.getPersons().add(CARL));
+        PersistentAddressBook withoutMeeting = withCarl.withEvents(withCarl.getEvents().remove(0));
+
+        assertEquals(List.of(ALICE, BOB, CARL), withoutMeeting.getPersonList());
+        assertEquals(List.of(LUNCH_EVENT, SOLO_EVENT), withoutMeeting.getEventList());
+        assertEquals(List.of(ALICE, BOB), original.getPersonList());
+        assertEquals(List.of(MEETING_EVENT, LUNCH_EVENT, SOLO_EVENT), original.getEventList());
+    }
+
+    @Test
+    public void getPersonList_modify_throwsUnsupportedOperationException() {
+        PersistentAddressBook snapshot = getTypicalAddressBook().getSnapshot();
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getEventList().add(MEETING_EVENT));
+    }
+
+    @Test
+    public void equals() {
+        PersistentAddressBook snapshot = getTypicalAddressBook().getSnapshot();
+        assertEquals(snapshot, snapshot);
+        assertEquals(snapshot, getTypicalAddressBook().getSnapshot());
+        assertEquals(snapshot.hashCode(), getTypicalAddressBook().getSnapshot().hashCode());
+        assertNotEquals(snapshot, PersistentAddressBook.empty());
+        assertNotEquals(snapshot, getTypicalAddressBook());
+        assertNotEquals(snapshot, null);
+    }
+}
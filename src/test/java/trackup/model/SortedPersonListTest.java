@@ -0,0 +1,171 @@
+package trackup.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalPersons.AMY;
+import static trackup.testutil.TypicalPersons.BENSON;
+import static trackup.testutil.TypicalPersons.BOB;
+import static trackup.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import trackup.model.person.Comparators;
+import trackup.model.person.Person;
+import trackup.model.util.SyntheticDataGenerator;
+import trackup.testutil.PersonBuilder;
+
+public class SortedPersonListTest {
+
+    private static final Comparator<Person> NAME_DESCENDING = Comparators.NAME_COMPARATOR.reversed();
+
+    private ObservableList<Person> source;
+    private SortedPersonList sortedList;
+
+    @BeforeEach
+    public void setUp() {
+        source = FXCollections.observableArrayList(getTypicalPersons());
+        sortedList = new SortedPersonList(source);
+    }
+
+    @Test
+    public void constructor_noComparator_keepsSourceOrder() {
+        assertEquals(source, sortedList);
+
+        source.add(1, AMY);
+        source.remove(BENSON);
+        assertEquals(source, sortedList);
+    }
+
+    @Test
+    public void setComparator_sortsView() {
+        sortedList.setComparator(NAME_DESCENDING);
+        assertEquals(sorted(source, NAME_DESCENDING), sortedList);
+        assertEquals(NAME_DESCENDING, sortedList.getComparator());
+
+        sortedList.setComparator(null);
+        assertEquals(source, sortedList);
+    }
+
+    @Test
+    public void sourceAdd_insertsInSortedPositionOnly() {
+        sortedList.setComparator(NAME_DESCENDING);
+        List<String> changes = recordChanges();
+
+        source.add(AMY);
+        assertEquals(sorted(source, NAME_DESCENDING), sortedList);
+        int position = sortedList.indexOf(AMY);
+        assertEquals(List.of("added " + position + "-" + (position + 1)), changes);
+    }
+
+    @Test
+    public void sourceRemove_removesFromSortedPositionOnly() {
+        sortedList.setComparator(NAME_DESCENDING);
+        int position = sortedList.indexOf(BENSON);
+        List<String> changes = recordChanges();
+
+        source.remove(BENSON);
+        assertEquals(sorted(source, NAME_DESCENDING), sortedList);
+        assertEquals(List.of("removed " + position + " " + List.of(BENSON)), changes);
+    }
+
+    @Test
+    public void sourceSet_movesReplacedPerson() {
+        sortedList.setComparator(Comparators.NAME_COMPARATOR);
+        source.set(0, BOB);
+        assertEquals(sorted(source, Comparators.NAME_COMPARATOR), sortedList);
+        assertEquals(sortedList.indexOf(BOB), sortedList.getViewIndex(0));
+
+        source.remove(BOB);
+        assertEquals(sorted(source, Comparators.NAME_COMPARATOR), sortedList);
+    }
+
+    @Test
+    public void setComparator_equalPersons_keepSourceOrder() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone("9000000" + (i % 10))
+                    .withEmail("person" + i + "@example.com").withCategory(i % 3 == 0 ? "Client" : "Partner")
+                    .build());
+        }
+        source.setAll(persons);
+
+        sortedList.setComparator(Comparators.CATEGORY_COMPARATOR);
+        assertEquals(sorted(source, Comparators.CATEGORY_COMPARATOR), sortedList);
+    }
+
+    @Test
+    public void setComparator_largeSource_sameOrderAsStableSort() {
+        List<Person> persons = new SyntheticDataGenerator(3)
+                .generatePersons(SortedPersonList.PARALLEL_SORT_THRESHOLD + 1);
+        source.setAll(persons);
+        Comparator<Person> comparator = Comparators.TAG_COMPARATOR
+                .thenComparing(Comparators.CATEGORY_COMPARATOR.reversed());
+
+        sortedList.setComparator(comparator);
+        assertEquals(sorted(source, comparator), sortedList);
+    }
+
+    @Test
+    public void sourceChange_manyPersons_resortsWholeView() {
+        sortedList.setComparator(Comparators.NAME_COMPARATOR);
+        List<Person> persons = new SyntheticDataGenerator(5)
+                .generatePersons(SortedPersonList.INCREMENTAL_CHANGE_LIMIT + 1);
+        List<String> changes = recordChanges();
+
+        source.addAll(persons);
+        assertEquals(sorted(source, Comparators.NAME_COMPARATOR), sortedList);
+        assertEquals(1, changes.size());
+        assertTrue(changes.get(0).startsWith("replaced 0-" + source.size()));
+    }
+
+    @Test
+    public void setComparator_otherComparator_sortsView() {
+        Comparator<Person> comparator = Comparator.comparing((Person person) -> person.getAddress().value);
+        sortedList.setComparator(comparator);
+        assertEquals(sorted(source, comparator), sortedList);
+
+        source.add(AMY);
+        assertEquals(sorted(source, comparator), sortedList);
+    }
+
+    @Test
+    public void modify_throwsUnsupportedOperationException() {
+        assertFalse(sortedList.isEmpty());
+        assertThrows(UnsupportedOperationException.class, () -> sortedList.add(AMY));
+    }
+
+    private static List<Person> sorted(List<Person> persons, Comparator<Person> comparator) {
+        List<Person> sortedPersons = new ArrayList<>(persons);
+        sortedPersons.sort(comparator);
+        return sortedPersons;
+    }
+
+    /**
+     * Returns a list that records a description of every change to {@code sortedList} from now on.
+     */
+    private List<String> recordChanges() {
+        List<String> changes = new ArrayList<>();
+        sortedList.addListener((ListChangeListener<Person>) change -> {
+            while (change.next()) {
+                if (change.wasReplaced()) {
+                    changes.add("replaced " + change.getFrom() + "-" + change.getTo());
+                } else if (change.wasAdded()) {
+                    changes.add("added " + change.getFrom() + "-" + change.getTo());
+                } else if (change.wasRemoved()) {
+                    changes.add("removed " + change.getFrom() + " " + change.getRemoved());
+                }
+            }
+        });
+        return changes;
+    }
+}
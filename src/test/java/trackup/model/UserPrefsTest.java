@@ -8,6 +8,7 @@ import java.nio.file.Paths;
 
 import org.junit.jupiter.api.Test;
 
+import trackup.commons.core.DataFormat;
 import trackup.commons.core.GuiSettings;
 import trackup.commons.core.Visibility;
 
@@ -53,6 +54,21 @@ public class UserPrefsTest {
         assertNotEquals(userPrefs1, userPrefs2);
     }
 
+    @Test
+    public void setAddressBookFormat_nullFormat_throwsNullPointerException() {
+        UserPrefs userPrefs = new UserPrefs();
+        assertThrows(NullPointerException.class, () -> userPrefs.setAddressBookFormat(null));
+    }
+
+    @Test
+    public void equals_differentFormat_returnsFalse() {
+        UserPrefs userPrefs1 = new UserPrefs();
+        UserPrefs userPrefs2 = new UserPrefs();
+        userPrefs2.setAddressBookFormat(DataFormat.BINARY);
+        assertNotEquals(userPrefs1, userPrefs2);
+        assertEquals(userPrefs2, new UserPrefs(userPrefs2));
+    }
+
     @Test
     public void hashCode_sameValues_returnsSameHashCode() {
         UserPrefs userPrefs1 = new UserPrefs();
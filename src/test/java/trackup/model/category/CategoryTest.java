@@ -1,6 +1,8 @@
 package trackup.model.category;
 
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.testutil.Assert.assertThrows;
 
@@ -9,14 +11,20 @@ import org.junit.jupiter.api.Test;
 public class CategoryTest {
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Category(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Category.of(null));
     }
 
     @Test
-    public void constructor_invalidCategory_throwsIllegalArgumentException() {
+    public void of_invalidCategory_throwsIllegalArgumentException() {
         String invalidCategory = "InvalidCategory";
-        assertThrows(IllegalArgumentException.class, () -> new Category(invalidCategory));
+        assertThrows(IllegalArgumentException.class, () -> Category.of(invalidCategory));
+    }
+
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(Category.of("Client"), Category.of("Client"));
+        assertNotSame(Category.of("Client"), Category.of("Investor"));
     }
 
     @Test
@@ -34,10 +42,10 @@ public class CategoryTest {
 
     @Test
     public void equals() {
-        Category category = new Category("Client");
+        Category category = Category.of("Client");
 
         // same values -> returns true
-        assertTrue(category.equals(new Category("Client")));
+        assertTrue(category.equals(Category.of("Client")));
 
         // same object -> returns true
         assertTrue(category.equals(category));
@@ -49,23 +57,23 @@ public class CategoryTest {
         assertFalse(category.equals(5.0f));
 
         // different values -> returns false
-        assertFalse(category.equals(new Category("Investor")));
+        assertFalse(category.equals(Category.of("Investor")));
     }
 
     @Test
     public void hashCode_test() {
-        Category category = new Category("Client");
+        Category category = Category.of("Client");
 
         // same values -> returns same hash code
-        assertTrue(category.hashCode() == new Category("Client").hashCode());
+        assertTrue(category.hashCode() == Category.of("Client").hashCode());
 
         // different values -> returns different hash code
-        assertFalse(category.hashCode() == new Category("Investor").hashCode());
+        assertFalse(category.hashCode() == Category.of("Investor").hashCode());
     }
 
     @Test
     public void toString_test() {
-        Category category = new Category("Partner");
+        Category category = Category.of("Partner");
 
         // correct format -> returns true
         assertTrue(category.toString().equals("[Partner]"));
@@ -12,6 +12,10 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
+import trackup.model.note.Note;
+import trackup.model.person.Person;
+import trackup.testutil.PersonBuilder;
+
 public class EventTest {
 
     private static final String TITLE_MEETING = "Team Meeting";
@@ -30,6 +34,25 @@ public class EventTest {
         assertThrows(UnsupportedOperationException.class, () -> event.getContacts().remove(ALICE));
     }
 
+    @Test
+    public void getContacts_contactNotesChanged_stillContainsContact() {
+        Person contact = new PersonBuilder().build();
+        Event event = new Event(TITLE_MEETING, START, END, Set.of(contact, BOB));
+        int hashCode = event.hashCode();
+
+        contact.addNote(new Note("Call back"));
+        assertTrue(event.getContacts().contains(contact));
+        assertEquals(hashCode, event.hashCode());
+    }
+
+    @Test
+    public void hashCode_equalEvents_sameHashCode() {
+        Event copy = new Event(TITLE_MEETING, START, END, Set.of(new PersonBuilder(ALICE).build()));
+        assertEquals(baseEvent, copy);
+        assertEquals(baseEvent.hashCode(), copy.hashCode());
+        assertEquals(EventIdentity.of(baseEvent), EventIdentity.of(copy));
+    }
+
     @Test
     public void isSameEvent() {
         // same object -> true
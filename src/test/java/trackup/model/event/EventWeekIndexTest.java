@@ -0,0 +1,83 @@
+package trackup.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalEvents.LUNCH_EVENT;
+import static trackup.testutil.TypicalEvents.MEETING_EVENT;
+import static trackup.testutil.TypicalEvents.SOLO_EVENT;
+import static trackup.testutil.TypicalEvents.getTypicalEvents;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import trackup.testutil.EventBuilder;
+
+public class EventWeekIndexTest {
+
+    private static final LocalDate WEEK_START = LocalDate.of(2025, 3, 31);
+
+    private static final Event SUNDAY_NIGHT_EVENT = new EventBuilder().withTitle("Sunday Night")
+            .withStart(LocalDateTime.of(2025, 4, 6, 23, 30)).withEnd(LocalDateTime.of(2025, 4, 6, 23, 45)).build();
+    private static final Event NEXT_MONDAY_EVENT = new EventBuilder().withTitle("Next Monday")
+            .withStart(LocalDateTime.of(2025, 4, 7, 0, 0)).withEnd(LocalDateTime.of(2025, 4, 7, 1, 0)).build();
+
+    private final EventWeekIndex index = new EventWeekIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.setEvents(getTypicalEvents());
+    }
+
+    @Test
+    public void getWeekStart_anyDayOfWeek_returnsMonday() {
+        assertEquals(WEEK_START, EventWeekIndex.getWeekStart(WEEK_START));
+        assertEquals(WEEK_START, EventWeekIndex.getWeekStart(LocalDate.of(2025, 4, 6)));
+        assertEquals(WEEK_START.plusWeeks(1), EventWeekIndex.getWeekStart(LocalDate.of(2025, 4, 7)));
+        assertEquals(WEEK_START, EventWeekIndex.getWeekStart(MEETING_EVENT));
+    }
+
+    @Test
+    public void getEvents_anyDayOfWeek_returnsEventsInOrderAdded() {
+        assertEquals(List.of(MEETING_EVENT, LUNCH_EVENT, SOLO_EVENT), index.getEvents(WEEK_START));
+        assertEquals(index.getEvents(WEEK_START), index.getEvents(LocalDate.of(2025, 4, 3)));
+        assertTrue(index.getEvents(WEEK_START.plusWeeks(1)).isEmpty());
+    }
+
+    @Test
+    public void add_eventsAtWeekBoundary_addedToWeekTheyStartIn() {
+        index.add(NEXT_MONDAY_EVENT);
+        index.add(SUNDAY_NIGHT_EVENT);
+        assertEquals(List.of(MEETING_EVENT, LUNCH_EVENT, SOLO_EVENT, SUNDAY_NIGHT_EVENT), index.getEvents(WEEK_START));
+        assertEquals(List.of(NEXT_MONDAY_EVENT), index.getEvents(WEEK_START.plusWeeks(1)));
+    }
+
+    @Test
+    public void remove_eventInIndex_removesOnlyThatEvent() {
+        index.remove(LUNCH_EVENT);
+        assertEquals(List.of(MEETING_EVENT, SOLO_EVENT), index.getEvents(WEEK_START));
+
+        // events are removed by reference
+        index.remove(new EventBuilder(MEETING_EVENT).build());
+        assertEquals(List.of(MEETING_EVENT, SOLO_EVENT), index.getEvents(WEEK_START));
+
+        index.remove(NEXT_MONDAY_EVENT);
+        assertTrue(index.getEvents(WEEK_START.plusWeeks(1)).isEmpty());
+    }
+
+    @Test
+    public void getEvents_modifyReturnedList_throwsUnsupportedOperationException() {
+        assertThrows(UnsupportedOperationException.class, () -> index.getEvents(WEEK_START).clear());
+    }
+
+    @Test
+    public void nullArguments_throwNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null));
+        assertThrows(NullPointerException.class, () -> index.remove(null));
+        assertThrows(NullPointerException.class, () -> index.getEvents(null));
+    }
+}
@@ -0,0 +1,168 @@
+package trackup.model.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalEvents.LUNCH_EVENT;
+import static trackup.testutil.TypicalEvents.MEETING_EVENT;
+import static trackup.testutil.TypicalEvents.SOLO_EVENT;
+import static trackup.testutil.TypicalPersons.BOB;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import trackup.model.event.exceptions.DuplicateEventException;
+import trackup.model.event.exceptions.EventNotFoundException;
+import trackup.testutil.EventBuilder;
+
+public class UniqueEventListTest {
+
+    private final UniqueEventList uniqueEventList = new UniqueEventList();
+
+    @Test
+    public void contains_nullEvent_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> uniqueEventList.contains(null));
+    }
+
+    @Test
+    public void contains_eventNotInList_returnsFalse() {
+        assertFalse(uniqueEventList.contains(MEETING_EVENT));
+    }
+
+    @Test
+    public void contains_eventWithSameIdentityFieldsInList_returnsTrue() {
+        uniqueEventList.add(MEETING_EVENT);
+        Event editedMeeting = new EventBuilder(MEETING_EVENT).addContacts(BOB).build();
+        assertTrue(uniqueEventList.contains(editedMeeting));
+    }
+
+    @Test
+    public void add_duplicateEvent_throwsDuplicateEventException() {
+        uniqueEventList.add(MEETING_EVENT);
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.add(MEETING_EVENT));
+    }
+
+    @Test
+    public void addAtIndex_validIndex_insertsAndKeepsPositions() {
+        uniqueEventList.add(MEETING_EVENT);
+        uniqueEventList.add(SOLO_EVENT);
+        uniqueEventList.add(1, LUNCH_EVENT);
+        assertEquals(List.of(MEETING_EVENT, LUNCH_EVENT, SOLO_EVENT), uniqueEventList.asUnmodifiableObservableList());
+        assertEquals(2, uniqueEventList.indexOf(SOLO_EVENT));
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.add(0, LUNCH_EVENT));
+        assertThrows(IndexOutOfBoundsException.class, () -> uniqueEventList.add(5, new EventBuilder().build()));
+    }
+
+    @Test
+    public void setEvent_targetEventNotInList_throwsEventNotFoundException() {
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.setEvent(MEETING_EVENT, MEETING_EVENT));
+    }
+
+    @Test
+    public void setEvent_targetWithSameIdentityButDifferentContacts_throwsEventNotFoundException() {
+        uniqueEventList.add(MEETING_EVENT);
+        Event editedMeeting = new EventBuilder(MEETING_EVENT).addContacts(BOB).build();
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.setEvent(editedMeeting, LUNCH_EVENT));
+    }
+
+    @Test
+    public void setEvent_editedEventHasDifferentIdentity_success() {
+        uniqueEventList.add(MEETING_EVENT);
+        uniqueEventList.add(SOLO_EVENT);
+        uniqueEventList.setEvent(MEETING_EVENT, LUNCH_EVENT);
+        UniqueEventList expectedUniqueEventList = new UniqueEventList();
+        expectedUniqueEventList.add(LUNCH_EVENT);
+        expectedUniqueEventList.add(SOLO_EVENT);
+        assertEquals(expectedUniqueEventList, uniqueEventList);
+        assertFalse(uniqueEventList.contains(MEETING_EVENT));
+        assertEquals(0, uniqueEventList.indexOf(LUNCH_EVENT));
+    }
+
+    @Test
+    public void setEvent_editedEventHasNonUniqueIdentity_throwsDuplicateEventException() {
+        uniqueEventList.add(MEETING_EVENT);
+        uniqueEventList.add(LUNCH_EVENT);
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvent(MEETING_EVENT, LUNCH_EVENT));
+    }
+
+    @Test
+    public void replaceEvents_targetsInList_replacesInPlace() {
+        uniqueEventList.setEvents(Arrays.asList(MEETING_EVENT, LUNCH_EVENT, SOLO_EVENT));
+        Event editedMeeting = new EventBuilder(MEETING_EVENT).addContacts(BOB).build();
+        Event editedSolo = new EventBuilder(SOLO_EVENT).addContacts(BOB).build();
+        uniqueEventList.replaceEvents(Arrays.asList(SOLO_EVENT, MEETING_EVENT), Arrays.asList(editedSolo,
+                editedMeeting));
+        assertEquals(Arrays.asList(editedMeeting, LUNCH_EVENT, editedSolo),
+                uniqueEventList.asUnmodifiableObservableList());
+        assertEquals(2, uniqueEventList.indexOf(editedSolo));
+    }
+
+    @Test
+    public void replaceEvents_targetNotInList_throwsEventNotFoundException() {
+        uniqueEventList.add(MEETING_EVENT);
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.replaceEvents(
+                Collections.singletonList(LUNCH_EVENT), Collections.singletonList(LUNCH_EVENT)));
+    }
+
+    @Test
+    public void replaceEvents_differentIdentity_throwsIllegalArgumentException() {
+        uniqueEventList.add(MEETING_EVENT);
+        assertThrows(IllegalArgumentException.class, () -> uniqueEventList.replaceEvents(
+                Collections.singletonList(MEETING_EVENT), Collections.singletonList(LUNCH_EVENT)));
+    }
+
+    @Test
+    public void remove_eventDoesNotExist_throwsEventNotFoundException() {
+        assertThrows(EventNotFoundException.class, () -> uniqueEventList.remove(MEETING_EVENT));
+    }
+
+    @Test
+    public void remove_existingEvent_shiftsLaterEvents() {
+        uniqueEventList.setEvents(Arrays.asList(MEETING_EVENT, LUNCH_EVENT, SOLO_EVENT));
+        uniqueEventList.remove(MEETING_EVENT);
+        assertFalse(uniqueEventList.contains(MEETING_EVENT));
+        assertEquals(-1, uniqueEventList.indexOf(MEETING_EVENT));
+        assertEquals(0, uniqueEventList.indexOf(LUNCH_EVENT));
+        assertEquals(1, uniqueEventList.indexOf(SOLO_EVENT));
+
+        uniqueEventList.remove(SOLO_EVENT);
+        assertEquals(Collections.singletonList(LUNCH_EVENT), uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setEvents_list_replacesOwnListWithProvidedList() {
+        uniqueEventList.add(MEETING_EVENT);
+        List<Event> eventList = Arrays.asList(LUNCH_EVENT, SOLO_EVENT);
+        uniqueEventList.setEvents(eventList);
+        assertFalse(uniqueEventList.contains(MEETING_EVENT));
+        assertEquals(1, uniqueEventList.indexOf(SOLO_EVENT));
+        assertEquals(eventList, uniqueEventList.asUnmodifiableObservableList());
+    }
+
+    @Test
+    public void setEvents_listWithDuplicateEvents_throwsDuplicateEventExceptionAndKeepsList() {
+        uniqueEventList.add(SOLO_EVENT);
+        Event editedMeeting = new EventBuilder(MEETING_EVENT).addContacts(BOB).build();
+        List<Event> listWithDuplicateEvents = Arrays.asList(MEETING_EVENT, editedMeeting);
+        assertThrows(DuplicateEventException.class, () -> uniqueEventList.setEvents(listWithDuplicateEvents));
+        assertTrue(uniqueEventList.contains(SOLO_EVENT));
+        assertFalse(uniqueEventList.contains(MEETING_EVENT));
+    }
+
+    @Test
+    public void setEvents_uniqueEventList_copiesIndex() {
+        UniqueEventList replacement = new UniqueEventList();
+        replacement.add(LUNCH_EVENT);
+        uniqueEventList.add(MEETING_EVENT);
+        uniqueEventList.setEvents(replacement);
+        assertTrue(uniqueEventList.contains(LUNCH_EVENT));
+        assertFalse(uniqueEventList.contains(MEETING_EVENT));
+
+        replacement.add(SOLO_EVENT);
+        assertFalse(uniqueEventList.contains(SOLO_EVENT));
+    }
+}
@@ -1,5 +1,6 @@
 package trackup.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.testutil.Assert.assertThrows;
@@ -98,5 +99,10 @@ public class EmailTest {
 
         // different values -> returns false
         assertFalse(email.equals(new Email("other.valid@email.com"))); // both valid → actual equals() check
+
+        // different case -> returns true, with equal hash codes
+        Email upperCaseEmail = new Email("VALID@Email.com");
+        assertTrue(email.equals(upperCaseEmail));
+        assertEquals(email.hashCode(), upperCaseEmail.hashCode());
     }
 }
@@ -0,0 +1,183 @@
+package trackup.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BENSON;
+import static trackup.testutil.TypicalPersons.DANIEL;
+import static trackup.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import trackup.testutil.PersonBuilder;
+
+public class FuzzyPersonIndexTest {
+
+    private static final double DELTA = 1e-9;
+
+    private final FuzzyPersonIndex index = new FuzzyPersonIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.setPersons(getTypicalPersons());
+    }
+
+    @Test
+    public void search_nullKeyword_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.search(null));
+    }
+
+    @Test
+    public void search_exactWord_similarityOne() {
+        assertEquals(Map.of(ALICE, 1.0), toMap(index.search("ALICE")));
+    }
+
+    @Test
+    public void search_typos_findsSimilarWords() {
+        // swapped characters in the name
+        assertEquals(0.8, similarity("alcie", ALICE), DELTA);
+        // missing character in the address
+        assertEquals(1.0, similarity("clementi", BENSON), DELTA);
+        assertEquals(1 - 1 / 8.0, similarity("clemnti", BENSON), DELTA);
+        // wrong character in a tag
+        assertTrue(index.search("owesmonez").contains(BENSON));
+    }
+
+    @Test
+    public void search_tooManyEdits_noMatch() {
+        assertTrue(index.search("al").isEmpty());
+        assertTrue(index.search("aclie").isEmpty());
+        assertFalse(index.search("mier").contains(ALICE));
+    }
+
+    @Test
+    public void search_closerWord_rankedHigher() {
+        Person meyer = new PersonBuilder().withName("Ann Meyer").withPhone("11111111").build();
+        index.add(meyer);
+
+        FuzzySearchResult similarities = index.search("meier");
+        assertEquals(1.0, similarities.getSimilarity(BENSON), DELTA);
+        assertEquals(1.0, similarities.getSimilarity(DANIEL), DELTA);
+        assertEquals(0.8, similarities.getSimilarity(meyer), DELTA);
+    }
+
+    @Test
+    public void search_severalWords_averagesBestSimilarities() {
+        FuzzySearchResult similarities = index.search("benson meier");
+        assertEquals(1.0, similarities.getSimilarity(BENSON), DELTA);
+        assertEquals(0.5, similarities.getSimilarity(DANIEL), DELTA);
+    }
+
+    @Test
+    public void search_lettersAndDigits_separateWords() {
+        Person tan = new PersonBuilder().withName("Tan").withPhone("11111111").withEmail("tanah42@example.com").build();
+        index.add(tan);
+
+        assertEquals(Map.of(tan, 1.0), toMap(index.search("tanah")));
+        assertEquals(Map.of(tan, 1.0), toMap(index.search("42")));
+        assertTrue(index.search("tanah42").contains(tan));
+    }
+
+    @Test
+    public void search_keywordWithoutWords_noMatch() {
+        assertTrue(index.search(" @#- ").isEmpty());
+    }
+
+    @Test
+    public void remove_personWithSameIdentity_removesIndexedPerson() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("Somewhere else").build();
+        index.remove(editedAlice);
+        assertTrue(index.search("alice").isEmpty());
+        assertTrue(index.search("jurong").isEmpty());
+
+        index.add(editedAlice);
+        assertEquals(Map.of(editedAlice, 1.0), toMap(index.search("somewhere")));
+    }
+
+    @Test
+    public void remove_personInMiddle_remainingPersonsStillFound() {
+        index.remove(BENSON);
+        for (Person person : getTypicalPersons()) {
+            String firstName = person.getName().fullName.split(" ")[0];
+            assertEquals(person != BENSON, index.search(firstName).contains(person), firstName);
+        }
+
+        index.add(BENSON);
+        assertEquals(1.0, similarity("benson", BENSON), DELTA);
+    }
+
+    @Test
+    public void addRemove_manyPersonsSharingWords_searchFindsRemainingPersons() {
+        Random random = new Random(3);
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            persons.add(new PersonBuilder().withName("Person " + (char) ('a' + i % 26) + (char) ('a' + i / 26))
+                    .withPhone(String.valueOf(10000000 + i)).withAddress("Jurong West").build());
+        }
+        index.setPersons(persons);
+
+        List<Person> remaining = new ArrayList<>(persons);
+        for (int i = 0; i < 150; i++) {
+            Person removed = remaining.remove(random.nextInt(remaining.size()));
+            index.remove(removed);
+            if (i % 3 == 0) {
+                index.add(removed);
+                remaining.add(removed);
+            }
+        }
+
+        FuzzySearchResult result = index.search("jurong");
+        assertEquals(remaining.size(), result.size());
+        remaining.forEach(person -> assertTrue(result.contains(person)));
+        for (Person person : remaining) {
+            assertTrue(index.search(person.getName().fullName).contains(person));
+        }
+    }
+
+    @Test
+    public void setPersons_replacesContents() {
+        index.setPersons(List.of(BENSON));
+        assertTrue(index.search("alice").isEmpty());
+        assertEquals(Map.of(BENSON, 1.0), toMap(index.search("benson")));
+    }
+
+    @Test
+    public void getMaxEdits() {
+        assertEquals(0, FuzzyPersonIndex.getMaxEdits(2));
+        assertEquals(1, FuzzyPersonIndex.getMaxEdits(3));
+        assertEquals(1, FuzzyPersonIndex.getMaxEdits(5));
+        assertEquals(2, FuzzyPersonIndex.getMaxEdits(6));
+    }
+
+    @Test
+    public void countEdits() {
+        assertEquals(0, FuzzyPersonIndex.countEdits("alice", "alice", 2));
+        assertEquals(1, FuzzyPersonIndex.countEdits("alice", "alcie", 2));
+        assertEquals(1, FuzzyPersonIndex.countEdits("alice", "alie", 2));
+        assertEquals(3, FuzzyPersonIndex.countEdits("kitten", "sitting", 5));
+        // more than maxEdits
+        assertEquals(3, FuzzyPersonIndex.countEdits("kitten", "sitting", 2));
+        assertEquals(1, FuzzyPersonIndex.countEdits("", "a", 1));
+    }
+
+    private double similarity(String keyword, Person person) {
+        return index.search(keyword).getSimilarity(person);
+    }
+
+    private static Map<Person, Double> toMap(FuzzySearchResult result) {
+        Map<Person, Double> similarities = new HashMap<>();
+        for (Person person : result.getPersons()) {
+            similarities.put(person, result.getSimilarity(person));
+        }
+        return similarities;
+    }
+}
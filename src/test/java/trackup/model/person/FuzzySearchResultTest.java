@@ -0,0 +1,67 @@
+package trackup.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BENSON;
+import static trackup.testutil.TypicalPersons.CARL;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import trackup.testutil.PersonBuilder;
+
+public class FuzzySearchResultTest {
+
+    private static final double DELTA = 1e-9;
+
+    @Test
+    public void empty_noPersons() {
+        FuzzySearchResult result = new FuzzySearchResult(new Person[0], new double[0]);
+        assertTrue(result.isEmpty());
+        assertEquals(0, result.size());
+        assertFalse(result.contains(ALICE));
+        assertEquals(0, result.getSimilarity(ALICE), DELTA);
+    }
+
+    @Test
+    public void getSimilarity_foundPersons_similarityOfEach() {
+        FuzzySearchResult result = new FuzzySearchResult(new Person[] {ALICE, BENSON}, new double[] {0.5, 1.0});
+        assertEquals(2, result.size());
+        assertEquals(List.of(ALICE, BENSON), result.getPersons());
+        assertEquals(0.5, result.getSimilarity(ALICE), DELTA);
+        assertEquals(1.0, result.getSimilarity(BENSON), DELTA);
+        assertEquals(0, result.getSimilarity(CARL), DELTA);
+    }
+
+    @Test
+    public void contains_equalPerson_comparedByReference() {
+        FuzzySearchResult result = new FuzzySearchResult(new Person[] {ALICE}, new double[] {1.0});
+        assertTrue(result.contains(ALICE));
+        assertFalse(result.contains(new PersonBuilder(ALICE).build()));
+        assertThrows(NullPointerException.class, () -> result.contains(null));
+    }
+
+    @Test
+    public void contains_manyPersons_findsEach() {
+        Person[] persons = IntStream.range(0, 1000)
+                .mapToObj(i -> new PersonBuilder().withPhone(String.valueOf(10000000 + i)).build())
+                .toArray(Person[]::new);
+        double[] similarities = IntStream.range(0, 1000).mapToDouble(i -> (i + 1) / 1000.0).toArray();
+        FuzzySearchResult result = new FuzzySearchResult(persons, similarities);
+        for (int i = 0; i < persons.length; i++) {
+            assertEquals(similarities[i], result.getSimilarity(persons[i]), DELTA);
+        }
+        assertFalse(result.contains(ALICE));
+    }
+
+    @Test
+    public void getPersons_modify_throwsUnsupportedOperationException() {
+        FuzzySearchResult result = new FuzzySearchResult(new Person[] {ALICE}, new double[] {1.0});
+        assertThrows(UnsupportedOperationException.class, () -> result.getPersons().set(0, BENSON));
+    }
+}
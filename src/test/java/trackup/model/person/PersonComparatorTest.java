@@ -0,0 +1,85 @@
+package trackup.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BENSON;
+import static trackup.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonComparatorTest {
+
+    private static final Comparator<Person> TAG_THEN_NAME_DESCENDING = Comparator
+            .comparing((Person p) -> p.getTags().toString())
+            .thenComparing(Comparator.comparing(Person::getName).reversed());
+
+    @Test
+    public void compare_chainedComparator_sameOrderAsJdkComparator() {
+        Comparator<Person> comparator = Comparators.TAG_COMPARATOR
+                .thenComparing(Comparators.NAME_COMPARATOR.reversed());
+        assertTrue(comparator instanceof PersonComparator);
+
+        List<Person> expected = new ArrayList<>(getTypicalPersons());
+        expected.sort(TAG_THEN_NAME_DESCENDING);
+        List<Person> actual = new ArrayList<>(getTypicalPersons());
+        actual.sort(comparator);
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    public void compareKeys_extractedKeys_sameResultAsCompare() {
+        PersonComparator comparator = (PersonComparator) Comparators.CATEGORY_COMPARATOR
+                .thenComparing(Comparators.EMAIL_COMPARATOR.reversed());
+        for (Person person : getTypicalPersons()) {
+            for (Person otherPerson : getTypicalPersons()) {
+                assertEquals(Integer.signum(comparator.compare(person, otherPerson)),
+                        Integer.signum(comparator.compareKeys(
+                                comparator.extractKeys(person), comparator.extractKeys(otherPerson))));
+            }
+        }
+    }
+
+    @Test
+    public void reversed_reversesEveryKey() {
+        Comparator<Person> comparator = Comparators.NAME_COMPARATOR.thenComparing(Comparators.PHONE_COMPARATOR);
+        assertTrue(comparator.compare(ALICE, BENSON) < 0);
+        assertTrue(comparator.reversed().compare(ALICE, BENSON) > 0);
+        assertEquals(comparator, comparator.reversed().reversed());
+    }
+
+    @Test
+    public void thenComparing_otherComparator_fallsBackToJdkChaining() {
+        Comparator<Person> comparator = Comparators.TAG_COMPARATOR.thenComparing(Comparator.comparing(Person::getName));
+        assertFalse(comparator instanceof PersonComparator);
+        assertTrue(comparator.compare(ALICE, BENSON) < 0);
+    }
+
+    @Test
+    public void equals() {
+        Comparator<Person> comparator = Comparators.NAME_COMPARATOR.thenComparing(Comparators.EMAIL_COMPARATOR);
+
+        // same values -> returns true
+        assertEquals(comparator, Comparators.NAME_COMPARATOR.thenComparing(Comparators.EMAIL_COMPARATOR));
+        assertEquals(comparator.hashCode(),
+                Comparators.NAME_COMPARATOR.thenComparing(Comparators.EMAIL_COMPARATOR).hashCode());
+
+        // same object -> returns true
+        assertEquals(comparator, comparator);
+
+        // null -> returns false
+        assertNotEquals(null, comparator);
+
+        // different order of keys -> returns false
+        assertNotEquals(comparator, Comparators.EMAIL_COMPARATOR.thenComparing(Comparators.NAME_COMPARATOR));
+
+        // different direction -> returns false
+        assertNotEquals(comparator, Comparators.NAME_COMPARATOR.thenComparing(Comparators.EMAIL_COMPARATOR.reversed()));
+    }
+}
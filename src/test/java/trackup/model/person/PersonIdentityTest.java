@@ -0,0 +1,80 @@
+package trackup.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static trackup.logic.commands.CommandTestUtil.VALID_EMAIL_BOB;
+import static trackup.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static trackup.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
+import static trackup.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BOB;
+
+import org.junit.jupiter.api.Test;
+
+import trackup.testutil.PersonBuilder;
+
+public class PersonIdentityTest {
+
+    @Test
+    public void constructor_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new PersonIdentity(null, ALICE.getPhone(), ALICE.getEmail()));
+    }
+
+    @Test
+    public void of_samePerson_returnsSameIdentity() {
+        assertSame(PersonIdentity.of(ALICE), PersonIdentity.of(ALICE));
+    }
+
+    @Test
+    public void equals() {
+        PersonIdentity aliceIdentity = PersonIdentity.of(ALICE);
+
+        // same values -> returns true
+        assertTrue(aliceIdentity.equals(new PersonIdentity(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail())));
+
+        // same object -> returns true
+        assertTrue(aliceIdentity.equals(aliceIdentity));
+
+        // null -> returns false
+        assertFalse(aliceIdentity.equals(null));
+
+        // different type -> returns false
+        assertFalse(aliceIdentity.equals(ALICE));
+
+        // different non-identity fields -> returns true
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).withTags(VALID_TAG_HUSBAND)
+                .build();
+        assertTrue(aliceIdentity.equals(PersonIdentity.of(editedAlice)));
+        assertEquals(aliceIdentity.hashCode(), PersonIdentity.of(editedAlice).hashCode());
+
+        // different name -> returns false
+        assertFalse(aliceIdentity.equals(PersonIdentity.of(new PersonBuilder(ALICE).withName(VALID_NAME_BOB).build())));
+
+        // different phone -> returns false
+        assertFalse(aliceIdentity.equals(PersonIdentity.of(new PersonBuilder(ALICE).withPhone(VALID_PHONE_BOB)
+                .build())));
+
+        // different email -> returns false
+        assertFalse(aliceIdentity.equals(PersonIdentity.of(new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB)
+                .build())));
+
+        // different person -> returns false
+        assertFalse(aliceIdentity.equals(PersonIdentity.of(BOB)));
+    }
+
+    @Test
+    public void equals_matchesIsSamePerson() {
+        Person editedBob = new PersonBuilder(BOB).withAddress(VALID_ADDRESS_BOB).build();
+        assertEquals(BOB.isSamePerson(editedBob), PersonIdentity.of(BOB).equals(PersonIdentity.of(editedBob)));
+        assertEquals(ALICE.isSamePerson(BOB), PersonIdentity.of(ALICE).equals(PersonIdentity.of(BOB)));
+
+        Person upperCaseAlice = new PersonBuilder(ALICE).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertTrue(ALICE.isSamePerson(upperCaseAlice));
+        assertEquals(PersonIdentity.of(ALICE), PersonIdentity.of(upperCaseAlice));
+        assertEquals(PersonIdentity.of(ALICE).hashCode(), PersonIdentity.of(upperCaseAlice).hashCode());
+    }
+}
@@ -0,0 +1,106 @@
+package trackup.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BENSON;
+import static trackup.testutil.TypicalPersons.BOB;
+import static trackup.testutil.TypicalPersons.getTypicalPersons;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import trackup.model.tag.Tag;
+import trackup.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private static final List<String> KEYWORDS = List.of("", "a", "E", "al", "4", "53", "ali", "ALICE PAULINE",
+            "Meier", "example.com", "ave", "#08-111", "friends", "[friends]", "] [", "[owesmoney] [friends]",
+            "client", "[investor]", "94351253", "street", "zzz", "x", "alice@example.comm");
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @BeforeEach
+    public void setUp() {
+        index.setPersons(getTypicalPersons());
+    }
+
+    @Test
+    public void search_nullKeyword_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.search(null));
+    }
+
+    @Test
+    public void search_keywords_matchesSubstringScan() {
+        for (String keyword : KEYWORDS) {
+            assertEquals(scan(getTypicalPersons(), keyword), index.search(keyword), keyword);
+        }
+    }
+
+    @Test
+    public void search_afterAddAndRemove_matchesSubstringScan() {
+        index.add(BOB);
+        index.remove(BENSON);
+        List<Person> persons = getTypicalPersons();
+        persons.add(BOB);
+        persons.remove(BENSON);
+
+        for (String keyword : KEYWORDS) {
+            assertEquals(scan(persons, keyword), index.search(keyword), keyword);
+        }
+    }
+
+    @Test
+    public void remove_personWithSameIdentity_removesIndexedPerson() {
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        index.remove(editedAlice);
+        assertFalse(index.search("alice").contains(ALICE));
+        assertTrue(index.search("jurong").isEmpty());
+    }
+
+    @Test
+    public void search_equalButDistinctPerson_comparesByReference() {
+        Person aliceCopy = new PersonBuilder(ALICE).build();
+        assertTrue(index.search("alice").contains(ALICE));
+        assertFalse(index.search("alice").contains(aliceCopy));
+    }
+
+    @Test
+    public void setPersons_largeList_matchesSubstringScan() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < PersonSearchIndex.PARALLEL_INDEX_THRESHOLD; i++) {
+            persons.add(new PersonBuilder(i % 2 == 0 ? ALICE : BENSON).withName("Person " + i)
+                    .withPhone(String.valueOf(10_000_000 + i)).build());
+        }
+        index.setPersons(persons);
+
+        for (String keyword : List.of("", "son 81", "10008", "jurong", "[owesmoney]", "zzz")) {
+            assertEquals(scan(persons, keyword), index.search(keyword), keyword);
+        }
+    }
+
+    /**
+     * Returns the persons in {@code persons} matched by a full scan, the way searches were answered before indexing.
+     */
+    private static Set<Person> scan(List<Person> persons, String keyword) {
+        String lowerKeyword = keyword.toLowerCase();
+        return persons.stream().filter(person -> person.getName().fullName.toLowerCase().contains(lowerKeyword)
+                || person.getPhone().value.contains(lowerKeyword)
+                || person.getEmail().value.toLowerCase().contains(lowerKeyword)
+                || person.getAddress().value.toLowerCase().contains(lowerKeyword)
+                || person.getTags().stream().map(Tag::toString).collect(Collectors.joining(" "))
+                        .toLowerCase().contains(lowerKeyword)
+                || (person.getCategory().isPresent() && person.getCategory().get().toString().toLowerCase()
+                        .contains(lowerKeyword)))
+                .collect(Collectors.toSet());
+    }
+}
@@ -2,6 +2,7 @@ package trackup.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static trackup.logic.commands.CommandTestUtil.VALID_CATEGORY_INVESTOR;
@@ -13,12 +14,74 @@ import static trackup.testutil.Assert.assertThrows;
 import static trackup.testutil.TypicalPersons.ALICE;
 import static trackup.testutil.TypicalPersons.BOB;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import trackup.commons.core.index.Index;
+import trackup.model.note.Note;
 import trackup.testutil.PersonBuilder;
 
 public class PersonTest {
 
+    @Test
+    public void getNotes_notesChanged_returnsCopyOfLatestNotes() {
+        Person person = new PersonBuilder().build();
+        List<Note> before = person.getNotes();
+        person.addNote(new Note("Follow up"));
+
+        assertTrue(before.isEmpty());
+        assertEquals(List.of(new Note("Follow up")), person.getNotes());
+        assertThrows(UnsupportedOperationException.class, () -> person.getNotes().add(new Note("Other")));
+    }
+
+    @Test
+    public void getNotes_noNotes_sharedByPersons() {
+        assertSame(new PersonBuilder().build().getNotes(), new PersonBuilder(BOB).withNotes().build().getNotes());
+    }
+
+    @Test
+    public void getObservableNotes_notesChanged_reflectsChanges() {
+        Person person = new PersonBuilder().withNotes("Note 1").build();
+        ObservableList<Note> observableNotes = person.getObservableNotes();
+        List<List<Note>> changes = new ArrayList<>();
+        observableNotes.addListener((ListChangeListener<Note>) change -> changes.add(List.copyOf(observableNotes)));
+
+        Note note1 = new Note("Note 1");
+        Note note2 = new Note("Note 2");
+        person.addNote(note2);
+        person.removeNote(Index.fromOneBased(1));
+        person.setNotes(List.of());
+        assertEquals(List.of(List.of(note1, note2), List.of(note2), List.of()), changes);
+        assertSame(observableNotes, person.getObservableNotes());
+        assertThrows(UnsupportedOperationException.class, () -> observableNotes.add(new Note("Other")));
+    }
+
+    @Test
+    public void hashCode_notesChanged_unchanged() {
+        Person person = new PersonBuilder().build();
+        Person copy = new PersonBuilder().build();
+        int hashCode = person.hashCode();
+
+        person.addNote(new Note("Follow up"));
+        assertEquals(hashCode, person.hashCode());
+        assertFalse(person.equals(copy));
+
+        copy.addNote(new Note("Follow up"));
+        assertEquals(person, copy);
+        assertEquals(person.hashCode(), copy.hashCode());
+    }
+
+    @Test
+    public void addNote_maxNotes_returnsFalse() {
+        Person person = new PersonBuilder().withNotes("1", "2", "3", "4", "5").build();
+        assertFalse(person.addNote(new Note("6")));
+        assertEquals(Person.MAX_NOTES, person.getNotes().size());
+    }
+
     @Test
     public void asObservableList_modifyList_throwsUnsupportedOperationException() {
         Person person = new PersonBuilder().build();
@@ -128,6 +191,11 @@ public class PersonTest {
         editedAlice = new PersonBuilder(ALICE).withEmail(VALID_EMAIL_BOB).build();
         assertFalse(ALICE.equals(editedAlice));
 
+        // email differing only in case -> returns true, with equal hash codes
+        editedAlice = new PersonBuilder(ALICE).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertTrue(ALICE.equals(editedAlice));
+        assertEquals(ALICE.hashCode(), editedAlice.hashCode());
+
         // different address -> returns false
         editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
         assertFalse(ALICE.equals(editedAlice));
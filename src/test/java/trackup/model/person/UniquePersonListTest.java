@@ -8,6 +8,7 @@ import static trackup.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static trackup.testutil.Assert.assertThrows;
 import static trackup.testutil.TypicalPersons.ALICE;
 import static trackup.testutil.TypicalPersons.BOB;
+import static trackup.testutil.TypicalPersons.CARL;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -47,6 +48,13 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -58,6 +66,25 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void add_emailDiffersOnlyInCase_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new PersonBuilder(ALICE).withEmail(ALICE.getEmail().value.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(upperCaseAlice));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(
+                Arrays.asList(ALICE, upperCaseAlice)));
+    }
+
+    @Test
+    public void addAtIndex_validIndex_insertsPerson() {
+        uniquePersonList.add(BOB);
+        uniquePersonList.add(0, ALICE);
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(1, ALICE));
+        assertThrows(IndexOutOfBoundsException.class, () -> uniquePersonList.add(3, new PersonBuilder().build()));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -102,6 +129,18 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPerson_editedPersonHasDifferentIdentity_replacesIdentity() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+
+        // the identity of the replaced person is free to be added again
+        uniquePersonList.add(ALICE);
+        assertTrue(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void setPerson_editedPersonHasNonUniqueIdentity_throwsDuplicatePersonException() {
         uniquePersonList.add(ALICE);
@@ -127,6 +166,32 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void remove_existingPerson_shiftsPositionsOfLaterPersons() {
+        uniquePersonList.setPersons(Arrays.asList(ALICE, BOB, CARL));
+        uniquePersonList.remove(ALICE);
+        assertEquals(-1, uniquePersonList.indexOf(ALICE));
+        assertEquals(0, uniquePersonList.indexOf(BOB));
+        assertEquals(1, uniquePersonList.indexOf(CARL));
+    }
+
+    @Test
+    public void indexOf_insertedPerson_returnsPositions() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.add(CARL);
+        uniquePersonList.add(1, BOB);
+        assertEquals(0, uniquePersonList.indexOf(ALICE));
+        assertEquals(1, uniquePersonList.indexOf(BOB));
+        assertEquals(2, uniquePersonList.indexOf(CARL));
+    }
+
+    @Test
+    public void indexOf_samePersonWithDifferentFields_returnsMinusOne() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertEquals(-1, uniquePersonList.indexOf(editedAlice));
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPersons((UniquePersonList) null));
@@ -156,12 +221,30 @@ public class UniquePersonListTest {
         assertEquals(expectedUniquePersonList, uniquePersonList);
     }
 
+    @Test
+    public void setPersons_list_replacesIdentities() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPersons_listWithDuplicatePersons_throwsDuplicatePersonException() {
         List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, ALICE);
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void setPersons_listWithSameIdentityPersons_throwsDuplicatePersonExceptionAndKeepsList() {
+        uniquePersonList.add(BOB);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        List<Person> listWithDuplicatePersons = Arrays.asList(ALICE, editedAlice);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
+        assertTrue(uniquePersonList.contains(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -1,7 +1,11 @@
 package trackup.model.tag;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
@@ -9,27 +13,39 @@ import org.junit.jupiter.api.Test;
 public class TagTest {
 
     @Test
-    public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Tag(null));
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
     }
 
     @Test
-    public void constructor_invalidTagName_throwsIllegalArgumentException() {
+    public void of_invalidTagName_throwsIllegalArgumentException() {
         String invalidTagName = "";
-        assertThrows(IllegalArgumentException.class, () -> new Tag(invalidTagName));
+        assertThrows(IllegalArgumentException.class, () -> Tag.of(invalidTagName));
+    }
+
+    @Test
+    public void of_sameName_returnsSameInstance() {
+        assertSame(Tag.of("abc"), Tag.of("abc"));
+        assertNotSame(Tag.of("abc"), Tag.of("def"));
     }
 
     @Test
     public void isValidTagName() {
         // null tag name
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
+
+        // names of tags in use are checked like any other
+        Tag tag = Tag.of("friends");
+        assertTrue(Tag.isValidTagName(tag.tagName));
+        assertFalse(Tag.isValidTagName(""));
+        assertFalse(Tag.isValidTagName("best friends"));
     }
 
     @Test
     public void equals() {
-        Tag newTag1 = new Tag("abc");
-        Tag newTag2 = new Tag("abc");
-        Tag newTag3 = new Tag("def");
+        Tag newTag1 = Tag.of("abc");
+        Tag newTag2 = Tag.of("abc");
+        Tag newTag3 = Tag.of("def");
 
         // same object -> returns true
         assertEquals(newTag1, newTag1);
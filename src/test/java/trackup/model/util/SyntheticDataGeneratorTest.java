@@ -0,0 +1,79 @@
+package trackup.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackup.GenerateData;
+import trackup.model.AddressBook;
+import trackup.model.event.Event;
+import trackup.model.person.Person;
+import trackup.storage.JsonAddressBookStorage;
+
+public class SyntheticDataGeneratorTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void generateAddressBook_sameSeed_sameData() {
+        AddressBook first = new SyntheticDataGenerator(7).generateAddressBook(200, 100);
+        AddressBook second = new SyntheticDataGenerator(7).generateAddressBook(200, 100);
+        assertEquals(first, second);
+        assertNotEquals(first, new SyntheticDataGenerator(8).generateAddressBook(200, 100));
+    }
+
+    @Test
+    public void generateAddressBook_counts_success() {
+        AddressBook addressBook = new SyntheticDataGenerator(7).generateAddressBook(500, 300);
+        assertEquals(500, addressBook.getPersonList().size());
+        assertEquals(300, addressBook.getEventList().size());
+    }
+
+    @Test
+    public void generateEvents_contactsFromPersons_success() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(7);
+        List<Person> persons = generator.generatePersons(100);
+        Set<Person> personSet = Collections.newSetFromMap(new IdentityHashMap<>());
+        personSet.addAll(persons);
+
+        boolean hasContacts = false;
+        for (Event event : generator.generateEvents(200, persons)) {
+            assertTrue(event.getContacts().stream().allMatch(personSet::contains));
+            hasContacts |= !event.getContacts().isEmpty();
+        }
+        assertTrue(hasContacts);
+    }
+
+    @Test
+    public void generatePersons_notesAndTags_withinLimits() {
+        List<Person> persons = new SyntheticDataGenerator(7).generatePersons(500);
+        assertTrue(persons.stream().allMatch(person -> person.getNotes().size() <= Person.MAX_NOTES));
+        assertTrue(persons.stream().anyMatch(person -> !person.getNotes().isEmpty()));
+        assertTrue(persons.stream().anyMatch(person -> !person.getTags().isEmpty()));
+        assertTrue(persons.stream().anyMatch(person -> person.getCategory().isPresent()));
+    }
+
+    @Test
+    public void generatePersons_negativeCount_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator(7).generatePersons(-1));
+    }
+
+    @Test
+    public void generate_writesReadableFile() throws Exception {
+        Path filePath = testFolder.resolve("generated.json");
+        GenerateData.generate(50, 20, filePath, 7);
+        AddressBook readBack = new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(new SyntheticDataGenerator(7).generateAddressBook(50, 20), readBack);
+    }
+}
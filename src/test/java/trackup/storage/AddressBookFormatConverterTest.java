@@ -0,0 +1,65 @@
+package trackup.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackup.commons.core.DataFormat;
+import trackup.commons.exceptions.DataLoadingException;
+import trackup.model.AddressBook;
+import trackup.testutil.TypicalEvents;
+
+public class AddressBookFormatConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void createStorage_eachFormat_returnsStorageForFormat() {
+        Path filePath = testFolder.resolve("AddressBook");
+        assertTrue(AddressBookFormatConverter.createStorage(DataFormat.JSON, filePath)
+                instanceof JsonAddressBookStorage);
+        assertTrue(AddressBookFormatConverter.createStorage(DataFormat.BINARY, filePath)
+                instanceof BinaryAddressBookStorage);
+        assertEquals(filePath, AddressBookFormatConverter.createStorage(DataFormat.BINARY, filePath)
+                .getAddressBookFilePath());
+    }
+
+    @Test
+    public void convert_jsonToBinaryAndBack_sameJsonFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("AddressBook.json");
+        Path binaryFilePath = testFolder.resolve("AddressBook.bin");
+        Path convertedFilePath = testFolder.resolve("Converted.json");
+        AddressBook original = TypicalEvents.getTypicalAddressBookWithEvents();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        AddressBookFormatConverter.convert(jsonFilePath, binaryFilePath, DataFormat.BINARY);
+        assertEquals(DataFormat.BINARY, AddressBookFormatConverter.detectFormat(binaryFilePath));
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(binaryFilePath).readAddressBook().get()));
+
+        AddressBookFormatConverter.convert(binaryFilePath, convertedFilePath, DataFormat.JSON);
+        assertEquals(DataFormat.JSON, AddressBookFormatConverter.detectFormat(convertedFilePath));
+        assertEquals(Files.readString(jsonFilePath), Files.readString(convertedFilePath));
+    }
+
+    @Test
+    public void convert_missingSource_throwsDataLoadingException() {
+        assertThrows(DataLoadingException.class, () -> AddressBookFormatConverter.convert(
+                testFolder.resolve("Missing.json"), testFolder.resolve("AddressBook.bin"), DataFormat.BINARY));
+    }
+
+    @Test
+    public void convert_nullArguments_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("AddressBook.json");
+        assertThrows(NullPointerException.class, () -> AddressBookFormatConverter.convert(null, filePath,
+                DataFormat.BINARY));
+        assertThrows(NullPointerException.class, () -> AddressBookFormatConverter.convert(filePath, filePath,
+                null));
+    }
+}
@@ -0,0 +1,162 @@
+package trackup.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.CARL;
+import static trackup.testutil.TypicalPersons.HOON;
+import static trackup.testutil.TypicalPersons.IDA;
+import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackup.commons.exceptions.DataLoadingException;
+import trackup.model.AddressBook;
+import trackup.model.ReadOnlyAddressBook;
+import trackup.model.event.Event;
+import trackup.model.person.Person;
+import trackup.testutil.EventBuilder;
+import trackup.testutil.TypicalEvents;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void readAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null).readAddressBook(null));
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        // Save in new file and read back
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+        for (int i = 0; i < original.getPersonList().size(); i++) {
+            assertEquals(original.getPersonList().get(i).getNotes(), readBack.getPersonList().get(i).getNotes());
+        }
+
+        // Modify data, overwrite exiting file, and read back
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        binaryAddressBookStorage.saveAddressBook(original, filePath);
+        readBack = binaryAddressBookStorage.readAddressBook(filePath).get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Save and read without specifying file path
+        original.addPerson(IDA);
+        binaryAddressBookStorage.saveAddressBook(original); // file path not specified
+        readBack = binaryAddressBookStorage.readAddressBook().get(); // file path not specified
+        assertEquals(original, new AddressBook(readBack));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_events_contactsResolvedToPersons() throws Exception {
+        Path filePath = testFolder.resolve("Events.bin");
+        AddressBook original = TypicalEvents.getTypicalAddressBookWithEvents();
+        Event eventWithOtherContact = new EventBuilder().withTitle("Site Visit")
+                .withStart(LocalDateTime.of(2025, 4, 4, 9, 30, 15, 123_000_000))
+                .withEnd(LocalDateTime.of(2025, 4, 4, 11, 0)).addContacts(ALICE, CARL).build();
+        original.addEvent(eventWithOtherContact);
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        binaryAddressBookStorage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        Person alice = readBack.getPersonList().get(0);
+        Event meeting = readBack.getEventList().get(0);
+        assertSame(alice, meeting.getContacts().iterator().next());
+        assertEquals(eventWithOtherContact.getStartDateTime(), readBack.getEventList().get(3).getStartDateTime());
+    }
+
+    @Test
+    public void saveAddressBook_typicalAddressBook_smallerThanJson() throws Exception {
+        Path binaryFilePath = testFolder.resolve("AddressBook.bin");
+        Path jsonFilePath = testFolder.resolve("AddressBook.json");
+        AddressBook original = TypicalEvents.getTypicalAddressBookWithEvents();
+        new BinaryAddressBookStorage(binaryFilePath).saveAddressBook(original);
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        assertTrue(Files.size(binaryFilePath) < Files.size(jsonFilePath));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_readAsJson() throws Exception {
+        Path filePath = testFolder.resolve("AddressBook.json");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(filePath).saveAddressBook(original);
+        assertFalse(BinaryAddressBookStorage.isBinaryFile(filePath));
+
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        assertEquals(original, new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+
+        binaryAddressBookStorage.saveAddressBook(original);
+        assertTrue(BinaryAddressBookStorage.isBinaryFile(filePath));
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("Truncated.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] data = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(data, data.length - 10));
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_fileTooLarge_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TooLarge.bin");
+        // Sparse on most file systems, so no disk space is used
+        try (RandomAccessFile file = new RandomAccessFile(filePath.toFile(), "rw")) {
+            file.setLength(BinaryAddressBookStorage.MAX_FILE_SIZE + 1);
+        }
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_newerVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("NewerVersion.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] data = Files.readAllBytes(filePath);
+        data[Integer.BYTES] = BinarySerializableAddressBook.CURRENT_VERSION + 1;
+        Files.write(filePath, data);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("SomeFile.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath)
+                .saveAddressBook(null, filePath));
+    }
+
+    @Test
+    public void saveAddressBook_nullFilePath_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(null)
+                .saveAddressBook(new AddressBook(), null));
+    }
+}
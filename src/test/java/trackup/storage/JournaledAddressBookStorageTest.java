@@ -0,0 +1,243 @@
+package trackup.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+import static trackup.testutil.TypicalEvents.LUNCH_EVENT;
+import static trackup.testutil.TypicalEvents.MEETING_EVENT;
+import static trackup.testutil.TypicalEvents.getTypicalAddressBookWithEvents;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BENSON;
+import static trackup.testutil.TypicalPersons.HOON;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackup.model.AddressBook;
+import trackup.model.ReadOnlyAddressBook;
+import trackup.model.event.Event;
+import trackup.model.note.Note;
+import trackup.model.person.Person;
+import trackup.testutil.EventBuilder;
+import trackup.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void saveAddressBook_firstSave_writesSnapshotAndEmptyJournal() throws Exception {
+        AddressBook original = getTypicalAddressBookWithEvents();
+        createStorage(10).saveAddressBook(original);
+
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(original, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_changes_appendsToJournalOnly() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        JournaledAddressBookStorage storage = createStorage(10);
+        storage.saveAddressBook(addressBook);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        // add and edit persons
+        Person amy = new PersonBuilder().build();
+        addressBook.addPerson(amy);
+        addressBook.addPerson(HOON);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress("Somewhere else").build();
+        addressBook.setPerson(ALICE, editedAlice);
+        addressBook.replaceContactInEvents(ALICE, editedAlice);
+        storage.saveAddressBook(addressBook);
+
+        // change notes in place and remove an event
+        List<Note> previousNotes = amy.getNotes();
+        amy.addNote(new Note("Call back"));
+        addressBook.markNotesChanged(amy, previousNotes);
+        addressBook.deleteEvent(LUNCH_EVENT);
+        storage.saveAddressBook(addressBook);
+
+        // no changes
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+
+        AddressBook readBack = readWithNewStorage();
+        assertEquals(addressBook, readBack);
+        Person readAlice = readBack.getPersonList().get(0);
+        Event readMeeting = readBack.getEventList().get(0);
+        assertTrue(readMeeting.getContacts().stream().anyMatch(contact -> contact == readAlice));
+    }
+
+    @Test
+    public void saveAddressBook_afterReplay_continuesJournal() throws Exception {
+        AddressBook addressBook = getTypicalAddressBookWithEvents();
+        JournaledAddressBookStorage previousStorage = createStorage(10);
+        previousStorage.saveAddressBook(addressBook);
+        addressBook.addPerson(HOON);
+        previousStorage.saveAddressBook(addressBook);
+
+        JournaledAddressBookStorage storage = createStorage(10);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        readBack.removePerson(HOON);
+        readBack.addEvent(new EventBuilder().withTitle("Review").addContacts(readBack.getPersonList().get(1))
+                .build());
+        storage.saveAddressBook(readBack);
+
+        assertEquals(3, Files.readAllLines(journalPath).size());
+        assertEquals(readBack, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_checkpointIntervalReached_writesSnapshot() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        JournaledAddressBookStorage storage = createStorage(2);
+        storage.saveAddressBook(addressBook);
+
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(3, Files.readAllLines(journalPath).size());
+
+        addressBook.addPerson(HOON);
+        storage.saveAddressBook(addressBook);
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_reorderedPersons_writesSnapshot() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(List.of(ALICE, BENSON));
+        JournaledAddressBookStorage storage = createStorage(10);
+        storage.saveAddressBook(addressBook);
+
+        List<Person> reversed = new ArrayList<>(addressBook.getPersonList());
+        Collections.reverse(reversed);
+        addressBook.setPersons(reversed);
+        storage.saveAddressBook(addressBook);
+
+        assertEquals(1, Files.readAllLines(journalPath).size());
+        assertEquals(addressBook, readWithNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_journalOfOlderSnapshot_ignoresJournal() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        JournaledAddressBookStorage storage = createStorage(10);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(BENSON);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, readWithNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_snapshotModifiedWithSameSize_ignoresJournal() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(ALICE);
+        JournaledAddressBookStorage storage = createStorage(10);
+        storage.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+        addressBook.addPerson(BENSON);
+        storage.saveAddressBook(addressBook);
+
+        FileTime modifiedTime = Files.getLastModifiedTime(filePath);
+        Files.setLastModifiedTime(filePath, FileTime.fromMillis(modifiedTime.toMillis() + 1000));
+
+        assertEquals(expected, readWithNewStorage());
+    }
+
+    @Test
+    public void saveAddressBook_checkpointFails_journalNotReplayed() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (!addressBook.getPersonList().isEmpty()) {
+                    throw new IOException("Snapshot not written");
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        }, 1);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        assertEquals(2, Files.readAllLines(journalPath).size());
+
+        addressBook.addPerson(BENSON);
+        assertThrows(IOException.class, () -> storage.saveAddressBook(addressBook));
+        assertFalse(Files.exists(journalPath));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastEntry_ignoresEntry() throws Exception {
+        AddressBook addressBook = new AddressBook();
+        JournaledAddressBookStorage storage = createStorage(10);
+        storage.saveAddressBook(addressBook);
+        addressBook.addPerson(ALICE);
+        storage.saveAddressBook(addressBook);
+        AddressBook expected = new AddressBook(addressBook);
+
+        addressBook.addEvent(new EventBuilder(MEETING_EVENT).withContacts(Set.of(ALICE)).build());
+        storage.saveAddressBook(addressBook);
+        List<String> lines = Files.readAllLines(journalPath);
+        String lastLine = lines.get(lines.size() - 1);
+        lines.set(lines.size() - 1, lastLine.substring(0, lastLine.length() / 2));
+        Files.write(journalPath, lines, StandardCharsets.UTF_8, StandardOpenOption.TRUNCATE_EXISTING);
+
+        assertEquals(expected, readWithNewStorage());
+    }
+
+    @Test
+    public void readAddressBook_missingSnapshot_returnsEmpty() throws Exception {
+        assertFalse(createStorage(10).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_writesSnapshotOnly() throws Exception {
+        Path otherPath = testFolder.resolve("other.json");
+        createStorage(10).saveAddressBook(getTypicalAddressBookWithEvents(), otherPath);
+        assertFalse(Files.exists(JournaledAddressBookStorage.getJournalFilePath(otherPath)));
+        assertEquals(getTypicalAddressBookWithEvents(), new JsonAddressBookStorage(otherPath).readAddressBook().get());
+    }
+
+    private JournaledAddressBookStorage createStorage(int checkpointInterval) {
+        return new JournaledAddressBookStorage(new JsonAddressBookStorage(filePath), checkpointInterval);
+    }
+
+    private AddressBook readWithNewStorage() throws Exception {
+        return new AddressBook(createStorage(10).readAddressBook().get());
+    }
+}
@@ -9,6 +9,7 @@ import static trackup.testutil.TypicalPersons.IDA;
 import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -16,11 +17,14 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
 
 import trackup.commons.exceptions.DataLoadingException;
+import trackup.commons.util.JsonUtil;
 import trackup.model.AddressBook;
 import trackup.model.ReadOnlyAddressBook;
 
 public class JsonAddressBookStorageTest {
     private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStorageTest");
+    private static final Path LEGACY_FORMAT_FILE = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest",
+            "typicalAddressBookWithEvents.json");
 
     @TempDir
     public Path testFolder;
@@ -86,6 +90,20 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void readAddressBook_legacyFormat_migratesFile() throws Exception {
+        Path filePath = testFolder.resolve("LegacyAddressBook.json");
+        Files.copy(LEGACY_FORMAT_FILE, filePath);
+        JsonAddressBookStorage jsonAddressBookStorage = new JsonAddressBookStorage(filePath);
+
+        ReadOnlyAddressBook readBack = jsonAddressBookStorage.readAddressBook().get();
+        JsonSerializableAddressBook migrated = JsonUtil.readJsonFile(filePath, JsonSerializableAddressBook.class)
+                .get();
+        assertFalse(migrated.isLegacyFormat());
+        assertEquals(new AddressBook(readBack), migrated.toModelType());
+        assertEquals(new AddressBook(readBack), new AddressBook(jsonAddressBookStorage.readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
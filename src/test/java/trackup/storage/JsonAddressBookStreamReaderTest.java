@@ -0,0 +1,114 @@
+package trackup.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import trackup.commons.exceptions.IllegalValueException;
+import trackup.commons.util.JsonUtil;
+import trackup.model.AddressBook;
+import trackup.model.person.Person;
+import trackup.testutil.TypicalEvents;
+import trackup.testutil.TypicalPersons;
+
+public class JsonAddressBookStreamReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path LEGACY_DATA_FILE = TEST_DATA_FOLDER.resolve("typicalAddressBookWithEvents.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+    private static final Path DUPLICATE_EVENT_FILE = TEST_DATA_FOLDER.resolve("duplicateEventAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        assertEquals(TypicalPersons.getTypicalAddressBook(), new JsonAddressBookStreamReader(TYPICAL_PERSONS_FILE)
+                .read());
+    }
+
+    @Test
+    public void read_legacyDataFile_success() throws Exception {
+        JsonAddressBookStreamReader reader = new JsonAddressBookStreamReader(LEGACY_DATA_FILE);
+        AddressBook expected = new AddressBook();
+        TypicalPersons.getTypicalPersons().forEach(expected::addPerson);
+        TypicalEvents.getTypicalEvents().forEach(expected::addEvent);
+
+        assertEquals(expected, reader.read());
+        assertTrue(reader.isLegacyFormat());
+    }
+
+    @Test
+    public void read_currentFormat_resolvesContactRefs() throws Exception {
+        Path filePath = testFolder.resolve("current.json");
+        AddressBook original = TypicalEvents.getTypicalAddressBookWithEvents();
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(original), filePath);
+
+        JsonAddressBookStreamReader reader = new JsonAddressBookStreamReader(filePath);
+        AddressBook readBack = reader.read();
+        assertEquals(original, readBack);
+        assertFalse(reader.isLegacyFormat());
+
+        Person firstContact = readBack.getEventList().get(0).getContacts().iterator().next();
+        assertSame(readBack.getPersonList().get(readBack.getPersonList().indexOf(firstContact)), firstContact);
+    }
+
+    @Test
+    public void read_eventsBeforePersonsAndUnknownFields_success() throws Exception {
+        Path filePath = testFolder.resolve("reordered.json");
+        Files.writeString(filePath, "{ \"comment\" : { \"nested\" : [ 1, 2 ] }, \"events\" : [ { \"title\" : "
+                + "\"Lunch\", \"startDateTime\" : \"2025-04-01T12:00\", \"endDateTime\" : \"2025-04-01T13:00\", "
+                + "\"contactRefs\" : [ 0 ] } ], \"persons\" : [ { \"name\" : \"Amy Bee\", \"phone\" : \"85355255\", "
+                + "\"email\" : \"amy@gmail.com\", \"address\" : \"123, Jurong West Ave 6, #08-111\" } ], "
+                + "\"version\" : 2 }");
+
+        JsonAddressBookStreamReader reader = new JsonAddressBookStreamReader(filePath);
+        AddressBook readBack = reader.read();
+        assertEquals(1, readBack.getPersonList().size());
+        assertSame(readBack.getPersonList().get(0), readBack.getEventList().get(0).getContacts().iterator().next());
+        assertFalse(reader.isLegacyFormat());
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> new JsonAddressBookStreamReader(INVALID_PERSON_FILE).read());
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonAddressBookStreamReader(DUPLICATE_PERSON_FILE).read());
+    }
+
+    @Test
+    public void read_duplicateEvents_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT, () ->
+                new JsonAddressBookStreamReader(DUPLICATE_EVENT_FILE).read());
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("array.json");
+        Files.writeString(filePath, "[ ]");
+        assertThrows(IOException.class, () -> new JsonAddressBookStreamReader(filePath).read());
+    }
+
+    @Test
+    public void read_truncatedFile_throwsIoException() throws Exception {
+        Path filePath = testFolder.resolve("truncated.json");
+        Files.writeString(filePath, "{ \"persons\" : [ { \"name\" : \"Amy Bee\" ");
+        assertThrows(IOException.class, () -> new JsonAddressBookStreamReader(filePath).read());
+    }
+}
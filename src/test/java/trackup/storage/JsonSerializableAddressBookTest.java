@@ -1,16 +1,22 @@
 package trackup.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static trackup.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
 import trackup.commons.exceptions.IllegalValueException;
 import trackup.commons.util.JsonUtil;
 import trackup.model.AddressBook;
+import trackup.model.event.Event;
+import trackup.model.person.Person;
 import trackup.testutil.TypicalEvents;
 import trackup.testutil.TypicalPersons;
 
@@ -68,4 +74,47 @@ public class JsonSerializableAddressBookTest {
         assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT,
                 dataFromFile::toModelType);
     }
+
+    @Test
+    public void isLegacyFormat_fileWithoutVersion_returnsTrue() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(TYPICAL_DATA_FILE,
+                JsonSerializableAddressBook.class).get();
+        assertTrue(dataFromFile.isLegacyFormat());
+    }
+
+    @Test
+    public void toModelType_currentFormat_resolvesContactsToPersons() throws Exception {
+        AddressBook original = TypicalEvents.getTypicalAddressBookWithEvents();
+        JsonSerializableAddressBook serialized = JsonUtil.fromJsonString(JsonUtil.toJsonString(
+                new JsonSerializableAddressBook(original)), JsonSerializableAddressBook.class);
+        assertFalse(serialized.isLegacyFormat());
+
+        AddressBook addressBookFromJson = serialized.toModelType();
+        assertEquals(original, addressBookFromJson);
+
+        Person alice = addressBookFromJson.getPersonList().get(0);
+        Event meeting = addressBookFromJson.getEventList().get(0);
+        assertSame(alice, meeting.getContacts().iterator().next());
+    }
+
+    @Test
+    public void toModelType_contactNotInPersons_embedsContact() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addEvent(TypicalEvents.MEETING_EVENT);
+        AddressBook addressBookFromJson = JsonUtil.fromJsonString(JsonUtil.toJsonString(
+                new JsonSerializableAddressBook(original)), JsonSerializableAddressBook.class).toModelType();
+        assertEquals(original, addressBookFromJson);
+    }
+
+    @Test
+    public void toModelType_invalidContactRef_throwsIllegalValueException() {
+        JsonAdaptedEvent event = new JsonAdaptedEvent(TypicalEvents.MEETING_EVENT.getTitle(),
+                TypicalEvents.MEETING_EVENT.getStartDateTime().toString(),
+                TypicalEvents.MEETING_EVENT.getEndDateTime().toString(), List.of(1), List.of());
+        JsonSerializableAddressBook dataFromJson = new JsonSerializableAddressBook(
+                JsonSerializableAddressBook.CURRENT_VERSION, List.of(new JsonAdaptedPerson(TypicalPersons.ALICE)),
+                List.of(event));
+        assertThrows(IllegalValueException.class,
+                String.format(JsonAdaptedEvent.INVALID_CONTACT_REF_MESSAGE_FORMAT, 1), dataFromJson::toModelType);
+    }
 }
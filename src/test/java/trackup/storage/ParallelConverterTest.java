@@ -0,0 +1,89 @@
+package trackup.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import trackup.commons.exceptions.IllegalValueException;
+
+public class ParallelConverterTest {
+
+    private static final String DUPLICATE_MESSAGE = "Duplicate";
+    private static final int SOURCE_COUNT = 3 * ParallelConverter.CHUNK_SIZE + 7;
+
+    @Test
+    public void convertAll_manyChunks_keepsSourceOrder() throws Exception {
+        List<Integer> sources = new ArrayList<>();
+        List<String> expected = new ArrayList<>();
+        for (int i = 0; i < SOURCE_COUNT; i++) {
+            sources.add(i);
+            expected.add("#" + i);
+        }
+
+        assertEquals(expected, ParallelConverter.convertAll(sources, source -> "#" + source, Function.identity(),
+                DUPLICATE_MESSAGE));
+    }
+
+    @Test
+    public void convertAll_noSources_returnsEmptyList() throws Exception {
+        assertEquals(List.of(), ParallelConverter.convertAll(List.<Integer>of(), String::valueOf,
+                Function.identity(), DUPLICATE_MESSAGE));
+    }
+
+    @Test
+    public void convertAll_invalidSources_throwsErrorOfFirstInvalidSource() {
+        List<Integer> sources = new ArrayList<>();
+        for (int i = 0; i < SOURCE_COUNT; i++) {
+            sources.add(i);
+        }
+
+        assertThrows(IllegalValueException.class, "Invalid 1030", () -> ParallelConverter.convertAll(sources,
+                source -> {
+                    if (source == 1030 || source == SOURCE_COUNT - 1) {
+                        throw new IllegalValueException("Invalid " + source);
+                    }
+                    return source;
+                }, Function.identity(), DUPLICATE_MESSAGE));
+    }
+
+    @Test
+    public void convertAll_duplicatesInDifferentChunks_throwsIllegalValueException() {
+        List<Integer> sources = new ArrayList<>();
+        for (int i = 0; i < SOURCE_COUNT; i++) {
+            sources.add(i);
+        }
+        sources.add(ParallelConverter.CHUNK_SIZE / 2);
+
+        assertThrows(IllegalValueException.class, DUPLICATE_MESSAGE, () -> ParallelConverter.convertAll(sources,
+                source -> source, Function.identity(), DUPLICATE_MESSAGE));
+    }
+
+    @Test
+    public void join_conversionThrowsUnchecked_throwsIllegalValueExceptionWithCause() {
+        ParallelConverter<String, Integer> converter = new ParallelConverter<>(Integer::valueOf,
+                Function.identity(), DUPLICATE_MESSAGE);
+        converter.submit("1");
+        converter.submit("not a number");
+
+        IllegalValueException thrown = Assertions.assertThrows(IllegalValueException.class, converter::join);
+        assertTrue(thrown.getCause() instanceof NumberFormatException);
+    }
+
+    @Test
+    public void join_submittedSources_returnsConvertedInSubmittedOrder() throws Exception {
+        ParallelConverter<String, Integer> converter = new ParallelConverter<>(Integer::valueOf,
+                Function.identity(), DUPLICATE_MESSAGE);
+        converter.submit("3");
+        converter.submit("1");
+        converter.submit("2");
+
+        assertEquals(List.of(3, 1, 2), converter.join());
+    }
+}
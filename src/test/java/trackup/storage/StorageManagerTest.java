@@ -2,9 +2,17 @@ package trackup.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static trackup.testutil.TypicalPersons.ALICE;
+import static trackup.testutil.TypicalPersons.BENSON;
 import static trackup.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -61,6 +69,99 @@ public class StorageManagerTest {
         assertEquals(original, new AddressBook(retrieved));
     }
 
+    @Test
+    public void saveAddressBook_writeBehind_writesSnapshotInBackground() throws Exception {
+        StorageManager writeBehindStorage = new StorageManager(new JsonAddressBookStorage(getTempFilePath("ab")),
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        AddressBook original = getTypicalAddressBook();
+        AddressBook expected = new AddressBook(original);
+        writeBehindStorage.saveAddressBook(original);
+        original.removePerson(ALICE);
+
+        writeBehindStorage.flushAddressBook();
+        assertEquals(expected, new AddressBook(writeBehindStorage.readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_writeBehindWhileWriting_coalescesSaves() throws Exception {
+        CountDownLatch writeStarted = new CountDownLatch(1);
+        CountDownLatch writeAllowed = new CountDownLatch(1);
+        List<ReadOnlyAddressBook> written = new ArrayList<>();
+        JsonAddressBookStorage blockingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                writeStarted.countDown();
+                try {
+                    writeAllowed.await();
+                } catch (InterruptedException e) {
+                    throw new AssertionError(e);
+                }
+                written.add(addressBook);
+            }
+        };
+        StorageManager writeBehindStorage = new StorageManager(blockingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+
+        AddressBook addressBook = new AddressBook();
+        writeBehindStorage.saveAddressBook(addressBook);
+        writeStarted.await();
+        addressBook.addPerson(ALICE);
+        writeBehindStorage.saveAddressBook(addressBook);
+        addressBook.addPerson(BENSON);
+        writeBehindStorage.saveAddressBook(addressBook);
+        writeAllowed.countDown();
+
+        writeBehindStorage.flushAddressBook();
+        assertEquals(2, written.size());
+        assertEquals(addressBook.getPersonList(), written.get(1).getPersonList());
+    }
+
+    @Test
+    public void saveAddressBook_writeBehindFails_reportsError() throws Exception {
+        IOException error = new IOException("Disk full");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw error;
+            }
+        };
+        StorageManager writeBehindStorage = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        List<Exception> reported = new ArrayList<>();
+        writeBehindStorage.setAddressBookSaveErrorHandler(reported::add);
+
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        writeBehindStorage.flushAddressBook();
+        assertEquals(1, reported.size());
+        assertSame(error, reported.get(0));
+    }
+
+    @Test
+    public void saveAddressBook_writeBehindThrowsUnchecked_reportsError() throws Exception {
+        RuntimeException error = new IllegalStateException("Cannot serialize");
+        JsonAddressBookStorage failingStorage = new JsonAddressBookStorage(getTempFilePath("ab")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                throw error;
+            }
+        };
+        StorageManager writeBehindStorage = new StorageManager(failingStorage,
+                new JsonUserPrefsStorage(getTempFilePath("prefs")), true);
+        List<Exception> reported = new ArrayList<>();
+        writeBehindStorage.setAddressBookSaveErrorHandler(reported::add);
+
+        writeBehindStorage.saveAddressBook(getTypicalAddressBook());
+        writeBehindStorage.flushAddressBook();
+        assertEquals(1, reported.size());
+        assertSame(error, reported.get(0));
+    }
+
+    @Test
+    public void flushAddressBook_synchronous_returnsImmediately() throws Exception {
+        storageManager.flushAddressBook();
+        assertTrue(storageManager.readAddressBook().isEmpty());
+    }
+
     @Test
     public void getAddressBookFilePath() {
         assertNotNull(storageManager.getAddressBookFilePath());
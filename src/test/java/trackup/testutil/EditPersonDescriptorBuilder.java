@@ -82,7 +82,7 @@ public class EditPersonDescriptorBuilder {
      * that we are building.
      */
     public EditPersonDescriptorBuilder withTags(String... tags) {
-        Set<Tag> tagSet = Stream.of(tags).map(Tag::new).collect(Collectors.toSet());
+        Set<Tag> tagSet = Stream.of(tags).map(Tag::of).collect(Collectors.toSet());
         descriptor.setTags(tagSet);
         return this;
     }
@@ -91,7 +91,7 @@ public class EditPersonDescriptorBuilder {
      * Sets the {@code Category} of the {@code EditPersonDescriptor} that we are building.
      */
     public EditPersonDescriptorBuilder withCategory(String category) {
-        descriptor.setCategory(new Category(category));
+        descriptor.setCategory(Category.of(category));
         return this;
     }
 
@@ -57,7 +57,7 @@ public class PersonBuilder {
         address = personToCopy.getAddress();
         tags = new HashSet<>(personToCopy.getTags());
         category = personToCopy.getCategory();
-        notes = personToCopy.getNotes();
+        notes = new ArrayList<>(personToCopy.getNotes());
     }
 
     /**
@@ -104,7 +104,7 @@ public class PersonBuilder {
      * Sets the {@code Category} of the {@code Person} that we are building.
      */
     public PersonBuilder withCategory(String category) {
-        this.category = Optional.of(new Category(category));
+        this.category = Optional.of(Category.of(category));
         return this;
     }
 